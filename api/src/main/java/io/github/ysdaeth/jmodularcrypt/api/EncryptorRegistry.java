@@ -0,0 +1,54 @@
+package io.github.ysdaeth.jmodularcrypt.api;
+
+import java.security.Key;
+import java.security.KeyException;
+import java.util.Optional;
+
+/**
+ * Registry of encryptors, that routes Modular Crypt Format values to the encryptor that produced them.
+ * Encryptor is found by {@link Encryptor#identifier()} and {@link Encryptor#version()}, which are read
+ * from the first two sections of the value, so values of different algorithms can be stored together,
+ * and decrypted without trying each encryptor. Registry is immutable and thread safe
+ * when registered encryptors are thread safe.
+ * <blockquote><pre>
+ *     EncryptorRegistry registry = new EncryptorRegistry(new EncryptorAesGcm(), new EncryptorRsaOaepAesGcm());
+ *     byte[] secret = registry.decrypt(mcf, key);
+ * </pre></blockquote>
+ */
+public final class EncryptorRegistry {
+    private final IdentifierIndex<Encryptor> index;
+
+    /**
+     * Create registry of specified encryptors
+     * @param encryptors encryptors with unique identifier and version
+     * @throws IllegalArgumentException when two encryptors have the same identifier and version
+     */
+    public EncryptorRegistry(Encryptor... encryptors){
+        index = new IdentifierIndex<>(Encryptor::identifier, Encryptor::version, encryptors.clone());
+    }
+
+    /**
+     * Find encryptor that produced specified value, by reading only its identifier and version
+     * @param encrypted Modular Crypt Format value
+     * @return encryptor, or empty when no registered encryptor matches the value
+     */
+    public Optional<Encryptor> find(CharSequence encrypted){
+        return Optional.ofNullable(index.find(encrypted));
+    }
+
+    /**
+     * Decrypt value with the encryptor that produced it
+     * @param encrypted Modular Crypt Format value
+     * @param decryptionKey key to decrypt encrypted data
+     * @return decrypted secret
+     * @throws KeyException when key is invalid, missing or not recognized
+     * @throws IllegalArgumentException when no registered encryptor matches the value
+     */
+    public byte[] decrypt(String encrypted, Key decryptionKey) throws KeyException {
+        Encryptor encryptor = index.find(encrypted);
+        if(encryptor == null){
+            throw new IllegalArgumentException("There is no registered encryptor matching the value identifier and version");
+        }
+        return encryptor.decrypt(encrypted, decryptionKey);
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.ysdaeth.jmodularcrypt.api;
+
+import java.util.function.Function;
+
+/**
+ * Precomputed lookup of algorithms by identifier and version, which are the first two sections
+ * of Modular Crypt Format, for example {@code $AES-GCM$v=1$...}.
+ * Lookup reads only that sections directly from the value, without creating substrings
+ * and without throwing exceptions. Table is immutable, so it can be shared between threads.
+ * @param <T> type of algorithm
+ */
+final class IdentifierIndex<T> {
+    private static final char SEPARATOR = '$';
+
+    private final String[] identifiers;
+    private final String[] versions;
+    private final Object[] values;
+    private final int mask;
+
+    /**
+     * Create lookup of specified algorithms
+     * @param algorithms algorithms that are looked up
+     * @param identifier function that returns identifier of algorithm
+     * @param version function that returns version of algorithm
+     * @throws IllegalArgumentException when two algorithms have the same identifier and version
+     */
+    @SafeVarargs
+    IdentifierIndex(Function<T,String> identifier, Function<T,String> version, T... algorithms){
+        int capacity = Integer.highestOneBit(Math.max(algorithms.length, 1) * 4 - 1) << 1;
+        identifiers = new String[capacity];
+        versions = new String[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        for(T algorithm : algorithms){
+            String id = identifier.apply(algorithm);
+            String ver = version.apply(algorithm);
+            if(id == null || ver == null){
+                throw new IllegalArgumentException("Identifier and version must not be null: " + algorithm);
+            }
+            int slot = hash(id, 0, id.length(), ver, 0, ver.length()) & mask;
+            while(values[slot] != null){
+                if(identifiers[slot].equals(id) && versions[slot].equals(ver)){
+                    throw new IllegalArgumentException(
+                            "Algorithm with identifier '" + id + "' and version '" + ver + "' is already registered");
+                }
+                slot = (slot + 1) & mask;
+            }
+            identifiers[slot] = id;
+            versions[slot] = ver;
+            values[slot] = algorithm;
+        }
+    }
+
+    /**
+     * Find algorithm that produced specified Modular Crypt Format value
+     * @param mcf Modular Crypt Format value
+     * @return algorithm, or null when there is no algorithm matching identifier and version
+     */
+    @SuppressWarnings("unchecked")
+    T find(CharSequence mcf){
+        int length = mcf.length();
+        int idStart = length > 0 && mcf.charAt(0) == SEPARATOR ? 1 : 0;
+        int idEnd = indexOf(mcf, idStart, length);
+        int versionStart = Math.min(idEnd + 1, length);
+        int versionEnd = indexOf(mcf, versionStart, length);
+        int slot = hash(mcf, idStart, idEnd, mcf, versionStart, versionEnd) & mask;
+        while(values[slot] != null){
+            if(regionEquals(identifiers[slot], mcf, idStart, idEnd)
+                    && regionEquals(versions[slot], mcf, versionStart, versionEnd)){
+                return (T) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int indexOf(CharSequence value, int start, int end){
+        for(int i = start; i < end; i++){
+            if(value.charAt(i) == SEPARATOR) return i;
+        }
+        return end;
+    }
+
+    private static int hash(CharSequence id, int idStart, int idEnd,
+                            CharSequence version, int versionStart, int versionEnd){
+        int hash = 1;
+        for(int i = idStart; i < idEnd; i++) hash = 31 * hash + id.charAt(i);
+        hash = 31 * hash + SEPARATOR;
+        for(int i = versionStart; i < versionEnd; i++) hash = 31 * hash + version.charAt(i);
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean regionEquals(String expected, CharSequence value, int start, int end){
+        if(expected.length() != end - start) return false;
+        for(int i = 0; i < expected.length(); i++){
+            if(expected.charAt(i) != value.charAt(start + i)) return false;
+        }
+        return true;
+    }
+}
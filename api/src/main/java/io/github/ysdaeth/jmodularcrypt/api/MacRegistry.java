@@ -0,0 +1,43 @@
+package io.github.ysdaeth.jmodularcrypt.api;
+
+import java.util.Optional;
+
+/**
+ * Registry of message authenticators, that routes Modular Crypt Format signs to the authenticator
+ * that produced them. Authenticator is found by {@link Mac#identifier()} and {@link Mac#version()},
+ * which are read from the first two sections of the sign. Registry is immutable and thread safe
+ * when registered authenticators are thread safe.
+ */
+public final class MacRegistry {
+    private final IdentifierIndex<Mac> index;
+
+    /**
+     * Create registry of specified authenticators
+     * @param macs authenticators with unique identifier and version
+     * @throws IllegalArgumentException when two authenticators have the same identifier and version
+     */
+    public MacRegistry(Mac... macs){
+        index = new IdentifierIndex<>(Mac::identifier, Mac::version, macs.clone());
+    }
+
+    /**
+     * Find authenticator that produced specified sign, by reading only its identifier and version
+     * @param sign Modular Crypt Format sign
+     * @return authenticator, or empty when no registered authenticator matches the sign
+     */
+    public Optional<Mac> find(CharSequence sign){
+        return Optional.ofNullable(index.find(sign));
+    }
+
+    /**
+     * Verify sign with the authenticator that produced it
+     * @param sign Modular Crypt Format sign
+     * @param message message to verify
+     * @return true if sign matches message, false when it does not match or no registered
+     * authenticator matches the sign
+     */
+    public boolean verify(String sign, byte[] message){
+        Mac mac = index.find(sign);
+        return mac != null && mac.verify(sign, message);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.ysdaeth.jmodularcrypt.benchmark;
+
+import io.github.ysdaeth.jmodularcrypt.core.converter.Base64Codec;
+import io.github.ysdaeth.jmodularcrypt.core.converter.HexCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Base64} and {@link HexFormat}, which allocate intermediate arrays and strings,
+ * with {@link Base64Codec} and {@link HexCodec} writing into reused output and buffers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({"32", "4096"})
+    private int length;
+
+    private byte[] bytes;
+    private byte[] decoded;
+    private String base64;
+    private String hex;
+    private final StringBuilder target = new StringBuilder();
+
+    @Setup
+    public void setup(){
+        bytes = new byte[length];
+        new Random(1).nextBytes(bytes);
+        decoded = new byte[length];
+        base64 = Base64.getEncoder().encodeToString(bytes);
+        hex = HexFormat.of().formatHex(bytes);
+    }
+
+    @Benchmark
+    public String base64EncodeJdk(){
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    @Benchmark
+    public StringBuilder base64EncodeCodec(){
+        target.setLength(0);
+        Base64Codec.encode(bytes, target);
+        return target;
+    }
+
+    @Benchmark
+    public byte[] base64DecodeJdk(){
+        return Base64.getDecoder().decode(base64);
+    }
+
+    @Benchmark
+    public byte[] base64DecodeCodec(){
+        Base64Codec.decode(base64, 0, base64.length(), decoded, 0);
+        return decoded;
+    }
+
+    @Benchmark
+    public String hexEncodeJdk(){
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    @Benchmark
+    public StringBuilder hexEncodeCodec(){
+        target.setLength(0);
+        HexCodec.encode(bytes, target);
+        return target;
+    }
+
+    @Benchmark
+    public byte[] hexDecodeJdk(){
+        return HexFormat.of().parseHex(hex);
+    }
+
+    @Benchmark
+    public byte[] hexDecodeCodec(){
+        HexCodec.decode(hex, 0, hex.length(), decoded, 0);
+        return decoded;
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.ysdaeth.jmodularcrypt.benchmark;
+
+import io.github.ysdaeth.jmodularcrypt.core.converter.BasicConverter;
+import io.github.ysdaeth.jmodularcrypt.core.converter.Converter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares converting modules values with registry lookup for every value
+ * {@link Converter#convert(Object, Class)}, and with functions resolved once per module type
+ * {@link Converter#resolve(Class, Class)}, which are used by serializer conversion plans.
+ * Lookup benchmarks use converter that is not frozen, so values are looked up in the {@link java.util.HashMap}
+ * registry with a new {@code TypePair} key, the same as serializer did for every module value before plans.
+ * Run with {@code -prof gc} to compare allocation per value too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private final Converter converter = new BasicConverter().freeze();
+    private final Converter lookupConverter = new BasicConverter();
+    private final Class<?>[] types = {String.class, int.class, byte[].class};
+    private final Object[] values = {"AES-GCM", 1, new byte[32]};
+    private String[] texts;
+
+    private Function<Object,String>[] toText;
+    private Function<String,Object>[] fromText;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup(){
+        toText = new Function[types.length];
+        fromText = new Function[types.length];
+        texts = new String[types.length];
+        for(int i = 0; i < types.length; i++){
+            Class<Object> type = (Class<Object>) types[i];
+            toText[i] = converter.resolve(type, String.class);
+            fromText[i] = converter.resolve(String.class, type);
+            texts[i] = toText[i].apply(values[i]);
+        }
+    }
+
+    @Benchmark
+    public void toTextLookup(Blackhole blackhole){
+        for(Object value : values){
+            blackhole.consume(lookupConverter.convert(value, String.class));
+        }
+    }
+
+    @Benchmark
+    public void toTextPlan(Blackhole blackhole){
+        for(int i = 0; i < values.length; i++){
+            blackhole.consume(toText[i].apply(values[i]));
+        }
+    }
+
+    @Benchmark
+    public void fromTextLookup(Blackhole blackhole){
+        for(int i = 0; i < texts.length; i++){
+            blackhole.consume(lookupConverter.convert(texts[i], types[i]));
+        }
+    }
+
+    @Benchmark
+    public void fromTextPlan(Blackhole blackhole){
+        for(int i = 0; i < texts.length; i++){
+            blackhole.consume(fromText[i].apply(texts[i]));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.ysdaeth.jmodularcrypt.benchmark;
+
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.GcmNonceSequence;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of 96 bit GCM nonce generation, random from shared DRBG compared to counter based
+ * {@link GcmNonceSequence}. Run with {@code -t} to compare across the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GcmNonceBenchmark {
+
+    private RandomSource random;
+    private GcmNonceSequence nonces;
+
+    @Setup
+    public void setup(){
+        random = RandomSource.of(RandomSource.Mode.SHARED);
+        nonces = new GcmNonceSequence();
+    }
+
+    @Benchmark
+    public byte[] random(){
+        byte[] nonce = new byte[GcmNonceSequence.NONCE_LENGTH];
+        random.nextBytes(nonce);
+        return nonce;
+    }
+
+    @Benchmark
+    public byte[] counter(){
+        byte[] nonce = new byte[GcmNonceSequence.NONCE_LENGTH];
+        nonces.next(nonce);
+        return nonce;
+    }
+}
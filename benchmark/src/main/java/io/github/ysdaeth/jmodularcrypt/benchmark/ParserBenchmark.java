@@ -0,0 +1,84 @@
+package io.github.ysdaeth.jmodularcrypt.benchmark;
+
+import io.github.ysdaeth.jmodularcrypt.core.parser.McfParametersParser;
+import io.github.ysdaeth.jmodularcrypt.core.parser.McfParser;
+import io.github.ysdaeth.jmodularcrypt.core.parser.Parser;
+import io.github.ysdaeth.jmodularcrypt.core.parser.Section;
+import io.github.ysdaeth.jmodularcrypt.core.parser.SectionView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and composing of Modular Crypt Format strings.
+ * <ul>
+ *     <li>HMAC - short string with hexadecimal 512bit signature</li>
+ *     <li>RSA_AES - long string with RSA 4096 encrypted key and 4KiB encrypted data</li>
+ *     <li>PARAMETERS - parameters section of AES GCM output</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"HMAC", "RSA_AES", "PARAMETERS"})
+    private String format;
+
+    private Parser parser;
+    private String composed;
+    private Section[] sections;
+
+    @Setup
+    public void setup(){
+        Base64.Encoder base64 = Base64.getEncoder().withoutPadding();
+        switch (format){
+            case "HMAC" -> {
+                parser = new McfParser();
+                composed = "$HmacSHA512$v=1$" + HexFormat.of().formatHex(new byte[64]);
+            }
+            case "RSA_AES" -> {
+                parser = new McfParser();
+                composed = "$RSA-OAEP-AES-GCM$v=1$iv=" + base64.encodeToString(new byte[12])
+                        + "$" + base64.encodeToString(new byte[512])
+                        + "$" + base64.encodeToString(new byte[4096]);
+            }
+            case "PARAMETERS" -> {
+                parser = new McfParametersParser();
+                composed = "iv=" + base64.encodeToString(new byte[12]) + ",t=3,m=65536";
+            }
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        sections = parser.parse(composed);
+    }
+
+    @Benchmark
+    public Section[] parse(){
+        return parser.parse(composed);
+    }
+
+    @Benchmark
+    public SectionView[] parseViews(){
+        return parser.parseViews(composed);
+    }
+
+    @Benchmark
+    public String compose(){
+        return parser.compose(sections);
+    }
+}
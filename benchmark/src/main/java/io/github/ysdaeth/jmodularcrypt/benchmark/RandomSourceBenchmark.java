@@ -0,0 +1,61 @@
+package io.github.ysdaeth.jmodularcrypt.benchmark;
+
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.RandomSource;
+import io.github.ysdaeth.jmodularcrypt.impl.encryptor.EncryptorAesGcm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.KeyException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of initial vector generation and AES GCM encryption with a new {@link java.security.SecureRandom}
+ * per operation, DRBG shared by all threads, and DRBG per thread. Run with {@code -t 1}, {@code -t 8}
+ * and {@code -t 64} to compare modes across the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomSourceBenchmark {
+
+    @Param({"NONE", "SHARED", "THREAD_LOCAL"})
+    private RandomSource.Mode mode;
+
+    private RandomSource random;
+    private EncryptorAesGcm encryptor;
+    private SecretKey secretKey;
+    private final byte[] secret = new byte[64];
+
+    @Setup
+    public void setup(){
+        random = RandomSource.of(mode);
+        encryptor = new EncryptorAesGcm(random);
+        secretKey = new SecretKeySpec(new byte[32], "AES");
+    }
+
+    @Benchmark
+    public byte[] iv(){
+        byte[] iv = new byte[12];
+        random.nextBytes(iv);
+        return iv;
+    }
+
+    @Benchmark
+    public String encrypt() throws KeyException {
+        return encryptor.encrypt(secret, secretKey);
+    }
+}
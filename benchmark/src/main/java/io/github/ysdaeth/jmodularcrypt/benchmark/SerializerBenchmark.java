@@ -0,0 +1,92 @@
+package io.github.ysdaeth.jmodularcrypt.benchmark;
+
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.Serializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.TypedSerializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerFactory;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and deserialization of a typical encryptor model, through untyped
+ * {@link Serializer} and typed {@link TypedSerializer} handle. Serialization into a reused
+ * {@link StringBuilder} shows the cost without allocating output strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+
+    private final Serializer serializer = SerializerFactory.getInstance(SerializerType.MCF_BASE64);
+    private final TypedSerializer<Model> typed = serializer.forType(Model.class);
+    private Model model;
+    private String serialized;
+    private final StringBuilder target = new StringBuilder(256);
+
+    @Setup
+    public void setup(){
+        model = new Model("AES-GCM", "v=1", "iv=AAAAAAAAAAAAAAAA", new byte[64]);
+        serialized = serializer.serialize(model);
+    }
+
+    @Benchmark
+    public String serialize(){
+        return serializer.serialize(model);
+    }
+
+    @Benchmark
+    public String serializeTyped(){
+        return typed.serialize(model);
+    }
+
+    @Benchmark
+    public StringBuilder serializeTypedInto(){
+        target.setLength(0);
+        typed.serialize(model, target);
+        return target;
+    }
+
+    @Benchmark
+    public Model deserialize(){
+        return serializer.deserialize(serialized, Model.class);
+    }
+
+    @Benchmark
+    public Model deserializeTyped(){
+        return typed.deserialize(serialized);
+    }
+
+    public static final class Model {
+        @Module(order = 0)
+        private final String identifier;
+        @Module(order = 1)
+        private final String version;
+        @Module(order = 2)
+        private final String params;
+        @Module(order = 3)
+        private final byte[] encrypted;
+
+        @SerializerCreator
+        public Model(String identifier, String version, String params, byte[] encrypted){
+            this.identifier = identifier;
+            this.version = version;
+            this.params = params;
+            this.encrypted = encrypted;
+        }
+    }
+}
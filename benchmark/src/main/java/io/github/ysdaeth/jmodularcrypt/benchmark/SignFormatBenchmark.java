@@ -0,0 +1,83 @@
+package io.github.ysdaeth.jmodularcrypt.benchmark;
+
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.TypedSerializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerFactory;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and deserialization of HMac signs in hexadecimal, base64 and radix-64 format,
+ * for signs of HMac SHA-256, SHA-384 and SHA-512. Length of serialized sign of each format
+ * is asserted by {@code SerializerFactoryTest} of the core module.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignFormatBenchmark {
+
+    @Param({"MCF_HEXADECIMAL", "MCF_BASE64", "MCF_RADIX64"})
+    private SerializerType type;
+
+    @Param({"32", "48", "64"})
+    private int length;
+
+    private TypedSerializer<Sign> serializer;
+    private Sign sign;
+    private String serialized;
+    private final StringBuilder target = new StringBuilder(256);
+
+    @Setup
+    public void setup(){
+        byte[] bytes = new byte[length];
+        new Random(1).nextBytes(bytes);
+        serializer = SerializerFactory.getInstance(type).forType(Sign.class);
+        sign = new Sign("HMAC-SHA" + length * 8, "v=1", bytes);
+        serialized = serializer.serialize(sign);
+    }
+
+    @Benchmark
+    public StringBuilder serialize(){
+        target.setLength(0);
+        serializer.serialize(sign, target);
+        return target;
+    }
+
+    @Benchmark
+    public Sign deserialize(){
+        return serializer.deserialize(serialized);
+    }
+
+    public static final class Sign {
+        @Module(order = 0)
+        private final String identifier;
+        @Module(order = 1)
+        private final String version;
+        @Module(order = 2)
+        private final byte[] sign;
+
+        @SerializerCreator
+        public Sign(String identifier, String version, byte[] sign){
+            this.identifier = identifier;
+            this.version = version;
+            this.sign = sign;
+        }
+    }
+}
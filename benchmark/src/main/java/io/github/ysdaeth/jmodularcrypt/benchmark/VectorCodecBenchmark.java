@@ -0,0 +1,103 @@
+package io.github.ysdaeth.jmodularcrypt.benchmark;
+
+import io.github.ysdaeth.jmodularcrypt.core.converter.Base64Codec;
+import io.github.ysdaeth.jmodularcrypt.core.converter.HexCodec;
+import io.github.ysdaeth.jmodularcrypt.vector.VectorCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scalar {@link Base64Codec} and {@link HexCodec} with {@link VectorCodecs}, writing into reused buffers.
+ * Payloads shorter than {@link VectorCodecs#THRESHOLD} are converted with scalar codecs by both,
+ * run with {@code -jvmArgsAppend "--add-modules=jdk.incubator.vector -Djmodularcrypt.vector.threshold=0"}
+ * to measure vector kernels of small payloads, because command line JVM arguments replace the fork arguments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class VectorCodecBenchmark {
+
+    @Param({"16", "32", "48", "64", "96", "128", "256", "1024", "65536"})
+    private int length;
+
+    private byte[] bytes;
+    private byte[] decoded;
+    private char[] base64Chars;
+    private char[] hexChars;
+    private String base64;
+    private String hex;
+
+    @Setup
+    public void setup(){
+        bytes = new byte[length];
+        new Random(1).nextBytes(bytes);
+        decoded = new byte[length];
+        base64Chars = new char[Base64Codec.encodedLength(length)];
+        hexChars = new char[HexCodec.encodedLength(length)];
+        base64 = Base64Codec.encode(bytes);
+        hex = HexCodec.encode(bytes);
+    }
+
+    @Benchmark
+    public char[] base64EncodeScalar(){
+        Base64Codec.encode(bytes, 0, length, base64Chars, 0);
+        return base64Chars;
+    }
+
+    @Benchmark
+    public char[] base64EncodeVector(){
+        VectorCodecs.encodeBase64(bytes, 0, length, base64Chars, 0);
+        return base64Chars;
+    }
+
+    @Benchmark
+    public byte[] base64DecodeScalar(){
+        Base64Codec.decode(base64, 0, base64.length(), decoded, 0);
+        return decoded;
+    }
+
+    @Benchmark
+    public byte[] base64DecodeVector(){
+        VectorCodecs.decodeBase64(base64, 0, base64.length(), decoded, 0);
+        return decoded;
+    }
+
+    @Benchmark
+    public char[] hexEncodeScalar(){
+        HexCodec.encode(bytes, 0, length, hexChars, 0);
+        return hexChars;
+    }
+
+    @Benchmark
+    public char[] hexEncodeVector(){
+        VectorCodecs.encodeHex(bytes, 0, length, hexChars, 0);
+        return hexChars;
+    }
+
+    @Benchmark
+    public byte[] hexDecodeScalar(){
+        HexCodec.decode(hex, 0, hex.length(), decoded, 0);
+        return decoded;
+    }
+
+    @Benchmark
+    public byte[] hexDecodeVector(){
+        VectorCodecs.decodeHex(hex, 0, hex.length(), decoded, 0);
+        return decoded;
+    }
+}
@@ -19,4 +19,13 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Module {
     int order();
+
+    /**
+     * Constant string representation of the module, which is the same for every object of the class,
+     * such as algorithm identifier or version. Constant is written instead of converting the field value,
+     * and serialized value is rejected when the module does not match the constant.
+     * Constant module field must be a {@link String}. Empty value means that module is not constant.
+     * @return constant string representation of the module
+     */
+    String constant() default "";
 }
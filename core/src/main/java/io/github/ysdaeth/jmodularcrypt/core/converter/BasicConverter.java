@@ -1,5 +1,9 @@
 package io.github.ysdaeth.jmodularcrypt.core.converter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -13,11 +17,18 @@ import java.util.Objects;
  * <ul>
  *     <li>String</li>
  *     <li>Integer, int</li>
+ *     <li>Long, long</li>
  *     <li>Character, char</li>
  *     <li>Float, float</li>
  *     <li>Byte[], byte[]</li>
+ *     <li>{@link ByteBuffer}, remaining bytes are converted and buffer position is not changed</li>
+ *     <li>{@link ByteView}</li>
  *     <li>Boolean, boolean</li>
  * </ul>
+ * Primitive int, long, char and boolean are also registered as method handles, which convert them
+ * without boxing.
+ * Bytes are encoded with {@link Base64Codec}. Byte[], {@link ByteBuffer} and {@link ByteView}
+ * are encoded and decoded directly, without intermediate primitive bytes array.
  */
 public class BasicConverter extends Converter {
 
@@ -25,14 +36,96 @@ public class BasicConverter extends Converter {
         register(String.class,String.class, Objects::toString, Object::toString);
         register(Integer.class,String.class, Object::toString, Integer::valueOf);
         register(int.class,String.class, Object::toString, Integer::valueOf);
+        register(Long.class,String.class, Object::toString, Long::valueOf);
+        register(long.class,String.class, Object::toString, Long::valueOf);
         register(Character.class,String.class, Objects::toString, ch->ch.charAt(0));
         register(char.class,String.class, Objects::toString, ch->ch.charAt(0));
         register(Float.class,String.class, Objects::toString, Float::parseFloat);
         register(float.class,String.class, Objects::toString, Float::parseFloat);
-        register(byte[].class,String.class, ConverterUtils::bytesToBase64, ConverterUtils::base64ToBytes);
+        register(byte[].class,String.class, Base64Codec::encode, base64 -> Base64Codec.decode(base64, 0, base64.length()));
         register(Byte[].class,String.class, BasicConverter::bytesToBase64, BasicConverter::base64ToBytes);
+        register(ByteBuffer.class,String.class, BasicConverter::bufferToBase64, BasicConverter::base64ToBuffer);
+        register(ByteView.class,String.class, BasicConverter::viewToBase64, BasicConverter::base64ToView);
         register(boolean.class,String.class, Objects::toString,s-> s.equals("true"));
         register(Boolean.class,String.class, Objects::toString,s-> s.equals("true"));
+        registerEncoder(String.class, (value, target) -> target.append(value));
+        registerEncoder(Integer.class, (value, target) -> target.append(value.intValue()));
+        registerEncoder(int.class, (value, target) -> target.append(value.intValue()));
+        registerEncoder(Character.class, (value, target) -> target.append(value.charValue()));
+        registerEncoder(char.class, (value, target) -> target.append(value.charValue()));
+        registerEncoder(boolean.class, (value, target) -> target.append(value.booleanValue()));
+        registerEncoder(Boolean.class, (value, target) -> target.append(value.booleanValue()));
+        registerEncoder(byte[].class, Base64Codec::encode);
+        registerEncoder(Byte[].class, ConverterUtils::bytesToBase64);
+        registerEncoder(ByteBuffer.class, ConverterUtils::bytesToBase64);
+        registerEncoder(ByteView.class, (value, target) -> Base64Codec.encode(
+                value.array(), value.offset(), value.length(), target));
+        registerSinkEncoder(String.class, (value, target) -> target.append(value));
+        registerSinkEncoder(byte[].class, (value, target) -> Base64Codec.encode(value, 0, value.length, target));
+        registerSinkEncoder(ByteView.class, (value, target) -> Base64Codec.encode(
+                value.array(), value.offset(), value.length(), target));
+        registerDecoder(byte[].class, Base64Codec::decode);
+        registerDecoder(Byte[].class, ConverterUtils::base64ToObjectBytes);
+        registerDecoder(ByteBuffer.class, (s, start, end) -> ByteBuffer.wrap(Base64Codec.decode(s, start, end)));
+        registerDecoder(ByteView.class, (s, start, end) -> ByteView.of(Base64Codec.decode(s, start, end)));
+        registerDecoder(int.class, (s, start, end) -> Integer.parseInt(s, start, end, 10));
+        registerDecoder(Integer.class, (s, start, end) -> Integer.parseInt(s, start, end, 10));
+        registerEncoder(Long.class, (value, target) -> target.append(value.longValue()));
+        registerDecoder(Long.class, (s, start, end) -> Long.parseLong(s, start, end, 10));
+        registerPrimitive(int.class, appender(int.class), parser("parseInt", int.class));
+        registerPrimitive(long.class, appender(long.class), parser("parseLong", long.class));
+        registerPrimitive(char.class, appender(char.class), parser("parseChar", char.class));
+        registerPrimitive(boolean.class, appender(boolean.class), parser("parseBoolean", boolean.class));
+    }
+
+    /**
+     * Return handle of {@link StringBuilder} append method for primitive type, with
+     * {@code (type, StringBuilder)void} type
+     * @param type primitive type
+     * @return encoder handle
+     */
+    private static MethodHandle appender(Class<?> type){
+        try{
+            MethodHandle append = MethodHandles.publicLookup().findVirtual(
+                    StringBuilder.class, "append", MethodType.methodType(StringBuilder.class, type));
+            return MethodHandles.permuteArguments(
+                    append.asType(MethodType.methodType(void.class, StringBuilder.class, type)),
+                    MethodType.methodType(void.class, type, StringBuilder.class), 1, 0);
+        }catch (ReflectiveOperationException e){
+            throw new IllegalStateException("StringBuilder does not append " + type, e);
+        }
+    }
+
+    /**
+     * Return handle of this class static method decoding primitive from range of characters
+     * @param name method name
+     * @param type primitive type
+     * @return decoder handle
+     */
+    private static MethodHandle parser(String name, Class<?> type){
+        try{
+            return MethodHandles.lookup().findStatic(BasicConverter.class, name,
+                    MethodType.methodType(type, CharSequence.class, int.class, int.class));
+        }catch (ReflectiveOperationException e){
+            throw new IllegalStateException("Missing primitive decoder " + name, e);
+        }
+    }
+
+    private static int parseInt(CharSequence source, int start, int end){
+        return Integer.parseInt(source, start, end, 10);
+    }
+
+    private static long parseLong(CharSequence source, int start, int end){
+        return Long.parseLong(source, start, end, 10);
+    }
+
+    private static char parseChar(CharSequence source, int start, int end){
+        return source.charAt(start);
+    }
+
+    private static boolean parseBoolean(CharSequence source, int start, int end){
+        return end - start == 4 && source.charAt(start) == 't' && source.charAt(start + 1) == 'r'
+                && source.charAt(start + 2) == 'u' && source.charAt(start + 3) == 'e';
     }
 
     /**
@@ -41,8 +134,7 @@ public class BasicConverter extends Converter {
      * @return byte array
      */
     private static Byte[] base64ToBytes(String base64){
-        byte[] bytes = ConverterUtils.base64ToBytes(base64);
-        return ConverterUtils.toObjectBytes(bytes);
+        return ConverterUtils.base64ToObjectBytes(base64, 0, base64.length());
     }
 
     /**
@@ -51,7 +143,48 @@ public class BasicConverter extends Converter {
      * @return base64 encoded bytes
      */
     private static String bytesToBase64(Byte[] bytes){
-        byte[] primitiveBytes = ConverterUtils.toPrimitiveBytes(bytes);
-        return ConverterUtils.bytesToBase64(primitiveBytes);
+        StringBuilder base64 = new StringBuilder();
+        ConverterUtils.bytesToBase64(bytes, base64);
+        return base64.toString();
+    }
+
+    /**
+     * Convert remaining bytes of the buffer to base64 format, without changing buffer position
+     * @param buffer bytes buffer
+     * @return base64 encoded bytes
+     */
+    private static String bufferToBase64(ByteBuffer buffer){
+        StringBuilder base64 = new StringBuilder();
+        ConverterUtils.bytesToBase64(buffer, base64);
+        return base64.toString();
+    }
+
+    /**
+     * Convert base64 encoded bytes to buffer
+     * @param base64 base64 encoded bytes
+     * @return buffer which wraps decoded bytes
+     */
+    private static ByteBuffer base64ToBuffer(String base64){
+        return ByteBuffer.wrap(Base64Codec.decode(base64, 0, base64.length()));
+    }
+
+    /**
+     * Convert viewed bytes to base64 format
+     * @param view bytes view
+     * @return base64 encoded bytes
+     */
+    private static String viewToBase64(ByteView view){
+        char[] base64 = new char[Base64Codec.encodedLength(view.length())];
+        Base64Codec.encode(view.array(), view.offset(), view.length(), base64, 0);
+        return new String(base64);
+    }
+
+    /**
+     * Convert base64 encoded bytes to view
+     * @param base64 base64 encoded bytes
+     * @return view of decoded bytes
+     */
+    private static ByteView base64ToView(String base64){
+        return ByteView.of(Base64Codec.decode(base64, 0, base64.length()));
     }
 }
@@ -0,0 +1,159 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converter for binary format, used with {@link io.github.ysdaeth.jmodularcrypt.core.parser.BinaryParser}.
+ * Bytes are written raw, each byte as one ISO-8859-1 character, so no text encoding is involved.
+ * Strings are written as they are and must contain only US-ASCII characters, numbers and other basic types
+ * are written in the same text representation as with {@link BasicConverter}.
+ */
+public class BinaryConverter extends BasicConverter {
+
+    /**
+     * Create converter for binary format data types.
+     * Bytes are written as characters of the same value, so lengths of bytes and strings are known before
+     * they are written
+     */
+    public BinaryConverter(){
+        register(String.class, String.class, BinaryConverter::requireAscii, BinaryConverter::requireAscii);
+        register(byte[].class, String.class, bytes -> new String(bytes, StandardCharsets.ISO_8859_1),
+                chars -> toBytes(chars, 0, chars.length()));
+        register(Byte[].class, String.class, BinaryConverter::objectBytesToChars,
+                chars -> toObjectBytes(chars, 0, chars.length()));
+        register(ByteBuffer.class, String.class, BinaryConverter::bufferToChars,
+                chars -> ByteBuffer.wrap(toBytes(chars, 0, chars.length())));
+        register(ByteView.class, String.class,
+                view -> new String(view.array(), view.offset(), view.length(), StandardCharsets.ISO_8859_1),
+                chars -> ByteView.of(toBytes(chars, 0, chars.length())));
+        registerEncoder(String.class, (value, target) -> target.append(requireAscii(value)));
+        registerEncoder(byte[].class, (value, target) -> appendBytes(value, 0, value.length, target));
+        registerEncoder(Byte[].class, BinaryConverter::appendObjectBytes);
+        registerEncoder(ByteBuffer.class, BinaryConverter::appendBuffer);
+        registerEncoder(ByteView.class, (value, target) -> appendBytes(
+                value.array(), value.offset(), value.length(), target));
+        registerSinkEncoder(String.class, (value, target) -> target.append(requireAscii(value)));
+        registerSinkEncoder(byte[].class, (value, target) -> writeBytes(value, 0, value.length, target));
+        registerSinkEncoder(ByteView.class, (value, target) -> writeBytes(
+                value.array(), value.offset(), value.length(), target));
+        registerDecoder(String.class, (s, start, end) -> requireAscii(s.subSequence(start, end).toString()));
+        registerDecoder(byte[].class, BinaryConverter::toBytes);
+        registerDecoder(Byte[].class, BinaryConverter::toObjectBytes);
+        registerDecoder(ByteBuffer.class, (s, start, end) -> ByteBuffer.wrap(toBytes(s, start, end)));
+        registerDecoder(ByteView.class, (s, start, end) -> ByteView.of(toBytes(s, start, end)));
+        registerLength(String.class, String::length);
+        registerLength(byte[].class, bytes -> bytes.length);
+        registerLength(Byte[].class, bytes -> bytes.length);
+        registerLength(ByteBuffer.class, ByteBuffer::remaining);
+        registerLength(ByteView.class, ByteView::length);
+    }
+
+    /**
+     * Validate that string contains only US-ASCII characters
+     * @param value string value
+     * @return the same value
+     * @throws IllegalArgumentException when string contains non ASCII character
+     */
+    private static String requireAscii(String value){
+        for(int i = 0; i < value.length(); i++){
+            if(value.charAt(i) > 0x7f){
+                throw new IllegalArgumentException("Non ASCII character at index " + i);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Append bytes as characters of the same value
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @param target output that characters are appended to
+     */
+    private static void appendBytes(byte[] bytes, int offset, int length, StringBuilder target){
+        target.ensureCapacity(target.length() + length);
+        for(int i = offset; i < offset + length; i++){
+            target.append((char) (bytes[i] & 0xff));
+        }
+    }
+
+    /**
+     * Write bytes to the sink as characters of the same value
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @param target output that characters are written to
+     */
+    private static void writeBytes(byte[] bytes, int offset, int length, ByteSink target){
+        for(int i = offset; i < offset + length; i++){
+            target.append((char) (bytes[i] & 0xff));
+        }
+    }
+
+    private static void appendObjectBytes(Byte[] bytes, StringBuilder target){
+        target.ensureCapacity(target.length() + bytes.length);
+        for(Byte b : bytes){
+            target.append((char) (b & 0xff));
+        }
+    }
+
+    /**
+     * Append remaining bytes of the buffer as characters, without changing buffer position
+     * @param buffer bytes buffer
+     * @param target output that characters are appended to
+     */
+    private static void appendBuffer(ByteBuffer buffer, StringBuilder target){
+        if(buffer.hasArray()){
+            appendBytes(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), target);
+            return;
+        }
+        target.ensureCapacity(target.length() + buffer.remaining());
+        for(int i = buffer.position(); i < buffer.limit(); i++){
+            target.append((char) (buffer.get(i) & 0xff));
+        }
+    }
+
+    private static String objectBytesToChars(Byte[] bytes){
+        StringBuilder chars = new StringBuilder(bytes.length);
+        appendObjectBytes(bytes, chars);
+        return chars.toString();
+    }
+
+    private static String bufferToChars(ByteBuffer buffer){
+        StringBuilder chars = new StringBuilder(buffer.remaining());
+        appendBuffer(buffer, chars);
+        return chars.toString();
+    }
+
+    /**
+     * Convert range of characters to bytes of the same value
+     * @param source text that contains bytes characters
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return bytes array
+     * @throws IllegalArgumentException when character is not a byte
+     */
+    private static byte[] toBytes(CharSequence source, int start, int end){
+        byte[] bytes = new byte[end - start];
+        for(int i = 0; i < bytes.length; i++){
+            bytes[i] = toByte(source.charAt(start + i));
+        }
+        return bytes;
+    }
+
+    private static Byte[] toObjectBytes(CharSequence source, int start, int end){
+        Byte[] bytes = new Byte[end - start];
+        for(int i = 0; i < bytes.length; i++){
+            bytes[i] = toByte(source.charAt(start + i));
+        }
+        return bytes;
+    }
+
+    private static byte toByte(char c){
+        if(c > 0xff) throw new IllegalArgumentException("Illegal byte character " + Integer.toHexString(c));
+        return (byte) c;
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Read only view of a range of bytes array. It can be used as a module type, so models can reference
+ * bytes such as ciphertext or authentication tag, without copying them to a new array.
+ * View does not copy the array, so changes of the array are visible in the view, and view
+ * must not be created over arrays that are modified later.
+ * Views are equal when they contain the same bytes.
+ */
+public final class ByteView {
+    private static final ByteView EMPTY = new ByteView(new byte[0], 0, 0);
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    private ByteView(byte[] bytes, int offset, int length){
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Create view of the whole array without copying it
+     * @param bytes viewed bytes
+     * @return view of the bytes
+     */
+    public static ByteView of(byte[] bytes){
+        return new ByteView(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Create view of range of the array without copying it
+     * @param bytes viewed bytes
+     * @param offset index of the first byte
+     * @param length number of viewed bytes
+     * @return view of the range
+     * @throws IndexOutOfBoundsException when range is out of array bounds
+     */
+    public static ByteView of(byte[] bytes, int offset, int length){
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return new ByteView(bytes, offset, length);
+    }
+
+    /**
+     * Create view of a copy of the array, that is not affected by changes of the array
+     * @param bytes copied bytes
+     * @return view of the copy
+     */
+    public static ByteView copyOf(byte[] bytes){
+        return bytes.length == 0 ? EMPTY : new ByteView(bytes.clone(), 0, bytes.length);
+    }
+
+    /**
+     * @return number of viewed bytes
+     */
+    public int length(){
+        return length;
+    }
+
+    /**
+     * @param index index of the byte in the view
+     * @return byte at specified index
+     * @throws IndexOutOfBoundsException when index is out of view bounds
+     */
+    public byte get(int index){
+        return bytes[offset + Objects.checkIndex(index, length)];
+    }
+
+    /**
+     * Create view of range of this view, without copying bytes
+     * @param from start index inclusive
+     * @param to end index exclusive
+     * @return view of the range
+     * @throws IndexOutOfBoundsException when range is out of view bounds
+     */
+    public ByteView slice(int from, int to){
+        Objects.checkFromToIndex(from, to, length);
+        return new ByteView(bytes, offset + from, to - from);
+    }
+
+    /**
+     * Copy viewed bytes to the target array
+     * @param target array that bytes are copied to
+     * @param targetOffset index of the first copied byte in the target
+     * @throws IndexOutOfBoundsException when target has not enough space
+     */
+    public void copyTo(byte[] target, int targetOffset){
+        System.arraycopy(bytes, offset, target, targetOffset, length);
+    }
+
+    /**
+     * @return new array with viewed bytes
+     */
+    public byte[] toByteArray(){
+        return Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+
+    /**
+     * @return read only buffer of viewed bytes, which position is zero
+     */
+    public ByteBuffer asByteBuffer(){
+        return ByteBuffer.wrap(bytes, offset, length).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * @return viewed array, which must not be modified
+     */
+    byte[] array(){
+        return bytes;
+    }
+
+    /**
+     * @return index of the first viewed byte in the array
+     */
+    int offset(){
+        return offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) return true;
+        if(!(o instanceof ByteView other)) return false;
+        return Arrays.equals(bytes, offset, offset + length, other.bytes, other.offset, other.offset + other.length);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for(int i = offset; i < offset + length; i++){
+            result = 31 * result + bytes[i];
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ByteView[length=" + length + "]";
+    }
+}
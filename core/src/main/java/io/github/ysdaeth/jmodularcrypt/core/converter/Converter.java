@@ -1,39 +1,345 @@
 package io.github.ysdaeth.jmodularcrypt.core.converter;
 
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * Class is designed for data types conversion mechanism and caching
  * backwards and forwards converting data types functions.
+ * Registry can be frozen with {@link Converter#freeze()}, then it becomes immutable
+ * and functions resolved with {@link Converter#resolve(Class, Class)} never change.
+ * Frozen snapshot of a converter, that leaves the converter itself open for registration,
+ * is created with {@link Converter#frozenCopy()}.
  */
 public abstract class Converter {
 
     /**
      * Map that stores functions responsible for backward and forward types conversion
      */
-    private final Map<TypePair, Function<?,?>> registry = new HashMap<>();
+    private Map<TypePair, Function<?,?>> registry = new HashMap<>();
+    /**
+     * Map that stores functions decoding types directly from a range of characters
+     */
+    private Map<Class<?>, RangeDecoder<?>> decoders = new HashMap<>();
+    /**
+     * Map that stores functions appending types string representation directly to the output
+     */
+    private Map<Class<?>, TextEncoder<?>> encoders = new HashMap<>();
+    /**
+     * Map that stores functions writing types string representation directly to the bytes output
+     */
+    private Map<Class<?>, SinkEncoder<?>> sinkEncoders = new HashMap<>();
+    /**
+     * Map that stores method handles encoding and decoding primitive types without boxing
+     */
+    private Map<Class<?>, MethodHandle[]> primitives = new HashMap<>();
+    /**
+     * Map that stores functions returning length of types string representation without encoding them
+     */
+    private Map<Class<?>, ToIntFunction<?>> lengths = new HashMap<>();
+    private boolean frozen;
+
+    /**
+     * Create converter with empty registry
+     */
+    public Converter(){}
 
     /**
-     * Register type converter that will convert between values
+     * Create frozen copy of registered functions of the source converter
+     * @param source converter that functions are copied from
+     */
+    Converter(Converter source){
+        registry = Map.copyOf(source.registry);
+        decoders = Map.copyOf(source.decoders);
+        encoders = Map.copyOf(source.encoders);
+        sinkEncoders = Map.copyOf(source.sinkEncoders);
+        primitives = Map.copyOf(source.primitives);
+        lengths = Map.copyOf(source.lengths);
+        frozen = true;
+    }
+
+    /**
+     * Register type converter that will convert between values.
+     * Previously registered range decoder, text and sink encoders and length of the type converted from and to
+     * {@link String} are removed.
      * @param from type of object with current type
      * @param to target type of object
      * @param forwardFn function that convert value from type to target type
      * @param backwardFn function that will revert conversion back to original type
      * @param <T> Source type
      * @param <R> Target type
+     * @throws IllegalStateException when converter is frozen
      */
     protected <T,R> void register(
             Class<T> from, Class<R> to,
             Function<T,R> forwardFn, Function<R,T> backwardFn){
-
+        if(frozen){
+            throw new IllegalStateException("Converter is frozen, new types cannot be registered");
+        }
         registry.put(new TypePair(from,to),forwardFn);
         registry.put(new TypePair(to,from), backwardFn);
+        if(to == String.class) {
+            decoders.remove(from);
+            encoders.remove(from);
+            sinkEncoders.remove(from);
+            primitives.remove(from);
+            lengths.remove(from);
+        }
+        if(from == String.class) {
+            decoders.remove(to);
+            encoders.remove(to);
+            sinkEncoders.remove(to);
+            primitives.remove(to);
+            lengths.remove(to);
+        }
+    }
+
+    /**
+     * Register decoder that converts range of characters to specified type, without creating
+     * substring of the range. It should produce the same result as registered
+     * function converting {@link String} to that type.
+     * @param to target type of object
+     * @param decoder function that decodes range of characters
+     * @param <R> Target type
+     * @throws IllegalStateException when converter is frozen
+     */
+    protected <R> void registerDecoder(Class<R> to, RangeDecoder<R> decoder){
+        if(frozen){
+            throw new IllegalStateException("Converter is frozen, new types cannot be registered");
+        }
+        decoders.put(to, decoder);
+    }
+
+    /**
+     * Register encoder that appends string representation of specified type directly to the output.
+     * It should produce the same result as registered function converting that type to {@link String}.
+     * Previously registered sink encoder and length of the type are removed.
+     * @param from type of encoded object
+     * @param encoder function that appends string representation
+     * @param <T> Source type
+     * @throws IllegalStateException when converter is frozen
+     */
+    protected <T> void registerEncoder(Class<T> from, TextEncoder<T> encoder){
+        if(frozen){
+            throw new IllegalStateException("Converter is frozen, new types cannot be registered");
+        }
+        encoders.put(from, encoder);
+        sinkEncoders.remove(from);
+        lengths.remove(from);
+    }
+
+    /**
+     * Register encoder that writes string representation of specified type directly to {@link ByteSink}.
+     * It should produce the same result as registered text encoder of that type.
+     * @param from type of encoded object
+     * @param encoder function that writes string representation
+     * @param <T> Source type
+     * @throws IllegalStateException when converter is frozen
+     */
+    protected <T> void registerSinkEncoder(Class<T> from, SinkEncoder<T> encoder){
+        if(frozen){
+            throw new IllegalStateException("Converter is frozen, new types cannot be registered");
+        }
+        sinkEncoders.put(from, encoder);
+    }
+
+    /**
+     * Register function that returns length of string representation of specified type, without
+     * encoding the value. It must return the number of characters appended by registered encoder,
+     * so length prefixed formats can write the length before the value.
+     * @param from type of encoded object
+     * @param length function that returns length of string representation
+     * @param <T> Source type
+     * @throws IllegalStateException when converter is frozen
+     */
+    protected <T> void registerLength(Class<T> from, ToIntFunction<T> length){
+        if(frozen){
+            throw new IllegalStateException("Converter is frozen, new types cannot be registered");
+        }
+        lengths.put(from, length);
+    }
+
+    /**
+     * Register method handles that convert primitive type to and from string representation, without
+     * boxing values. They should produce the same results as registered functions converting that type
+     * to and from {@link String}.
+     * @param type primitive type, such as {@code int.class}
+     * @param encoder handle of {@code (type, StringBuilder)void} type, that appends value to the output
+     * @param decoder handle of {@code (CharSequence, int, int)type} type, that decodes range of characters
+     * @throws IllegalStateException when converter is frozen
+     * @throws IllegalArgumentException when type is not primitive, or handles types do not match
+     */
+    protected void registerPrimitive(Class<?> type, MethodHandle encoder, MethodHandle decoder){
+        if(frozen){
+            throw new IllegalStateException("Converter is frozen, new types cannot be registered");
+        }
+        if(!type.isPrimitive() || type == void.class){
+            throw new IllegalArgumentException("Type must be primitive, but was " + type);
+        }
+        if(!encoder.type().equals(MethodType.methodType(void.class, type, StringBuilder.class))
+                || !decoder.type().equals(MethodType.methodType(type, CharSequence.class, int.class, int.class))){
+            throw new IllegalArgumentException("Encoder or decoder type does not match primitive type " + type);
+        }
+        primitives.put(type, new MethodHandle[]{encoder, decoder});
     }
 
     /**
-     * Convert specified value to target value using registered converter
+     * Make registry immutable. After this call no new type converters can be registered.
+     * Calling this method more than once has no effect.
+     * @return this converter
+     */
+    public final Converter freeze(){
+        if(!frozen){
+            registry = Map.copyOf(registry);
+            decoders = Map.copyOf(decoders);
+            encoders = Map.copyOf(encoders);
+            sinkEncoders = Map.copyOf(sinkEncoders);
+            primitives = Map.copyOf(primitives);
+            lengths = Map.copyOf(lengths);
+            frozen = true;
+        }
+        return this;
+    }
+
+    /**
+     * Return immutable copy of this converter. Copy has the same registered converters,
+     * and this converter is not modified, so new types can still be registered to it.
+     * Copy is not an instance of this converter class, so methods overridden by the class are not copied.
+     * @return frozen copy, or this converter when it is already frozen
+     */
+    public final Converter frozenCopy(){
+        return frozen ? this : new FrozenConverter(this);
+    }
+
+    /**
+     * Check if there is registered converter between specified types
+     * @param from current type
+     * @param to target type
+     * @return true if conversion is registered
+     */
+    public boolean isRegistered(Class<?> from, Class<?> to){
+        return registry.containsKey(new TypePair(from,to));
+    }
+
+    /**
+     * Return registered function that converts values of specified type to target type.
+     * Returned function is null safe, {@code null} is converted to {@code null}.
+     * Function should be resolved once and reused, rather than calling {@link Converter#convert(Object, Class)}
+     * for every value.
+     * @param from current type
+     * @param to target type
+     * @return conversion function
+     * @param <T> Current type
+     * @param <R> target Type
+     * @throws RuntimeException when there is no registered converter for specified types
+     */
+    @SuppressWarnings("unchecked")
+    public <T,R> Function<T,R> resolve(Class<T> from, Class<R> to){
+        Function<T,R> fn = (Function<T,R>) registry.get(new TypePair(from,to));
+        if(fn == null){
+            throw new RuntimeException("There is no registered type converter for "+ from + " <--> " + to);
+        }
+        return value -> value == null ? null : fn.apply(value);
+    }
+
+    /**
+     * Return registered decoder of range of characters to specified type. When there is
+     * no registered decoder, then returned decoder copies the range and converts it with registered
+     * function converting {@link String} to specified type.
+     * Returned decoder should be resolved once and reused.
+     * @param to target type
+     * @return decoder of range of characters
+     * @param <R> target Type
+     * @throws RuntimeException when there is no registered converter for specified type
+     */
+    @SuppressWarnings("unchecked")
+    public <R> RangeDecoder<R> resolveDecoder(Class<R> to){
+        RangeDecoder<R> decoder = (RangeDecoder<R>) decoders.get(to);
+        if(decoder != null) return decoder;
+        Function<String,R> fn = resolve(String.class, to);
+        return (source, start, end) -> fn.apply(source.subSequence(start, end).toString());
+    }
+
+    /**
+     * Return registered encoder appending string representation of specified type to the output.
+     * When there is no registered encoder, then returned encoder converts value with registered
+     * function converting specified type to {@link String}, and appends it.
+     * Returned encoder should be resolved once and reused.
+     * @param from type of encoded object
+     * @return encoder of specified type
+     * @param <T> Source type
+     * @throws RuntimeException when there is no registered converter for specified type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TextEncoder<T> resolveEncoder(Class<T> from){
+        TextEncoder<T> encoder = (TextEncoder<T>) encoders.get(from);
+        if(encoder != null) return encoder;
+        Function<T,String> fn = resolve(from, String.class);
+        return (value, target) -> target.append(fn.apply(value));
+    }
+
+    /**
+     * Return registered encoder writing string representation of specified type to {@link ByteSink}.
+     * When there is no registered sink encoder, then returned encoder appends value with
+     * {@link Converter#resolveEncoder(Class)} to the scratch builder of the sink, and appends the builder.
+     * Returned encoder should be resolved once and reused.
+     * @param from type of encoded object
+     * @return sink encoder of specified type
+     * @param <T> Source type
+     * @throws RuntimeException when there is no registered converter for specified type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> SinkEncoder<T> resolveSinkEncoder(Class<T> from){
+        SinkEncoder<T> encoder = (SinkEncoder<T>) sinkEncoders.get(from);
+        if(encoder != null) return encoder;
+        TextEncoder<T> textEncoder = resolveEncoder(from);
+        return (value, target) -> {
+            textEncoder.encode(value, target.scratch());
+            target.appendScratch();
+        };
+    }
+
+    /**
+     * Return registered function that returns length of string representation of specified type
+     * @param from type of encoded object
+     * @return length function, or null when length of the type is not known without encoding the value
+     * @param <T> Source type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ToIntFunction<T> findLength(Class<T> from){
+        return (ToIntFunction<T>) lengths.get(from);
+    }
+
+    /**
+     * Return registered handle appending primitive value to the output, with {@code (type, StringBuilder)void} type
+     * @param type primitive type
+     * @return encoder handle, or null when there is no registered handle for the type
+     */
+    public MethodHandle findPrimitiveEncoder(Class<?> type){
+        MethodHandle[] handles = primitives.get(type);
+        return handles == null ? null : handles[0];
+    }
+
+    /**
+     * Return registered handle decoding primitive value from range of characters,
+     * with {@code (CharSequence, int, int)type} type
+     * @param type primitive type
+     * @return decoder handle, or null when there is no registered handle for the type
+     */
+    public MethodHandle findPrimitiveDecoder(Class<?> type){
+        MethodHandle[] handles = primitives.get(type);
+        return handles == null ? null : handles[1];
+    }
+
+    /**
+     * Convert specified value to target value using registered converter.
+     * {@code null} is converted to {@code null}.
      * <p>Example</p>
      * {@code int num = convert("123", int.class) }
      * @param value value to be converted
@@ -44,6 +350,7 @@ public abstract class Converter {
      */
     @SuppressWarnings("unchecked")
     public <T,R> R convert(T value, Class<R> target){
+        if(value == null) return null;
         var forwardFn = registry.get(new TypePair(value.getClass(),target));
         if(forwardFn == null){
             String variant = value.getClass() + " <--> " + target;
@@ -54,4 +361,12 @@ public abstract class Converter {
         return fn.apply(value);
     }
 
+    /**
+     * Immutable copy of registered functions of a converter, created by {@link Converter#frozenCopy()}
+     */
+    private static final class FrozenConverter extends Converter {
+        FrozenConverter(Converter source){
+            super(source);
+        }
+    }
 }
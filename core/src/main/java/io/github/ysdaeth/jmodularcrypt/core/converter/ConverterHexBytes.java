@@ -1,8 +1,10 @@
 package io.github.ysdaeth.jmodularcrypt.core.converter;
 
+import java.nio.ByteBuffer;
+
 /**
  * Converter for most common Modular Crypt Format data types.
- * Encodes bytes to hexadecimal format
+ * Encodes bytes to hexadecimal format with {@link HexCodec}
  */
 public class ConverterHexBytes extends BasicConverter {
 
@@ -12,8 +14,24 @@ public class ConverterHexBytes extends BasicConverter {
      * Bytes are encoded to hexadecimal format
      */
     public ConverterHexBytes(){
-        register(byte[].class, String.class, ConverterUtils::bytesToHexFormat, ConverterUtils::hexFormatToBytes);
+        register(byte[].class, String.class, HexCodec::encode, hex -> HexCodec.decode(hex, 0, hex.length()));
         register(Byte[].class, String.class, ConverterHexBytes::objectBytesToHex, ConverterHexBytes::hexToObjectBytes);
+        register(ByteBuffer.class, String.class, ConverterHexBytes::bufferToHex,
+                hex -> ByteBuffer.wrap(HexCodec.decode(hex, 0, hex.length())));
+        register(ByteView.class, String.class, ConverterHexBytes::viewToHex,
+                hex -> ByteView.of(HexCodec.decode(hex, 0, hex.length())));
+        registerEncoder(byte[].class, HexCodec::encode);
+        registerEncoder(Byte[].class, ConverterUtils::bytesToHexFormat);
+        registerEncoder(ByteBuffer.class, ConverterUtils::bytesToHexFormat);
+        registerEncoder(ByteView.class, (value, target) -> HexCodec.encode(
+                value.array(), value.offset(), value.length(), target));
+        registerSinkEncoder(byte[].class, (value, target) -> HexCodec.encode(value, 0, value.length, target));
+        registerSinkEncoder(ByteView.class, (value, target) -> HexCodec.encode(
+                value.array(), value.offset(), value.length(), target));
+        registerDecoder(byte[].class, HexCodec::decode);
+        registerDecoder(Byte[].class, ConverterUtils::hexFormatToObjectBytes);
+        registerDecoder(ByteBuffer.class, (s, start, end) -> ByteBuffer.wrap(HexCodec.decode(s, start, end)));
+        registerDecoder(ByteView.class, (s, start, end) -> ByteView.of(HexCodec.decode(s, start, end)));
     }
 
     /**
@@ -22,8 +40,9 @@ public class ConverterHexBytes extends BasicConverter {
      * @return hexadecimal format of specified bytes
      */
     private static String objectBytesToHex(Byte[] bytes){
-        byte[] bs = ConverterUtils.toPrimitiveBytes(bytes);
-        return ConverterUtils.bytesToHexFormat(bs);
+        StringBuilder hex = new StringBuilder();
+        ConverterUtils.bytesToHexFormat(bytes, hex);
+        return hex.toString();
     }
 
     /**
@@ -32,7 +51,28 @@ public class ConverterHexBytes extends BasicConverter {
      * @return bytes array
      */
     private static Byte[] hexToObjectBytes(String hexFormat){
-        byte[] bytes = ConverterUtils.hexFormatToBytes(hexFormat);
-        return ConverterUtils.toObjectBytes(bytes);
+        return ConverterUtils.hexFormatToObjectBytes(hexFormat, 0, hexFormat.length());
+    }
+
+    /**
+     * Convert remaining bytes of the buffer to hexadecimal format, without changing buffer position
+     * @param buffer bytes buffer
+     * @return hexadecimal format of remaining bytes
+     */
+    private static String bufferToHex(ByteBuffer buffer){
+        StringBuilder hex = new StringBuilder();
+        ConverterUtils.bytesToHexFormat(buffer, hex);
+        return hex.toString();
+    }
+
+    /**
+     * Convert viewed bytes to hexadecimal format
+     * @param view bytes view
+     * @return hexadecimal format of viewed bytes
+     */
+    private static String viewToHex(ByteView view){
+        char[] hex = new char[HexCodec.encodedLength(view.length())];
+        HexCodec.encode(view.array(), view.offset(), view.length(), hex, 0);
+        return new String(hex);
     }
 }
@@ -0,0 +1,70 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converter for most common Modular Crypt Format data types.
+ * Encodes bytes to unpadded radix-64 format of classic crypt hashes with {@link Radix64Codec}
+ */
+public class ConverterRadix64Bytes extends BasicConverter {
+
+    /**
+     * Create converter for Modular Crypt Format data types.
+     * Bytes are encoded to unpadded radix-64 format
+     */
+    public ConverterRadix64Bytes(){
+        register(byte[].class, String.class, Radix64Codec::encode,
+                radix64 -> Radix64Codec.decode(radix64, 0, radix64.length()));
+        register(Byte[].class, String.class, ConverterRadix64Bytes::objectBytesToRadix64,
+                radix64 -> ConverterUtils.radix64ToObjectBytes(radix64, 0, radix64.length()));
+        register(ByteBuffer.class, String.class, ConverterRadix64Bytes::bufferToRadix64,
+                radix64 -> ByteBuffer.wrap(Radix64Codec.decode(radix64, 0, radix64.length())));
+        register(ByteView.class, String.class, ConverterRadix64Bytes::viewToRadix64,
+                radix64 -> ByteView.of(Radix64Codec.decode(radix64, 0, radix64.length())));
+        registerEncoder(byte[].class, Radix64Codec::encode);
+        registerEncoder(Byte[].class, ConverterUtils::bytesToRadix64);
+        registerEncoder(ByteBuffer.class, ConverterUtils::bytesToRadix64);
+        registerEncoder(ByteView.class, (value, target) -> Radix64Codec.encode(
+                value.array(), value.offset(), value.length(), target));
+        registerSinkEncoder(byte[].class, (value, target) -> Radix64Codec.encode(value, 0, value.length, target));
+        registerSinkEncoder(ByteView.class, (value, target) -> Radix64Codec.encode(
+                value.array(), value.offset(), value.length(), target));
+        registerDecoder(byte[].class, Radix64Codec::decode);
+        registerDecoder(Byte[].class, ConverterUtils::radix64ToObjectBytes);
+        registerDecoder(ByteBuffer.class, (s, start, end) -> ByteBuffer.wrap(Radix64Codec.decode(s, start, end)));
+        registerDecoder(ByteView.class, (s, start, end) -> ByteView.of(Radix64Codec.decode(s, start, end)));
+    }
+
+    /**
+     * Convert reference object bytes array to radix-64 format
+     * @param bytes bytes array
+     * @return radix-64 format of specified bytes
+     */
+    private static String objectBytesToRadix64(Byte[] bytes){
+        StringBuilder radix64 = new StringBuilder();
+        ConverterUtils.bytesToRadix64(bytes, radix64);
+        return radix64.toString();
+    }
+
+    /**
+     * Convert remaining bytes of the buffer to radix-64 format, without changing buffer position
+     * @param buffer bytes buffer
+     * @return radix-64 format of remaining bytes
+     */
+    private static String bufferToRadix64(ByteBuffer buffer){
+        StringBuilder radix64 = new StringBuilder();
+        ConverterUtils.bytesToRadix64(buffer, radix64);
+        return radix64.toString();
+    }
+
+    /**
+     * Convert viewed bytes to radix-64 format
+     * @param view bytes view
+     * @return radix-64 format of viewed bytes
+     */
+    private static String viewToRadix64(ByteView view){
+        char[] radix64 = new char[Radix64Codec.encodedLength(view.length())];
+        Radix64Codec.encode(view.array(), view.offset(), view.length(), radix64, 0);
+        return new String(radix64);
+    }
+}
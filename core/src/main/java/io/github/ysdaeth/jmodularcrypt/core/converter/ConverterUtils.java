@@ -1,70 +1,191 @@
 package io.github.ysdaeth.jmodularcrypt.core.converter;
 
-import java.util.Base64;
-import java.util.HexFormat;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
+/**
+ * Encoding of bytes containers other than {@code byte[]}, which is encoded with
+ * {@link Base64Codec}, {@link HexCodec} and {@link Radix64Codec}.
+ */
 final class ConverterUtils {
-    private static final HexFormat hexFormat = HexFormat.of();
 
     /**
-     * Cast primitive bytes array to object byte array
-     * @param bytes primitive byte array
-     * @return object bytes
+     * Append base64 representation of object bytes array with padding to the target, without
+     * copying it to primitive bytes array
+     * @param bytes object bytes array
+     * @param target output that base64 format is appended to
      */
-    static Byte[] toObjectBytes(byte[] bytes){
-        Byte[] result = new Byte[bytes.length];
-        for(int i=0; i< bytes.length; i++){
-            result[i] = bytes[i];
+    static void bytesToBase64(Byte[] bytes, StringBuilder target){
+        target.ensureCapacity(target.length() + Base64Codec.encodedLength(bytes.length));
+        int full = bytes.length - bytes.length % 3;
+        for(int i = 0; i < full; i += 3){
+            Base64Codec.appendQuantum(target,
+                    (bytes[i] & 0xff) << 16 | (bytes[i + 1] & 0xff) << 8 | (bytes[i + 2] & 0xff), 3);
         }
-        return result;
+        if(bytes.length > full){
+            int bits = (bytes[full] & 0xff) << 16;
+            if(bytes.length - full == 2) bits |= (bytes[full + 1] & 0xff) << 8;
+            Base64Codec.appendQuantum(target, bits, bytes.length - full);
+        }
+    }
+
+    /**
+     * Append base64 representation of remaining bytes of the buffer with padding to the target.
+     * Buffer position is not changed.
+     * @param buffer bytes buffer
+     * @param target output that base64 format is appended to
+     */
+    static void bytesToBase64(ByteBuffer buffer, StringBuilder target){
+        if(buffer.hasArray()){
+            Base64Codec.encode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), target);
+            return;
+        }
+        target.ensureCapacity(target.length() + Base64Codec.encodedLength(buffer.remaining()));
+        int end = buffer.limit();
+        int full = end - buffer.remaining() % 3;
+        for(int i = buffer.position(); i < full; i += 3){
+            Base64Codec.appendQuantum(target,
+                    (buffer.get(i) & 0xff) << 16 | (buffer.get(i + 1) & 0xff) << 8 | (buffer.get(i + 2) & 0xff), 3);
+        }
+        if(end > full){
+            int bits = (buffer.get(full) & 0xff) << 16;
+            if(end - full == 2) bits |= (buffer.get(full + 1) & 0xff) << 8;
+            Base64Codec.appendQuantum(target, bits, end - full);
+        }
+    }
+
+    /**
+     * Make object bytes out of base64 format range of characters, without intermediate primitive
+     * bytes array. Decoding follows the same rules as {@link Base64Codec#decode(CharSequence, int, int)}.
+     * @param source text that contains base64 encoded bytes
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return object bytes from base64 format
+     * @throws IllegalArgumentException when range is not valid base64 format
+     */
+    static Byte[] base64ToObjectBytes(CharSequence source, int start, int end){
+        Byte[] bytes = new Byte[Base64Codec.decodedLength(source, start, end)];
+        int index = 0;
+        for(int position = start; index < bytes.length; position += 4){
+            int count = Math.min(3, bytes.length - index);
+            int bits = Base64Codec.bits(source, position, count);
+            for(int shift = 16; count-- > 0; shift -= 8){
+                bytes[index++] = (byte) (bits >> shift);
+            }
+        }
+        return bytes;
     }
 
     /**
-     * Cast object bytes array to primitive byte array
-     * @param bytes object byte array
-     * @return primitive byte array
+     * Append hexadecimal format of object bytes array to the target, without copying it to primitive bytes array
+     * @param bytes object bytes array
+     * @param target output that hexadecimal format is appended to
      */
-    static byte[] toPrimitiveBytes(Byte[] bytes){
-        byte[] result = new byte[bytes.length];
-        for(int i=0; i< bytes.length; i++){
-            result[i] = bytes[i];
+    static void bytesToHexFormat(Byte[] bytes, StringBuilder target){
+        target.ensureCapacity(target.length() + HexCodec.encodedLength(bytes.length));
+        for(Byte b : bytes){
+            HexCodec.appendByte(target, b);
         }
-        return result;
     }
 
     /**
-     * Make base64 bytes representation format from bytes array
-     * @param bytes bytes array
-     * @return base64 format of byte array
+     * Append hexadecimal format of remaining bytes of the buffer to the target.
+     * Buffer position is not changed.
+     * @param buffer bytes buffer
+     * @param target output that hexadecimal format is appended to
      */
-    static String bytesToBase64(byte[] bytes){
-        return Base64.getEncoder().encodeToString(bytes);
+    static void bytesToHexFormat(ByteBuffer buffer, StringBuilder target){
+        if(buffer.hasArray()){
+            HexCodec.encode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), target);
+            return;
+        }
+        target.ensureCapacity(target.length() + HexCodec.encodedLength(buffer.remaining()));
+        for(int i = buffer.position(); i < buffer.limit(); i++){
+            HexCodec.appendByte(target, buffer.get(i));
+        }
     }
 
     /**
-     * Make bytes out of base64 format
-     * @param base64 base64 encoded bytes
-     * @return bytes from base64 format
+     * Convert hexadecimal format range of characters to object bytes array, without intermediate
+     * primitive bytes array
+     * @param source text that contains hexadecimal format
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return object bytes array from hexadecimal format
+     * @throws IllegalArgumentException when range is not valid hexadecimal format
      */
-    static byte[] base64ToBytes(String base64){
-        return Base64.getDecoder().decode(base64);
+    static Byte[] hexFormatToObjectBytes(CharSequence source, int start, int end){
+        Byte[] bytes = new Byte[HexCodec.decodedLength(start, end)];
+        for(int i = 0; i < bytes.length; i++){
+            bytes[i] = HexCodec.decodeByte(source, start + i * 2);
+        }
+        return bytes;
     }
 
     /**
-     * Convert bytes array to hex format
-     * @param bytes bytes array
-     * @return Hexadecimal format of byte array
+     * Append radix-64 format of object bytes array to the target, without copying it to primitive bytes array
+     * @param bytes object bytes array
+     * @param target output that radix-64 format is appended to
      */
-    static String bytesToHexFormat(byte[] bytes){
-        return hexFormat.formatHex(bytes);
+    static void bytesToRadix64(Byte[] bytes, StringBuilder target){
+        target.ensureCapacity(target.length() + Radix64Codec.encodedLength(bytes.length));
+        int full = bytes.length - bytes.length % 3;
+        for(int i = 0; i < full; i += 3){
+            Radix64Codec.appendQuantum(target,
+                    (bytes[i] & 0xff) << 16 | (bytes[i + 1] & 0xff) << 8 | (bytes[i + 2] & 0xff), 3);
+        }
+        if(bytes.length > full){
+            int bits = (bytes[full] & 0xff) << 16;
+            if(bytes.length - full == 2) bits |= (bytes[full + 1] & 0xff) << 8;
+            Radix64Codec.appendQuantum(target, bits, bytes.length - full);
+        }
     }
 
     /**
-     * Convert hexadecimal format to byte array
-     * @param hexadecimal hexadecimal format
-     * @return byte array from hexadecimal format
+     * Append radix-64 format of remaining bytes of the buffer to the target.
+     * Buffer position is not changed.
+     * @param buffer bytes buffer
+     * @param target output that radix-64 format is appended to
      */
-    static byte[] hexFormatToBytes(String hexadecimal){
-        return hexFormat.parseHex(hexadecimal);
+    static void bytesToRadix64(ByteBuffer buffer, StringBuilder target){
+        if(buffer.hasArray()){
+            Radix64Codec.encode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), target);
+            return;
+        }
+        target.ensureCapacity(target.length() + Radix64Codec.encodedLength(buffer.remaining()));
+        int end = buffer.limit();
+        int full = end - buffer.remaining() % 3;
+        for(int i = buffer.position(); i < full; i += 3){
+            Radix64Codec.appendQuantum(target,
+                    (buffer.get(i) & 0xff) << 16 | (buffer.get(i + 1) & 0xff) << 8 | (buffer.get(i + 2) & 0xff), 3);
+        }
+        if(end > full){
+            int bits = (buffer.get(full) & 0xff) << 16;
+            if(end - full == 2) bits |= (buffer.get(full + 1) & 0xff) << 8;
+            Radix64Codec.appendQuantum(target, bits, end - full);
+        }
+    }
+
+    /**
+     * Make object bytes out of radix-64 format range of characters, without intermediate primitive
+     * bytes array. Decoding follows the same rules as {@link Radix64Codec#decode(CharSequence, int, int)}.
+     * @param source text that contains radix-64 format
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return object bytes from radix-64 format
+     * @throws IllegalArgumentException when range is not valid radix-64 format
+     */
+    static Byte[] radix64ToObjectBytes(CharSequence source, int start, int end){
+        Objects.checkFromToIndex(start, end, source.length());
+        Byte[] bytes = new Byte[Radix64Codec.decodedLength(start, end)];
+        int index = 0;
+        for(int position = start; index < bytes.length; position += 4){
+            int count = Math.min(3, bytes.length - index);
+            int bits = Radix64Codec.bits(source, position, count);
+            for(int shift = 16; count-- > 0; shift -= 8){
+                bytes[index++] = (byte) (bits >> shift);
+            }
+        }
+        return bytes;
     }
 }
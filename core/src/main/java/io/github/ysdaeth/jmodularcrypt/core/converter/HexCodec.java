@@ -0,0 +1,202 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Hexadecimal codec of the same format as {@link HexFormat#of()}. Bytes are encoded to lowercase digits,
+ * and both lowercase and uppercase digits are decoded.
+ * Lengths of encoded and decoded values are calculated exactly, so values are encoded into and decoded from
+ * caller supplied arrays, without intermediate arrays. Appending to {@link StringBuilder} or {@link ByteSink}
+ * goes through a thread local scratch buffer, so only the output grows.
+ */
+public final class HexCodec {
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+    private static final byte[] VALUES = values();
+    /**
+     * Scratch buffer length, a multiple of two characters
+     */
+    private static final int SCRATCH_LENGTH = 1024;
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[SCRATCH_LENGTH]);
+
+    private HexCodec(){}
+
+    /**
+     * @param length number of bytes
+     * @return number of hexadecimal digits of specified number of bytes
+     */
+    public static int encodedLength(int length){
+        return length * 2;
+    }
+
+    /**
+     * Calculate number of bytes encoded in range of characters, and validate its length
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return number of decoded bytes
+     * @throws IllegalArgumentException when length is odd
+     */
+    public static int decodedLength(int start, int end){
+        if((end - start) % 2 != 0){
+            throw new IllegalArgumentException("Hexadecimal format length must be even: " + (end - start));
+        }
+        return (end - start) / 2;
+    }
+
+    /**
+     * @param bytes bytes array
+     * @return hexadecimal format of the bytes
+     */
+    public static String encode(byte[] bytes){
+        char[] chars = new char[encodedLength(bytes.length)];
+        encode(bytes, 0, bytes.length, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Append hexadecimal format of the bytes to the target
+     * @param bytes bytes array
+     * @param target output that hexadecimal format is appended to
+     */
+    public static void encode(byte[] bytes, StringBuilder target){
+        encode(bytes, 0, bytes.length, target);
+    }
+
+    /**
+     * Append hexadecimal format of range of bytes to the target. Bytes are encoded in chunks
+     * into thread local scratch buffer, which is appended to the target.
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target output that hexadecimal format is appended to
+     * @throws IndexOutOfBoundsException when range is out of array bounds
+     */
+    public static void encode(byte[] bytes, int offset, int length, StringBuilder target){
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        target.ensureCapacity(target.length() + encodedLength(length));
+        char[] scratch = SCRATCH.get();
+        int chunk = SCRATCH_LENGTH / 2;
+        for(int from = offset, end = offset + length; from < end; from += chunk){
+            int count = Math.min(chunk, end - from);
+            target.append(scratch, 0, encode(bytes, from, count, scratch, 0));
+        }
+    }
+
+    /**
+     * Write hexadecimal format of range of bytes to the sink, in chunks the same as
+     * {@link HexCodec#encode(byte[], int, int, StringBuilder)}
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target output that hexadecimal format is written to
+     * @throws IndexOutOfBoundsException when range is out of array bounds
+     * @throws java.nio.BufferOverflowException when sink buffer has not enough remaining space
+     */
+    public static void encode(byte[] bytes, int offset, int length, ByteSink target){
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        char[] scratch = SCRATCH.get();
+        int chunk = SCRATCH_LENGTH / 2;
+        for(int from = offset, end = offset + length; from < end; from += chunk){
+            int count = Math.min(chunk, end - from);
+            target.append(scratch, 0, encode(bytes, from, count, scratch, 0));
+        }
+    }
+
+    /**
+     * Encode range of bytes to hexadecimal format into the target array
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target array that characters are written to
+     * @param targetOffset index of the first written character
+     * @return number of written characters, which is {@link HexCodec#encodedLength(int)}
+     * @throws IndexOutOfBoundsException when range is out of array bounds, or target is too short
+     */
+    public static int encode(byte[] bytes, int offset, int length, char[] target, int targetOffset){
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        Objects.checkFromIndexSize(targetOffset, encodedLength(length), target.length);
+        int position = targetOffset;
+        for(int i = offset; i < offset + length; i++){
+            target[position++] = DIGITS[bytes[i] >> 4 & 0xf];
+            target[position++] = DIGITS[bytes[i] & 0xf];
+        }
+        return encodedLength(length);
+    }
+
+    /**
+     * Decode range of characters to a new array of exact length
+     * @param source text that contains hexadecimal format
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return decoded bytes
+     * @throws IllegalArgumentException when range is not valid hexadecimal format
+     */
+    public static byte[] decode(CharSequence source, int start, int end){
+        byte[] bytes = new byte[decodedLength(start, end)];
+        decode(source, start, end, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Decode range of characters into the target array
+     * @param source text that contains hexadecimal format
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @param target array that bytes are written to
+     * @param targetOffset index of the first written byte
+     * @return number of written bytes, which is {@link HexCodec#decodedLength(int, int)}
+     * @throws IllegalArgumentException when range is not valid hexadecimal format
+     * @throws IndexOutOfBoundsException when target is too short
+     */
+    public static int decode(CharSequence source, int start, int end, byte[] target, int targetOffset){
+        Objects.checkFromToIndex(start, end, source.length());
+        int decoded = decodedLength(start, end);
+        Objects.checkFromIndexSize(targetOffset, decoded, target.length);
+        for(int i = 0; i < decoded; i++){
+            target[targetOffset + i] = decodeByte(source, start + i * 2);
+        }
+        return decoded;
+    }
+
+    /**
+     * Append two hexadecimal digits of the byte to the target
+     * @param target output that digits are appended to
+     * @param value encoded byte
+     */
+    static void appendByte(StringBuilder target, byte value){
+        target.append(DIGITS[value >> 4 & 0xf]).append(DIGITS[value & 0xf]);
+    }
+
+    /**
+     * Decode byte of two hexadecimal digits
+     * @param source text that contains hexadecimal format
+     * @param position index of the first digit
+     * @return decoded byte
+     * @throws IllegalArgumentException when character is not hexadecimal digit
+     */
+    static byte decodeByte(CharSequence source, int position){
+        return (byte) (value(source, position) << 4 | value(source, position + 1));
+    }
+
+    private static int value(CharSequence source, int index){
+        char c = source.charAt(index);
+        int value = c < 128 ? VALUES[c] : -1;
+        if(value < 0){
+            throw new IllegalArgumentException("Illegal hexadecimal character " + Integer.toHexString(c));
+        }
+        return value;
+    }
+
+    private static byte[] values(){
+        byte[] values = new byte[128];
+        Arrays.fill(values, (byte) -1);
+        for(int i = 0; i < 16; i++){
+            values[DIGITS[i]] = (byte) i;
+            values[Character.toUpperCase(DIGITS[i])] = (byte) i;
+        }
+        return values;
+    }
+}
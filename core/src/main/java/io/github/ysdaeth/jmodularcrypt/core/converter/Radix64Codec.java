@@ -0,0 +1,239 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Unpadded radix-64 codec with {@code ./0-9A-Za-z} alphabet of classic Modular Crypt Format hashes.
+ * Bits are grouped in the same order as in base64, so three bytes are encoded to four characters,
+ * and the last one or two bytes to two or three characters. Encoded value has no padding and
+ * no characters that are not allowed in Modular Crypt Format sections, so it is a quarter of
+ * the hexadecimal format length shorter than base64, and over a third shorter than hexadecimal format.
+ * Unused bits of the last character must be zero, so every value has exactly one encoded form.
+ * Appending to {@link StringBuilder} or {@link ByteSink} goes through a thread local scratch buffer,
+ * so only the output grows.
+ */
+public final class Radix64Codec {
+    private static final char[] ALPHABET =
+            "./0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final byte[] VALUES = values();
+    /**
+     * Scratch buffer length, a multiple of four characters
+     */
+    private static final int SCRATCH_LENGTH = 1024;
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[SCRATCH_LENGTH]);
+
+    private Radix64Codec(){}
+
+    /**
+     * @param length number of bytes
+     * @return number of characters of radix-64 format of specified number of bytes
+     */
+    public static int encodedLength(int length){
+        return (length * 4 + 2) / 3;
+    }
+
+    /**
+     * Calculate number of bytes encoded in range of characters, and validate its length
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return number of decoded bytes
+     * @throws IllegalArgumentException when length is not length of any encoded value
+     */
+    public static int decodedLength(int start, int end){
+        int length = end - start;
+        if(length < 0 || length % 4 == 1){
+            throw new IllegalArgumentException("Invalid radix-64 length: " + length);
+        }
+        return length * 3 / 4;
+    }
+
+    /**
+     * @param bytes bytes array
+     * @return radix-64 format of the bytes
+     */
+    public static String encode(byte[] bytes){
+        char[] chars = new char[encodedLength(bytes.length)];
+        encode(bytes, 0, bytes.length, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Append radix-64 format of the bytes to the target
+     * @param bytes bytes array
+     * @param target output that radix-64 format is appended to
+     */
+    public static void encode(byte[] bytes, StringBuilder target){
+        encode(bytes, 0, bytes.length, target);
+    }
+
+    /**
+     * Append radix-64 format of range of bytes to the target. Bytes are encoded in chunks
+     * into thread local scratch buffer, which is appended to the target.
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target output that radix-64 format is appended to
+     * @throws IndexOutOfBoundsException when range is out of array bounds
+     */
+    public static void encode(byte[] bytes, int offset, int length, StringBuilder target){
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        target.ensureCapacity(target.length() + encodedLength(length));
+        char[] scratch = SCRATCH.get();
+        int chunk = SCRATCH_LENGTH / 4 * 3;
+        for(int from = offset, end = offset + length; from < end; from += chunk){
+            int count = Math.min(chunk, end - from);
+            target.append(scratch, 0, encode(bytes, from, count, scratch, 0));
+        }
+    }
+
+    /**
+     * Write radix-64 format of range of bytes to the sink, in chunks the same as
+     * {@link Radix64Codec#encode(byte[], int, int, StringBuilder)}
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target output that radix-64 format is written to
+     * @throws IndexOutOfBoundsException when range is out of array bounds
+     * @throws java.nio.BufferOverflowException when sink buffer has not enough remaining space
+     */
+    public static void encode(byte[] bytes, int offset, int length, ByteSink target){
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        char[] scratch = SCRATCH.get();
+        int chunk = SCRATCH_LENGTH / 4 * 3;
+        for(int from = offset, end = offset + length; from < end; from += chunk){
+            int count = Math.min(chunk, end - from);
+            target.append(scratch, 0, encode(bytes, from, count, scratch, 0));
+        }
+    }
+
+    /**
+     * Encode range of bytes to radix-64 format into the target array
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target array that characters are written to
+     * @param targetOffset index of the first written character
+     * @return number of written characters, which is {@link Radix64Codec#encodedLength(int)}
+     * @throws IndexOutOfBoundsException when range is out of array bounds, or target is too short
+     */
+    public static int encode(byte[] bytes, int offset, int length, char[] target, int targetOffset){
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int encoded = encodedLength(length);
+        Objects.checkFromIndexSize(targetOffset, encoded, target.length);
+        int end = offset + length;
+        int full = end - length % 3;
+        int position = targetOffset;
+        for(int i = offset; i < full; i += 3){
+            int bits = (bytes[i] & 0xff) << 16 | (bytes[i + 1] & 0xff) << 8 | (bytes[i + 2] & 0xff);
+            target[position++] = ALPHABET[bits >>> 18];
+            target[position++] = ALPHABET[bits >>> 12 & 0x3f];
+            target[position++] = ALPHABET[bits >>> 6 & 0x3f];
+            target[position++] = ALPHABET[bits & 0x3f];
+        }
+        if(end > full){
+            int bits = (bytes[full] & 0xff) << 16;
+            if(end - full == 2) bits |= (bytes[full + 1] & 0xff) << 8;
+            target[position++] = ALPHABET[bits >>> 18];
+            target[position++] = ALPHABET[bits >>> 12 & 0x3f];
+            if(end - full == 2) target[position] = ALPHABET[bits >>> 6 & 0x3f];
+        }
+        return encoded;
+    }
+
+    /**
+     * Decode range of characters to a new array of exact length
+     * @param source text that contains radix-64 format
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return decoded bytes
+     * @throws IllegalArgumentException when range is not valid radix-64 format
+     */
+    public static byte[] decode(CharSequence source, int start, int end){
+        byte[] bytes = new byte[decodedLength(start, end)];
+        decode(source, start, end, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Decode range of characters into the target array
+     * @param source text that contains radix-64 format
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @param target array that bytes are written to
+     * @param targetOffset index of the first written byte
+     * @return number of written bytes, which is {@link Radix64Codec#decodedLength(int, int)}
+     * @throws IllegalArgumentException when range is not valid radix-64 format
+     * @throws IndexOutOfBoundsException when target is too short
+     */
+    public static int decode(CharSequence source, int start, int end, byte[] target, int targetOffset){
+        Objects.checkFromToIndex(start, end, source.length());
+        int decoded = decodedLength(start, end);
+        Objects.checkFromIndexSize(targetOffset, decoded, target.length);
+        int index = targetOffset;
+        int full = end - (end - start) % 4;
+        for(int position = start; position < full; position += 4){
+            int bits = bits(source, position, 3);
+            target[index++] = (byte) (bits >> 16);
+            target[index++] = (byte) (bits >> 8);
+            target[index++] = (byte) bits;
+        }
+        if(end > full){
+            int bits = bits(source, full, end - full - 1);
+            target[index++] = (byte) (bits >> 16);
+            if(end - full == 3) target[index] = (byte) (bits >> 8);
+        }
+        return decoded;
+    }
+
+    /**
+     * Append radix-64 quantum of up to three bytes, without padding
+     * @param target output that characters are appended to
+     * @param bits bytes of the quantum, the first byte in the highest bits
+     * @param count number of bytes in the quantum
+     */
+    static void appendQuantum(StringBuilder target, int bits, int count){
+        target.append(ALPHABET[bits >>> 18]).append(ALPHABET[bits >>> 12 & 0x3f]);
+        if(count > 1) target.append(ALPHABET[bits >>> 6 & 0x3f]);
+        if(count > 2) target.append(ALPHABET[bits & 0x3f]);
+    }
+
+    /**
+     * Decode radix-64 quantum of characters that encode specified number of bytes
+     * @param source text that contains radix-64 format
+     * @param position index of the first character of the quantum
+     * @param count number of decoded bytes, from 1 to 3
+     * @return bytes of the quantum, the first byte in the highest bits
+     * @throws IllegalArgumentException when character is not radix-64 alphabet character,
+     * or unused bits of the last character are not zero
+     */
+    static int bits(CharSequence source, int position, int count){
+        int bits = value(source, position) << 18 | value(source, position + 1) << 12;
+        if(count > 1) bits |= value(source, position + 2) << 6;
+        if(count > 2) bits |= value(source, position + 3);
+        if((bits & 0xffffff >>> count * 8) != 0){
+            throw new IllegalArgumentException("Non zero unused bits of the last radix-64 character");
+        }
+        return bits;
+    }
+
+    private static int value(CharSequence source, int index){
+        char c = source.charAt(index);
+        int value = c < 128 ? VALUES[c] : -1;
+        if(value < 0){
+            throw new IllegalArgumentException("Illegal radix-64 character " + Integer.toHexString(c));
+        }
+        return value;
+    }
+
+    private static byte[] values(){
+        byte[] values = new byte[128];
+        Arrays.fill(values, (byte) -1);
+        for(int i = 0; i < ALPHABET.length; i++){
+            values[ALPHABET[i]] = (byte) i;
+        }
+        return values;
+    }
+}
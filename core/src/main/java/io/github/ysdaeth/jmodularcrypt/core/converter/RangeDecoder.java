@@ -0,0 +1,19 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+/**
+ * Function that decodes value directly from a range of characters,
+ * without creating a substring of the range first.
+ * @param <R> decoded type
+ */
+@FunctionalInterface
+public interface RangeDecoder<R> {
+
+    /**
+     * Decode value from specified range of the source
+     * @param source text that contains encoded value
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return decoded value
+     */
+    R decode(CharSequence source, int start, int end);
+}
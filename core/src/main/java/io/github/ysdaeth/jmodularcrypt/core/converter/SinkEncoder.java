@@ -0,0 +1,19 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+
+/**
+ * Function that writes string representation of a value directly to the bytes of {@link ByteSink},
+ * the same as {@link TextEncoder} writes it to {@link StringBuilder}.
+ * @param <T> encoded type
+ */
+@FunctionalInterface
+public interface SinkEncoder<T> {
+
+    /**
+     * Append string representation of specified value to the target
+     * @param value value to encode, never null
+     * @param target output that value is appended to
+     */
+    void encode(T value, ByteSink target);
+}
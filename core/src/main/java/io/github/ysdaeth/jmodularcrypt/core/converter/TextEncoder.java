@@ -0,0 +1,17 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+/**
+ * Function that appends string representation of a value directly to the target,
+ * without creating intermediate string first.
+ * @param <T> encoded type
+ */
+@FunctionalInterface
+public interface TextEncoder<T> {
+
+    /**
+     * Append string representation of specified value to the target
+     * @param value value to encode, never null
+     * @param target output that value is appended to
+     */
+    void encode(T value, StringBuilder target);
+}
@@ -0,0 +1,100 @@
+package io.github.ysdaeth.jmodularcrypt.core.parser;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Read only view of US-ASCII bytes as a {@link CharSequence}. Bytes are not copied, nor decoded
+ * to a {@link String}, so parsers and range decoders can read composed values directly from
+ * byte arrays. Only {@link AsciiCharSequence#toString()} creates a string of the viewed range.
+ * Modular Crypt Format is pure ASCII, so each byte represents exactly one character.
+ */
+public final class AsciiCharSequence implements CharSequence {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Create view of specified range of bytes. Changes of the array are visible in the view.
+     * @param bytes US-ASCII bytes
+     * @param offset index of the first byte
+     * @param length number of viewed bytes
+     * @throws IndexOutOfBoundsException when range is out of array bounds
+     */
+    public AsciiCharSequence(byte[] bytes, int offset, int length){
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Create view of remaining bytes of the buffer. Heap buffers are viewed without copying,
+     * other buffers are copied once to a byte array. Buffer position is not changed.
+     * @param buffer buffer with US-ASCII bytes
+     * @return view of remaining bytes
+     */
+    public static AsciiCharSequence of(ByteBuffer buffer){
+        if(buffer.hasArray()){
+            return new AsciiCharSequence(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), copy);
+        return new AsciiCharSequence(copy, 0, copy.length);
+    }
+
+    /**
+     * Write characters of the source to the buffer as US-ASCII bytes. When buffer has not enough
+     * remaining space, or source contains non ASCII character, then nothing is written.
+     * @param source ASCII characters
+     * @param target buffer that bytes are written to
+     * @throws BufferOverflowException when buffer has not enough remaining space
+     * @throws IllegalArgumentException when source contains non ASCII character
+     */
+    public static void write(CharSequence source, ByteBuffer target){
+        int length = source.length();
+        if(target.remaining() < length) throw new BufferOverflowException();
+        for(int i = 0; i < length; i++){
+            if(source.charAt(i) > 0x7f){
+                throw new IllegalArgumentException("Non ASCII character at index " + i);
+            }
+        }
+        int position = target.position();
+        for(int i = 0; i < length; i++){
+            target.put(position + i, (byte) source.charAt(i));
+        }
+        target.position(position + length);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @param index index of the character
+     * @return character of the byte at specified index
+     * @throws IllegalArgumentException when byte is not US-ASCII character
+     */
+    @Override
+    public char charAt(int index) {
+        byte b = bytes[offset + Objects.checkIndex(index, length)];
+        if(b < 0){
+            throw new IllegalArgumentException("Non ASCII byte at index " + index);
+        }
+        return (char) b;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new AsciiCharSequence(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,242 @@
+package io.github.ysdaeth.jmodularcrypt.core.parser;
+
+import java.util.Arrays;
+
+/**
+ * Parser of binary format, where each section value is prefixed with its length.
+ * Length is unsigned varint, seven bits in each byte starting from the lowest bits,
+ * with the highest bit set in all bytes but the last one. Composed value is a string of
+ * ISO-8859-1 characters, where each character is one byte, so it is written to and read from
+ * bytes without encoding. Values are raw, they may contain any byte and may be empty.
+ * Like {@link McfParser} it ignores section names, sections are identified by their order.
+ * This class is stateless and thread-safe.
+ */
+public class BinaryParser implements Parser {
+    /**
+     * Maximal number of bytes of the length prefix of int value
+     */
+    private static final int MAX_PREFIX = 5;
+
+    /**
+     * Concatenate sections values, each prefixed with its length. It will ignore section names.
+     * @param sections sections of binary format
+     * @return concatenated length prefixed values
+     * @throws IllegalArgumentException when section or its value is null, or value contains non byte character
+     */
+    @Override
+    public String compose(Section[] sections) {
+        StringBuilder target = new StringBuilder();
+        compose(SectionSource.of(validate(sections)), target);
+        return target.toString();
+    }
+
+    /**
+     * Append sections values, each prefixed with its length, to the target. When source knows value length
+     * with {@link SectionSource#valueLength(int)}, then length is written first and value is written after it
+     * directly into the target. Otherwise space of the longest length prefix is reserved before the value,
+     * length is written at the end of reserved space, and unused leading space is removed, which moves the value
+     * once to close the gap.
+     * @param sections source of sections
+     * @param target output that composed value is appended to
+     * @throws IllegalArgumentException when value contains non byte character, or its length does not match
+     * the known length
+     */
+    @Override
+    public void compose(SectionSource sections, StringBuilder target) {
+        int initial = target.length();
+        char[] prefix = new char[MAX_PREFIX];
+        try{
+            for(int i = 0; i < sections.size(); i++){
+                int length = sections.valueLength(i);
+                if(length >= 0){
+                    target.append(prefix, 0, writeLength(length, prefix));
+                    int start = target.length();
+                    sections.writeValue(i, target);
+                    validateValue(target, start, target.length());
+                    if(target.length() - start != length)
+                        throw new IllegalArgumentException("Section value length does not match its known length");
+                    continue;
+                }
+                int reserved = target.length();
+                target.append(prefix, 0, MAX_PREFIX);
+                int start = target.length();
+                sections.writeValue(i, target);
+                int end = target.length();
+                validateValue(target, start, end);
+                int count = writeLength(end - start, prefix);
+                int gap = MAX_PREFIX - count;
+                for(int j = 0; j < count; j++){
+                    target.setCharAt(reserved + gap + j, prefix[j]);
+                }
+                if(gap > 0) target.delete(reserved, reserved + gap);
+            }
+        }catch (RuntimeException e){
+            target.setLength(initial);
+            throw e;
+        }
+    }
+
+    /**
+     * Append sections values, each prefixed with its length, to the bytes of the sink, the same as
+     * {@link BinaryParser#compose(SectionSource, StringBuilder)}. Values of known length are written directly
+     * after the length, and other values are written to the scratch builder of the sink first, because bytes
+     * cannot be moved to close the gap of reserved space.
+     * @param sections source of sections
+     * @param target output that composed value is appended to
+     * @throws IllegalArgumentException when value contains non byte character, or its length does not match
+     * the known length
+     */
+    @Override
+    public void compose(SectionSource sections, ByteSink target) {
+        int initial = target.length();
+        char[] prefix = new char[MAX_PREFIX];
+        try{
+            for(int i = 0; i < sections.size(); i++){
+                int length = sections.valueLength(i);
+                if(length >= 0){
+                    target.append(prefix, 0, writeLength(length, prefix));
+                    int start = target.length();
+                    sections.writeValue(i, target);
+                    if(target.length() - start != length)
+                        throw new IllegalArgumentException("Section value length does not match its known length");
+                    continue;
+                }
+                StringBuilder value = target.scratch();
+                sections.writeValue(i, value);
+                validateValue(value, 0, value.length());
+                target.append(prefix, 0, writeLength(value.length(), prefix));
+                target.appendScratch();
+            }
+        }catch (RuntimeException e){
+            target.setLength(initial);
+            throw e;
+        }
+    }
+
+    /**
+     * Compose leading sections values, the same as {@link BinaryParser#compose(Section[])}.
+     * Sections are self delimited, so composed remaining sections can be appended to the prefix.
+     * @param leading leading sections of binary format
+     * @return composed prefix
+     */
+    @Override
+    public String composePrefix(Section[] leading) {
+        return compose(leading);
+    }
+
+    /**
+     * Check if source starts with the prefix
+     * @param source binary format value
+     * @param prefix composed prefix
+     * @return length of the prefix, or -1 when source does not start with the prefix
+     */
+    @Override
+    public int matchPrefix(CharSequence source, String prefix) {
+        int length = prefix.length();
+        if(source.length() < length) return -1;
+        for(int i = 0; i < length; i++){
+            if(source.charAt(i) != prefix.charAt(i)) return -1;
+        }
+        return length;
+    }
+
+    /**
+     * Return sections of binary format, without section names
+     * @param composed composed value produced by this parser
+     * @return sections without section names
+     * @throws IllegalArgumentException when value is truncated or length prefix is invalid
+     */
+    @Override
+    public Section[] parse(String composed) {
+        SectionView[] views = parseViews(composed);
+        Section[] sections = new Section[views.length];
+        for(int i = 0; i < views.length; i++){
+            sections[i] = views[i].toSection();
+        }
+        return sections;
+    }
+
+    /**
+     * Return views of sections of binary format, the same as {@link BinaryParser#parse(String)},
+     * but values are not copied.
+     * @param composed composed value produced by this parser
+     * @return views of sections without section names
+     * @throws IllegalArgumentException when value is truncated or length prefix is invalid
+     */
+    @Override
+    public SectionView[] parseViews(CharSequence composed) {
+        return parseViews(composed, 0, composed.length());
+    }
+
+    /**
+     * Return views of sections from range of the source, the same as {@link BinaryParser#parseViews(CharSequence)}
+     * of the range. Views refer to the source, so values are not copied.
+     * @param composed text that contains composed value
+     * @param from start index inclusive
+     * @param to end index exclusive
+     * @return views of sections without section names
+     * @throws IllegalArgumentException when range is truncated or length prefix is invalid
+     */
+    @Override
+    public SectionView[] parseViews(CharSequence composed, int from, int to) {
+        SectionView[] views = new SectionView[8];
+        int count = 0;
+        int position = from;
+        while(position < to){
+            int length = 0;
+            int shift = 0;
+            char c;
+            do{
+                if(position == to || shift == 7 * MAX_PREFIX)
+                    throw new IllegalArgumentException("Invalid section length prefix");
+                c = composed.charAt(position++);
+                if(c > 0xff) throw new IllegalArgumentException("Section length prefix must be byte character");
+                length |= (c & 0x7f) << shift;
+                shift += 7;
+            }while((c & 0x80) != 0);
+            if(length < 0 || length > to - position)
+                throw new IllegalArgumentException("Section length exceeds composed value: " + length);
+            if(count == views.length) views = Arrays.copyOf(views, count * 2);
+            views[count++] = new SectionView(composed, -1, -1, position, position + length);
+            position += length;
+        }
+        return count == views.length ? views : Arrays.copyOf(views, count);
+    }
+
+    /**
+     * Validate that written value contains only byte characters
+     * @param value composed value
+     * @param start start index inclusive
+     * @param end end index exclusive
+     */
+    private static void validateValue(CharSequence value, int start, int end){
+        for(int i = start; i < end; i++){
+            if(value.charAt(i) > 0xff)
+                throw new IllegalArgumentException("Section value must contain only byte characters");
+        }
+    }
+
+    /**
+     * Write unsigned varint of the length to the target
+     * @param length section value length
+     * @param target array of at least {@link BinaryParser#MAX_PREFIX} characters
+     * @return number of written characters
+     */
+    private static int writeLength(int length, char[] target){
+        int count = 0;
+        while(length >= 0x80){
+            target[count++] = (char) (length & 0x7f | 0x80);
+            length >>>= 7;
+        }
+        target[count++] = (char) length;
+        return count;
+    }
+
+    private static Section[] validate(Section[] sections){
+        for(Section section : sections){
+            if(section == null || section.value() == null)
+                throw new IllegalArgumentException("Section and its value must not be null");
+        }
+        return sections;
+    }
+}
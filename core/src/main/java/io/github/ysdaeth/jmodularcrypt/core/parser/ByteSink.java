@@ -0,0 +1,161 @@
+package io.github.ysdaeth.jmodularcrypt.core.parser;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Output that writes appended characters directly to a {@link ByteBuffer}, each character as one byte,
+ * so composed values do not have to be built in a {@link StringBuilder} and copied to the buffer.
+ * Characters must be US-ASCII, or ISO-8859-1 when sink is created for that charset.
+ * Sink is also a {@link CharSequence} of the characters appended so far, so parsers can validate
+ * written values, and {@link ByteSink#setLength(int)} restores it when composition fails.
+ * Values that can be written only to a {@link StringBuilder} are written to {@link ByteSink#scratch()}
+ * and appended with {@link ByteSink#appendScratch()}.
+ * This class is not thread-safe.
+ */
+public final class ByteSink implements Appendable, CharSequence {
+    private final ByteBuffer target;
+    private final int start;
+    private final char max;
+    private StringBuilder scratch;
+
+    /**
+     * Create sink that appends characters at the buffer position
+     * @param target buffer that characters are written to
+     * @param latin1 true when characters are ISO-8859-1, false when they are US-ASCII
+     */
+    public ByteSink(ByteBuffer target, boolean latin1){
+        this.target = target;
+        this.start = target.position();
+        this.max = latin1 ? (char) 0xff : (char) 0x7f;
+    }
+
+    /**
+     * @param c appended character
+     * @return this sink
+     * @throws BufferOverflowException when buffer has no remaining space
+     * @throws IllegalArgumentException when character is not of the sink charset
+     */
+    @Override
+    public ByteSink append(char c) {
+        target.put(toByte(c));
+        return this;
+    }
+
+    /**
+     * @param csq appended characters, {@code "null"} is appended when it is null
+     * @return this sink
+     * @throws BufferOverflowException when buffer has not enough remaining space, then nothing is written
+     * @throws IllegalArgumentException when character is not of the sink charset
+     */
+    @Override
+    public ByteSink append(CharSequence csq) {
+        if(csq == null) csq = "null";
+        return append(csq, 0, csq.length());
+    }
+
+    /**
+     * @param csq characters of appended range, {@code "null"} is used when it is null
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return this sink
+     * @throws BufferOverflowException when buffer has not enough remaining space, then nothing is written
+     * @throws IllegalArgumentException when character is not of the sink charset
+     */
+    @Override
+    public ByteSink append(CharSequence csq, int start, int end) {
+        if(csq == null) csq = "null";
+        Objects.checkFromToIndex(start, end, csq.length());
+        if(target.remaining() < end - start) throw new BufferOverflowException();
+        for(int i = start; i < end; i++){
+            target.put(toByte(csq.charAt(i)));
+        }
+        return this;
+    }
+
+    /**
+     * Append range of characters array
+     * @param chars characters array
+     * @param offset index of the first character
+     * @param length number of appended characters
+     * @return this sink
+     * @throws BufferOverflowException when buffer has not enough remaining space, then nothing is written
+     * @throws IllegalArgumentException when character is not of the sink charset
+     */
+    public ByteSink append(char[] chars, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        if(target.remaining() < length) throw new BufferOverflowException();
+        for(int i = offset; i < offset + length; i++){
+            target.put(toByte(chars[i]));
+        }
+        return this;
+    }
+
+    /**
+     * Return empty scratch builder of this sink, for values that can be written only to {@link StringBuilder}.
+     * Builder is reused, so it must be appended with {@link ByteSink#appendScratch()} before it is requested again.
+     * @return empty scratch builder
+     */
+    public StringBuilder scratch(){
+        if(scratch == null) scratch = new StringBuilder();
+        scratch.setLength(0);
+        return scratch;
+    }
+
+    /**
+     * Append characters written to the builder returned by {@link ByteSink#scratch()}
+     * @return this sink
+     * @throws BufferOverflowException when buffer has not enough remaining space, then nothing is written
+     * @throws IllegalArgumentException when character is not of the sink charset
+     */
+    public ByteSink appendScratch(){
+        return scratch == null ? this : append(scratch);
+    }
+
+    /**
+     * Remove characters appended after specified length, by moving buffer position back.
+     * Bytes after the position are not cleared.
+     * @param length new length, not greater than current length
+     * @throws IndexOutOfBoundsException when length is negative or greater than current length
+     */
+    public void setLength(int length){
+        target.position(start + Objects.checkIndex(length, length() + 1));
+    }
+
+    /**
+     * @return number of characters appended to the buffer
+     */
+    @Override
+    public int length() {
+        return target.position() - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (target.get(start + Objects.checkIndex(index, length())) & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length());
+        StringBuilder chars = new StringBuilder(end - start);
+        for(int i = start; i < end; i++){
+            chars.append(charAt(i));
+        }
+        return chars.toString();
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length()).toString();
+    }
+
+    private byte toByte(char c){
+        if(c > max){
+            throw new IllegalArgumentException((max == 0x7f ? "Non ASCII" : "Non ISO-8859-1")
+                    + " character at index " + length());
+        }
+        return (byte) c;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.ysdaeth.jmodularcrypt.core.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Read only view of ISO-8859-1 bytes as a {@link CharSequence}. It is the same as {@link AsciiCharSequence},
+ * but every byte is a valid character, so bytes are never rejected. Bytes are not copied, nor decoded
+ * to a {@link String}, so binary format values are parsed and decoded directly from byte arrays.
+ * Only {@link Latin1CharSequence#toString()} creates a string of the viewed range.
+ */
+public final class Latin1CharSequence implements CharSequence {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Create view of specified range of bytes. Changes of the array are visible in the view.
+     * @param bytes ISO-8859-1 bytes
+     * @param offset index of the first byte
+     * @param length number of viewed bytes
+     * @throws IndexOutOfBoundsException when range is out of array bounds
+     */
+    public Latin1CharSequence(byte[] bytes, int offset, int length){
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (bytes[offset + Objects.checkIndex(index, length)] & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new Latin1CharSequence(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
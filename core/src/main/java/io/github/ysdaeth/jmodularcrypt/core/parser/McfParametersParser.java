@@ -1,8 +1,6 @@
 package io.github.ysdaeth.jmodularcrypt.core.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 /**
  * Parser is designed to create Modular Crypt Format (MCF) parameters string output
@@ -10,6 +8,8 @@ import java.util.List;
  * key and value there is '=' sign.
  */
 public class McfParametersParser implements Parser{
+    private static final char SEPARATOR = ',';
+    private static final char ASSIGNMENT = '=';
 
     /**
      * Concatenate sections with a ',' sign at the beginning of each section.
@@ -21,37 +21,154 @@ public class McfParametersParser implements Parser{
      */
     @Override
     public String compose(Section[] sections) {
-        List<String> pairs =new ArrayList<>(sections.length);
+        int length = Math.max(sections.length - 1, 0);
         for (Section section : sections) {
             validateSection(section);
-            String pair = section.key() + '=' + section.value();
-            pairs.add(pair);
+            length += section.key().length() + 1 + section.value().length();
+        }
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < sections.length; i++) {
+            if(i > 0) builder.append(SEPARATOR);
+            builder.append(sections[i].key()).append(ASSIGNMENT).append(sections[i].value());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Append sections to the target, the same as {@link McfParametersParser#compose(Section[])},
+     * values are written directly into the target.
+     * @param sections source of Modular Crypt Format parameters
+     * @param target output that composed string is appended to
+     */
+    @Override
+    public void compose(SectionSource sections, StringBuilder target) {
+        int initial = target.length();
+        try{
+            for (int i = 0; i < sections.size(); i++) {
+                String key = validateKey(sections.key(i));
+                if(i > 0) target.append(SEPARATOR);
+                target.append(key).append(ASSIGNMENT);
+                int start = target.length();
+                sections.writeValue(i, target);
+                int end = target.length();
+                if(McfParser.isBlank(target, start, end)){
+                    throw new IllegalArgumentException("Section value cannot be null or blank");
+                }
+                if(McfParser.indexOf(target, SEPARATOR, start, end) != end){
+                    throw new IllegalArgumentException("Section value cannot contain ',' sign" );
+                }
+            }
+        }catch (RuntimeException e){
+            target.setLength(initial);
+            throw e;
+        }
+    }
+
+    /**
+     * Append sections to the bytes of the sink, the same as
+     * {@link McfParametersParser#compose(SectionSource, StringBuilder)}.
+     * @param sections source of Modular Crypt Format parameters
+     * @param target output that composed string is appended to
+     */
+    @Override
+    public void compose(SectionSource sections, ByteSink target) {
+        int initial = target.length();
+        try{
+            for (int i = 0; i < sections.size(); i++) {
+                String key = validateKey(sections.key(i));
+                if(i > 0) target.append(SEPARATOR);
+                target.append(key).append(ASSIGNMENT);
+                int start = target.length();
+                sections.writeValue(i, target);
+                int end = target.length();
+                if(McfParser.isBlank(target, start, end)){
+                    throw new IllegalArgumentException("Section value cannot be null or blank");
+                }
+                if(McfParser.indexOf(target, SEPARATOR, start, end) != end){
+                    throw new IllegalArgumentException("Section value cannot contain ',' sign" );
+                }
+            }
+        }catch (RuntimeException e){
+            target.setLength(initial);
+            throw e;
         }
-        return String.join(",",pairs);
     }
 
     /**
      * Create sections out of composed MCF parameter format string value.
+     * Blank pairs between ',' signs are skipped.
      * <p>Example composed:</p>
      * {@code String composed = "a=1,bc=d,e=fg"}
      * @param composed composed string value
      * @return parsed sections of that format
+     * @throws StringIndexOutOfBoundsException when pair does not contain '=' sign
      */
     @Override
     public Section[] parse(String composed) {
-        String[] parts = Arrays.stream(composed.split(","))
-                .filter(s->!s.isBlank())
-                .toArray(String[]::new);
-        Section[] sections = new Section[parts.length];
+        Section[] sections = new Section[4];
+        int count = 0;
+        int length = composed.length();
+        int start = 0;
+        while(start <= length){
+            int end = composed.indexOf(SEPARATOR, start);
+            if(end < 0) end = length;
+            if(!McfParser.isBlank(composed, start, end)){
+                int equalIndex = composed.indexOf(ASSIGNMENT, start);
+                if(equalIndex < 0 || equalIndex >= end){
+                    throw new StringIndexOutOfBoundsException(
+                            "Parameter does not contain '=' sign: " + composed.substring(start, end));
+                }
+                if(count == sections.length) sections = Arrays.copyOf(sections, count * 2);
+                sections[count++] = new Section(
+                        composed.substring(start, equalIndex),
+                        composed.substring(equalIndex + 1, end));
+            }
+            start = end + 1;
+        }
+        return count == sections.length ? sections : Arrays.copyOf(sections, count);
+    }
 
-        for(int i=0; i< parts.length; i++){
-            String pair = parts[i];
-            int equalIndex = pair.indexOf('=');
-            String key = pair.substring(0, equalIndex);
-            String value = pair.substring(equalIndex + 1);
-            sections[i] = new Section(key,value);
+    /**
+     * Create views of sections out of composed MCF parameter format, the same as
+     * {@link McfParametersParser#parse(String)}, but keys and values are not copied.
+     * @param composed composed string value
+     * @return views of parsed sections
+     * @throws StringIndexOutOfBoundsException when pair does not contain '=' sign
+     */
+    @Override
+    public SectionView[] parseViews(CharSequence composed) {
+        return parseViews(composed, 0, composed.length());
+    }
+
+    /**
+     * Create views of sections out of range of the source, the same as
+     * {@link McfParametersParser#parseViews(CharSequence)} of the range.
+     * It is used when parameters are nested in a section of Modular Crypt Format.
+     * @param composed text that contains composed parameters
+     * @param from start index inclusive
+     * @param to end index exclusive
+     * @return views of parsed sections
+     * @throws StringIndexOutOfBoundsException when pair does not contain '=' sign
+     */
+    @Override
+    public SectionView[] parseViews(CharSequence composed, int from, int to) {
+        SectionView[] views = new SectionView[4];
+        int count = 0;
+        int start = from;
+        while(start <= to){
+            int end = McfParser.indexOf(composed, SEPARATOR, start, to);
+            if(!McfParser.isBlank(composed, start, end)){
+                int equalIndex = McfParser.indexOf(composed, ASSIGNMENT, start, end);
+                if(equalIndex == end){
+                    throw new StringIndexOutOfBoundsException(
+                            "Parameter does not contain '=' sign: " + composed.subSequence(start, end));
+                }
+                if(count == views.length) views = Arrays.copyOf(views, count * 2);
+                views[count++] = new SectionView(composed, start, equalIndex, equalIndex + 1, end);
+            }
+            start = end + 1;
         }
-        return sections;
+        return count == views.length ? views : Arrays.copyOf(views, count);
     }
 
      /** Verify if specified section of MCF is valid value.
@@ -61,28 +178,29 @@ public class McfParametersParser implements Parser{
      */
     private static Section validateSection(Section section){
         if(section == null) throw new IllegalArgumentException("Section cannot be null");
-        String key = section.key();
+        validateKey(section.key());
         String value  =section.value();
-        if(key == null || key.isBlank()){
-            throw new IllegalArgumentException("Section key cannot be null or blank");
-        }
-        if(hasSign(key,'=') || hasSign(key,',') ){
-            throw new IllegalArgumentException("Section key cannot contain ',' or '=' sign" );
-        }
         if(value == null || value.isBlank()){
             throw new IllegalArgumentException("Section value cannot be null or blank");
         }
-        if(hasSign(value,',')){
+        if(value.indexOf(SEPARATOR) >= 0){
             throw new IllegalArgumentException("Section value cannot contain ',' sign" );
         }
         return section;
     }
 
-    private static boolean hasSign(String section,char sign){
-        char[] chars = section.toCharArray();
-        for(char c: chars){
-            if(c == sign) return true;
+    /**
+     * Verify if key is not blank and does not contain ',' and '=' signs.
+     * @param key section key
+     * @return the same key
+     */
+    private static String validateKey(String key){
+        if(key == null || key.isBlank()){
+            throw new IllegalArgumentException("Section key cannot be null or blank");
+        }
+        if(key.indexOf(ASSIGNMENT) >= 0 || key.indexOf(SEPARATOR) >= 0){
+            throw new IllegalArgumentException("Section key cannot contain ',' or '=' sign" );
         }
-        return false;
+        return key;
     }
 }
@@ -11,6 +11,8 @@ import java.util.Arrays;
  */
 public class McfParser implements Parser {
 
+    private static final char SEPARATOR = '$';
+
     /**
      * Validate if specified section of MCF is valid value
      * @param section section of composed MCF value
@@ -18,8 +20,10 @@ public class McfParser implements Parser {
      */
     private static Section validateSection(Section section){
         if(section == null) throw new IllegalArgumentException("Section must not be null");
-        if(section.value().isBlank()) throw new IllegalArgumentException("Section value must not be blank");
-        if(section.value().contains("$")) throw new IllegalArgumentException("Section value must not contain $ sign");
+        if(section.value() == null || section.value().isBlank())
+            throw new IllegalArgumentException("Section value must not be null or blank");
+        if(section.value().indexOf(SEPARATOR) >= 0)
+            throw new IllegalArgumentException("Section value must not contain $ sign");
         return section;
     }
 
@@ -31,29 +35,188 @@ public class McfParser implements Parser {
      */
     @Override
     public String compose(Section[] sections) {
-        StringBuilder stringBuilder = new StringBuilder();
-        Arrays.stream(sections)
-                .map(McfParser::validateSection)
-                .forEach(
-                        s -> stringBuilder.append("$").append(s.value())
-                );
+        int length = 0;
+        for(Section section : sections){
+            length += validateSection(section).value().length() + 1;
+        }
+        StringBuilder stringBuilder = new StringBuilder(length);
+        for(Section section : sections){
+            stringBuilder.append(SEPARATOR).append(section.value());
+        }
         return stringBuilder.toString();
     }
 
+    /**
+     * Append sections values with a '$' sign at the beginning of each value to the target,
+     * values are written directly into the target. It will ignore section names.
+     * @param sections source of Modular Crypt Format sections
+     * @param target output that composed string is appended to
+     */
+    @Override
+    public void compose(SectionSource sections, StringBuilder target) {
+        int initial = target.length();
+        try{
+            for(int i = 0; i < sections.size(); i++){
+                target.append(SEPARATOR);
+                int start = target.length();
+                sections.writeValue(i, target);
+                int end = target.length();
+                if(isBlank(target, start, end))
+                    throw new IllegalArgumentException("Section value must not be null or blank");
+                if(indexOf(target, SEPARATOR, start, end) != end)
+                    throw new IllegalArgumentException("Section value must not contain $ sign");
+            }
+        }catch (RuntimeException e){
+            target.setLength(initial);
+            throw e;
+        }
+    }
+
+    /**
+     * Append sections values with a '$' sign at the beginning of each value to the bytes of the sink,
+     * the same as {@link McfParser#compose(SectionSource, StringBuilder)}.
+     * @param sections source of Modular Crypt Format sections
+     * @param target output that composed string is appended to
+     */
+    @Override
+    public void compose(SectionSource sections, ByteSink target) {
+        int initial = target.length();
+        try{
+            for(int i = 0; i < sections.size(); i++){
+                target.append(SEPARATOR);
+                int start = target.length();
+                sections.writeValue(i, target);
+                int end = target.length();
+                if(isBlank(target, start, end))
+                    throw new IllegalArgumentException("Section value must not be null or blank");
+                if(indexOf(target, SEPARATOR, start, end) != end)
+                    throw new IllegalArgumentException("Section value must not contain $ sign");
+            }
+        }catch (RuntimeException e){
+            target.setLength(initial);
+            throw e;
+        }
+    }
+
+    /**
+     * Compose leading sections values, the same as {@link McfParser#compose(Section[])}.
+     * Composing remaining sections appended to the prefix gives the same result as composing all sections.
+     * @param leading leading sections of Modular Crypt Format
+     * @return composed prefix
+     */
+    @Override
+    public String composePrefix(Section[] leading) {
+        return compose(leading);
+    }
+
+    /**
+     * Check if source starts with the prefix, that is followed by '$' sign or the end of the source.
+     * @param source Modular Crypt Format value
+     * @param prefix composed prefix
+     * @return length of the prefix, or -1 when source does not start with the prefix
+     */
+    @Override
+    public int matchPrefix(CharSequence source, String prefix) {
+        int length = prefix.length();
+        if(source.length() < length) return -1;
+        if(source.length() > length && source.charAt(length) != SEPARATOR) return -1;
+        if(source instanceof String string){
+            return string.regionMatches(0, prefix, 0, length) ? length : -1;
+        }
+        for(int i = 0; i < length; i++){
+            if(source.charAt(i) != prefix.charAt(i)) return -1;
+        }
+        return length;
+    }
+
     /**
      * Return sections from Modular Crypt Format. Due to MCF limitative nature,
      * this will return sections without section names. If section names are required
-     * use {@link McfParametersParser} instead when serializing
+     * use {@link McfParametersParser} instead when serializing.
+     * Blank values between '$' signs are skipped.
      * @param composed composed string format produced by this parsed
      * @return sections without section names.
      */
     @Override
     public Section[] parse(String composed) {
-        return Arrays.stream(composed.split("\\$"))
-                .filter(s->!s.isBlank())
-                .map(s->new Section(null,s))
-                .map(McfParser::validateSection)
-                .toArray(Section[]::new);
+        Section[] sections = new Section[8];
+        int count = 0;
+        int length = composed.length();
+        int start = 0;
+        while(start <= length){
+            int end = composed.indexOf(SEPARATOR, start);
+            if(end < 0) end = length;
+            if(!isBlank(composed, start, end)){
+                if(count == sections.length) sections = Arrays.copyOf(sections, count * 2);
+                sections[count++] = new Section(null, composed.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return count == sections.length ? sections : Arrays.copyOf(sections, count);
+    }
+
+    /**
+     * Return views of sections from Modular Crypt Format, the same as {@link McfParser#parse(String)},
+     * but values are not copied.
+     * @param composed composed string format produced by this parsed
+     * @return views of sections without section names.
+     */
+    @Override
+    public SectionView[] parseViews(CharSequence composed) {
+        return parseViews(composed, 0, composed.length());
+    }
+
+    /**
+     * Return views of sections from range of the source, the same as {@link McfParser#parseViews(CharSequence)}
+     * of the range. Views refer to the source, so values are not copied.
+     * @param composed text that contains composed string format
+     * @param from start index inclusive
+     * @param to end index exclusive
+     * @return views of sections without section names.
+     */
+    @Override
+    public SectionView[] parseViews(CharSequence composed, int from, int to) {
+        SectionView[] views = new SectionView[8];
+        int count = 0;
+        int start = from;
+        while(start <= to){
+            int end = indexOf(composed, SEPARATOR, start, to);
+            if(!isBlank(composed, start, end)){
+                if(count == views.length) views = Arrays.copyOf(views, count * 2);
+                views[count++] = new SectionView(composed, -1, -1, start, end);
+            }
+            start = end + 1;
+        }
+        return count == views.length ? views : Arrays.copyOf(views, count);
+    }
+
+    /**
+     * Find index of the first occurrence of the specified sign
+     * @param value string value
+     * @param sign searched sign
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return index of the sign, or end when sign was not found
+     */
+    static int indexOf(CharSequence value, char sign, int start, int end){
+        for(int i = start; i < end; i++){
+            if(value.charAt(i) == sign) return i;
+        }
+        return end;
+    }
+
+    /**
+     * Check if characters of specified range are white spaces, the same way as {@link String#isBlank()}
+     * @param value string value
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return true if range is empty or contains only white spaces
+     */
+    static boolean isBlank(CharSequence value, int start, int end){
+        for(int i = start; i < end; i++){
+            if(!Character.isWhitespace(value.charAt(i))) return false;
+        }
+        return true;
     }
 
 }
@@ -14,10 +14,102 @@ public interface Parser {
      */
     String compose(Section[] sections);
 
+    /**
+     * Append composed string of sections to the target. Values are written by the source
+     * directly into the target. Result is the same as {@link Parser#compose(Section[])}.
+     * When section is invalid, then target is restored to its original length, and exception is thrown.
+     * Default implementation copies values to {@link Section} array and composes it.
+     * @param sections source of key value pairs
+     * @param target output that composed string is appended to
+     */
+    default void compose(SectionSource sections, StringBuilder target){
+        Section[] copied = new Section[sections.size()];
+        StringBuilder value = new StringBuilder();
+        for(int i = 0; i < copied.length; i++){
+            value.setLength(0);
+            sections.writeValue(i, value);
+            copied[i] = new Section(sections.key(i), value.toString());
+        }
+        target.append(compose(copied));
+    }
+
+    /**
+     * Append composed string of sections to the bytes of the sink, with the same result as
+     * {@link Parser#compose(SectionSource, StringBuilder)}. When section is invalid, then sink is restored
+     * to its original length, and exception is thrown.
+     * Default implementation composes sections to a {@link StringBuilder}, and appends it to the sink.
+     * @param sections source of key value pairs
+     * @param target output that composed string is appended to
+     * @throws java.nio.BufferOverflowException when sink buffer has not enough remaining space
+     */
+    default void compose(SectionSource sections, ByteSink target){
+        StringBuilder composed = new StringBuilder();
+        compose(sections, composed);
+        int initial = target.length();
+        try{
+            target.append(composed);
+        }catch (RuntimeException e){
+            target.setLength(initial);
+            throw e;
+        }
+    }
+
+    /**
+     * Compose leading sections to a prefix, which composed remaining sections can be appended to,
+     * with the same result as composing all sections. It is used to precompose constant sections once.
+     * Default implementation returns null, which means that parser does not support prefixes.
+     * @param leading leading key value pairs
+     * @return composed prefix, or null when prefixes are not supported
+     */
+    default String composePrefix(Section[] leading){
+        return null;
+    }
+
+    /**
+     * Check if source starts with prefix returned by {@link Parser#composePrefix(Section[])}, and return
+     * index where remaining sections start. Default implementation returns -1.
+     * @param source output of this parser
+     * @param prefix composed prefix
+     * @return index of remaining sections, or -1 when source does not start with the prefix
+     */
+    default int matchPrefix(CharSequence source, String prefix){
+        return -1;
+    }
+
     /**
      * Parse string to sections which are key value pairs of string type
      * @param computed output of this parser
      * @return key value pairs
      */
     Section[] parse(String computed);
+
+    /**
+     * Parse string to views of sections, which store sections ranges in the source,
+     * rather than copying keys and values. Views produce the same keys and values
+     * as {@link Parser#parse(String)}.
+     * Default implementation creates views of {@link Parser#parse(String)} sections.
+     * @param computed output of this parser
+     * @return views of key value pairs
+     */
+    default SectionView[] parseViews(CharSequence computed){
+        Section[] sections = parse(computed.toString());
+        SectionView[] views = new SectionView[sections.length];
+        for(int i = 0; i < views.length; i++){
+            views[i] = SectionView.of(sections[i]);
+        }
+        return views;
+    }
+
+    /**
+     * Parse range of the source to views of sections, the same as {@link Parser#parseViews(CharSequence)}
+     * of the range. It is used to parse values nested in a section of other composed string.
+     * Default implementation parses subsequence of the range.
+     * @param source text that contains output of this parser
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return views of key value pairs
+     */
+    default SectionView[] parseViews(CharSequence source, int start, int end){
+        return parseViews(source.subSequence(start, end));
+    }
 }
@@ -0,0 +1,79 @@
+package io.github.ysdaeth.jmodularcrypt.core.parser;
+
+/**
+ * Source of key value pairs that writes values directly into the composed output,
+ * so values do not have to be converted to intermediate strings first.
+ */
+public interface SectionSource {
+
+    /**
+     * @return number of sections
+     */
+    int size();
+
+    /**
+     * @param index index of the section
+     * @return key of the section
+     */
+    String key(int index);
+
+    /**
+     * Append string representation of section value to the target
+     * @param index index of the section
+     * @param target output that value is appended to
+     */
+    void writeValue(int index, StringBuilder target);
+
+    /**
+     * Append string representation of section value to the bytes of the sink. Default implementation
+     * writes value to the scratch builder of the sink, and appends the builder.
+     * @param index index of the section
+     * @param target output that value is appended to
+     */
+    default void writeValue(int index, ByteSink target){
+        writeValue(index, target.scratch());
+        target.appendScratch();
+    }
+
+    /**
+     * Return length of string representation of section value, when it is known without writing the value.
+     * It is used by formats that write the length before the value. Default implementation returns -1.
+     * @param index index of the section
+     * @return number of characters written by {@link SectionSource#writeValue(int, StringBuilder)},
+     * or -1 when length is not known
+     */
+    default int valueLength(int index){
+        return -1;
+    }
+
+    /**
+     * Create source of specified sections
+     * @param sections key value pairs
+     * @return source of the sections
+     */
+    static SectionSource of(Section[] sections){
+        return new SectionSource() {
+            @Override
+            public int size() {
+                return sections.length;
+            }
+
+            @Override
+            public String key(int index) {
+                return sections[index].key();
+            }
+
+            @Override
+            public void writeValue(int index, StringBuilder target) {
+                String value = sections[index].value();
+                if(value != null) target.append(value);
+            }
+
+            @Override
+            public int valueLength(int index) {
+                String value = sections[index].value();
+                return value == null ? 0 : value.length();
+            }
+        };
+    }
+}
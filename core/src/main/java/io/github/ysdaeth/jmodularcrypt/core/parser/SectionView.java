@@ -0,0 +1,57 @@
+package io.github.ysdaeth.jmodularcrypt.core.parser;
+
+/**
+ * Lightweight view of a key value pair inside the source text. Unlike {@link Section},
+ * view does not copy key and value, it stores their ranges in the source instead,
+ * so values can be decoded directly from the source, without creating substrings.
+ * When section has no key, then key range is {@code -1, -1}.
+ * @param source text that contains the section
+ * @param keyStart key start index inclusive, or -1 when there is no key
+ * @param keyEnd key end index exclusive, or -1 when there is no key
+ * @param valueStart value start index inclusive
+ * @param valueEnd value end index exclusive
+ */
+public record SectionView(CharSequence source, int keyStart, int keyEnd, int valueStart, int valueEnd) {
+
+    /**
+     * Create view of specified section
+     * @param section key value pair
+     * @return view of the section
+     */
+    public static SectionView of(Section section){
+        String value = section.value();
+        if(section.key() == null){
+            return new SectionView(value, -1, -1, 0, value.length());
+        }
+        String key = section.key();
+        return new SectionView(key + value, 0, key.length(), key.length(), key.length() + value.length());
+    }
+
+    /**
+     * @return copy of the key or null if section has no key
+     */
+    public String key(){
+        return keyStart < 0 ? null : source.subSequence(keyStart, keyEnd).toString();
+    }
+
+    /**
+     * @return copy of the value
+     */
+    public String value(){
+        return source.subSequence(valueStart, valueEnd).toString();
+    }
+
+    /**
+     * @return length of the value
+     */
+    public int valueLength(){
+        return valueEnd - valueStart;
+    }
+
+    /**
+     * @return section with copied key and value
+     */
+    public Section toSection(){
+        return new Section(key(), value());
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer;
+
+/**
+ * Strategy used by {@link ConfigurableSerializer} to read and write modules of a class.
+ * <ul>
+ *     <li>{@link AccessStrategy#REFLECTION} invokes field getters, setters and constructor
+ *     reflectively in a loop over the modules. Getters and constructor are composed with module converters
+ *     to method handles, so primitive modules are written and decoded without boxing</li>
+ *     <li>{@link AccessStrategy#HIDDEN_CLASS} generates a dedicated hidden class for every
+ *     serialized class, with straight-line field reads, writes and a direct constructor call.
+ *     Generated class reads and creates objects from {@code Object[]} values, so primitive modules
+ *     are boxed on every serialization and deserialization</li>
+ * </ul>
+ * Both strategies follow the same {@link io.github.ysdaeth.jmodularcrypt.core.annotations.Module}
+ * and {@link io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator} rules.
+ * Serializers generated at compile time are used instead of either strategy, and like
+ * {@link AccessStrategy#HIDDEN_CLASS} they box primitive modules. Records without generated serializer are accessed
+ * with method handles by both strategies, and do not box them. {@link AccessStrategy#REFLECTION} should be preferred
+ * for classes with primitive modules that are serialized in hot paths.
+ */
+public enum AccessStrategy {
+    REFLECTION, HIDDEN_CLASS
+}
@@ -0,0 +1,25 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer;
+
+/**
+ * Accessor that reads all modules of an object and creates an object from modules values
+ * at once. Values are always in the same order as {@link ModuleAccessor#order()}.
+ * Implementations are generated by {@link ClassAccessorGenerator}.
+ */
+interface ClassAccessor {
+
+    /**
+     * Read values of all modules of specified object
+     * @param object object to read
+     * @return modules values ordered by module order
+     * @throws Throwable when field could not be read
+     */
+    Object[] read(Object object) throws Throwable;
+
+    /**
+     * Create object out of modules values
+     * @param values modules values ordered by module order
+     * @return created object
+     * @throws Throwable when object could not be created
+     */
+    Object create(Object[] values) throws Throwable;
+}
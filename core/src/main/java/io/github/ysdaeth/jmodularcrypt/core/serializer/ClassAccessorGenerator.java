@@ -0,0 +1,450 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generator of {@link ClassAccessor} implementations defined as hidden classes.
+ * Generated class contains one static final {@link MethodHandle} per module, passed to the class
+ * as class data, and straight-line {@link ClassAccessor#read(Object)} and
+ * {@link ClassAccessor#create(Object[])} implementations, so the JIT compiler treats every handle
+ * as a constant and inlines the field access and constructor call.
+ * <p>Generated class is equivalent to:</p>
+ * <blockquote><pre>
+ * final class Accessor implements ClassAccessor {
+ *     static final MethodHandle CONSTRUCTOR, GETTER_0, GETTER_1;
+ *
+ *     public Object[] read(Object o){
+ *         return new Object[]{ GETTER_0.invokeExact(o), GETTER_1.invokeExact(o) };
+ *     }
+ *     public Object create(Object[] v){
+ *         return CONSTRUCTOR.invokeExact(v[0], v[1]);
+ *     }
+ * }
+ * </pre></blockquote>
+ * When a class does not have constructor annotated with
+ * {@link io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator}, then
+ * {@code create} calls no args constructor followed by every module setter.
+ */
+final class ClassAccessorGenerator {
+    private static final int CLASS_VERSION = 61;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ASTORE_0 = 0x4b;
+    private static final int ASTORE_2 = 0x4d;
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int AALOAD = 0x32;
+    private static final int AASTORE = 0x53;
+    private static final int DUP = 0x59;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int PUTSTATIC = 0xb3;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int ANEWARRAY = 0xbd;
+    private static final int CHECKCAST = 0xc0;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String METHOD_HANDLE = "java/lang/invoke/MethodHandle";
+    private static final String HANDLE_DESCRIPTOR = "Ljava/lang/invoke/MethodHandle;";
+    private static final String PACKAGE = ClassAccessor.class.getPackageName().replace('.', '/') + '/';
+
+    private ClassAccessorGenerator(){}
+
+    /**
+     * Define hidden class that accesses modules of specified class.
+     * @param type class that modules will be accessed
+     * @param modules module accessors sorted by {@link ModuleAccessor#order()}
+     * @param constructor unreflected constructor, either all args constructor or no args constructor
+     * @param argsConstructor true when constructor takes all modules values as parameters
+     * @return instance of the generated accessor
+     */
+    static ClassAccessor generate(Class<?> type, List<ModuleAccessor> modules,
+                                  MethodHandle constructor, boolean argsConstructor){
+        int size = modules.size();
+        List<MethodHandle> handles = new ArrayList<>(size * 2 + 1);
+        handles.add(constructor.asType(constructor.type().generic()));
+        for(ModuleAccessor module : modules){
+            handles.add(module.getter().asType(MethodType.genericMethodType(1)));
+        }
+        if(!argsConstructor){
+            for(ModuleAccessor module : modules){
+                if(module.setter() == null) throw new IllegalArgumentException(
+                        "Module field '" + module.name() + "' is not writable, constructor annotated with " +
+                        "SerializerCreator is required in the class: " + type);
+                handles.add(module.setter().asType(
+                        MethodType.methodType(void.class, Object.class, Object.class)));
+            }
+        }
+
+        byte[] bytes = classBytes(type, size, handles.size(), argsConstructor);
+        try{
+            MethodHandles.Lookup lookup = MethodHandles.lookup()
+                    .defineHiddenClassWithClassData(bytes, List.copyOf(handles), true);
+            return (ClassAccessor) lookup.findConstructor(
+                    lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        }catch (Throwable e){
+            throw new IllegalStateException("Failed to generate accessor for class: " + type, e);
+        }
+    }
+
+    /**
+     * Create bytes of the accessor class file
+     * @param type class that modules will be accessed
+     * @param size number of modules
+     * @param handlesCount number of method handles passed as class data
+     * @param argsConstructor true when constructor takes all modules values as parameters
+     * @return class file bytes
+     */
+    private static byte[] classBytes(Class<?> type, int size, int handlesCount, boolean argsConstructor){
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(PACKAGE + "Accessor$" + type.getSimpleName());
+        int superClass = pool.classRef(OBJECT);
+        int accessorInterface = pool.classRef(ClassAccessor.class.getName().replace('.', '/'));
+        int[] fields = new int[handlesCount];
+        for(int i = 0; i < handlesCount; i++){
+            fields[i] = pool.fieldRef(thisClass, "H" + i, HANDLE_DESCRIPTOR);
+        }
+
+        List<byte[]> methods = List.of(
+                method(pool, ACC_PUBLIC, "<init>", "()V", 1, 1, constructorCode(pool, superClass)),
+                method(pool, ACC_STATIC, "<clinit>", "()V", 3, 1, initializerCode(pool, fields)),
+                method(pool, ACC_PUBLIC, "read", "(Ljava/lang/Object;)[Ljava/lang/Object;", 5, 2,
+                        readCode(pool, fields, size)),
+                argsConstructor
+                        ? method(pool, ACC_PUBLIC, "create", "([Ljava/lang/Object;)Ljava/lang/Object;", size + 3, 2,
+                                argsCreateCode(pool, fields, size))
+                        : method(pool, ACC_PUBLIC, "create", "([Ljava/lang/Object;)Ljava/lang/Object;", 4, 3,
+                                settersCreateCode(pool, fields, size))
+        );
+
+        Code out = new Code();
+        out.u4(0xCAFEBABE);
+        out.u2(0);
+        out.u2(CLASS_VERSION);
+        pool.writeTo(out);
+        out.u2(ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+        out.u2(thisClass);
+        out.u2(superClass);
+        out.u2(1);
+        out.u2(accessorInterface);
+        out.u2(handlesCount);
+        for(int i = 0; i < handlesCount; i++){
+            out.u2(ACC_STATIC | ACC_FINAL);
+            out.u2(pool.utf8("H" + i));
+            out.u2(pool.utf8(HANDLE_DESCRIPTOR));
+            out.u2(0);
+        }
+        out.u2(methods.size());
+        methods.forEach(out::bytes);
+        out.u2(0);
+        return out.toByteArray();
+    }
+
+    /**
+     * {@code super()}
+     */
+    private static Code constructorCode(ConstantPool pool, int superClass){
+        Code code = new Code();
+        code.u1(ALOAD_0);
+        code.u1(INVOKESPECIAL);
+        code.u2(pool.methodRef(superClass, "<init>", "()V"));
+        code.u1(RETURN);
+        return code;
+    }
+
+    /**
+     * {@code List handles = MethodHandles.classData(MethodHandles.lookup(), "_", List.class);}
+     * followed by {@code H[i] = (MethodHandle) handles.get(i);} for every handle
+     */
+    private static Code initializerCode(ConstantPool pool, int[] fields){
+        int methodHandles = pool.classRef("java/lang/invoke/MethodHandles");
+        int list = pool.classRef("java/util/List");
+        Code code = new Code();
+        code.u1(INVOKESTATIC);
+        code.u2(pool.methodRef(methodHandles, "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;"));
+        code.u1(LDC_W);
+        code.u2(pool.string("_"));
+        code.u1(LDC_W);
+        code.u2(list);
+        code.u1(INVOKESTATIC);
+        code.u2(pool.methodRef(methodHandles, "classData",
+                "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;"));
+        code.u1(CHECKCAST);
+        code.u2(list);
+        code.u1(ASTORE_0);
+        int get = pool.interfaceMethodRef(list, "get", "(I)Ljava/lang/Object;");
+        int methodHandle = pool.classRef(METHOD_HANDLE);
+        for(int i = 0; i < fields.length; i++){
+            code.u1(ALOAD_0);
+            code.push(i);
+            code.u1(INVOKEINTERFACE);
+            code.u2(get);
+            code.u1(2);
+            code.u1(0);
+            code.u1(CHECKCAST);
+            code.u2(methodHandle);
+            code.u1(PUTSTATIC);
+            code.u2(fields[i]);
+        }
+        code.u1(RETURN);
+        return code;
+    }
+
+    /**
+     * {@code return new Object[]{ H1.invokeExact(object), H2.invokeExact(object), ... };}
+     */
+    private static Code readCode(ConstantPool pool, int[] fields, int size){
+        int invoke = pool.methodRef(pool.classRef(METHOD_HANDLE), "invokeExact",
+                "(Ljava/lang/Object;)Ljava/lang/Object;");
+        Code code = new Code();
+        code.push(size);
+        code.u1(ANEWARRAY);
+        code.u2(pool.classRef(OBJECT));
+        for(int i = 0; i < size; i++){
+            code.u1(DUP);
+            code.push(i);
+            code.u1(GETSTATIC);
+            code.u2(fields[i + 1]);
+            code.u1(ALOAD_1);
+            code.u1(INVOKEVIRTUAL);
+            code.u2(invoke);
+            code.u1(AASTORE);
+        }
+        code.u1(ARETURN);
+        return code;
+    }
+
+    /**
+     * {@code return H0.invokeExact(values[0], values[1], ...);}
+     */
+    private static Code argsCreateCode(ConstantPool pool, int[] fields, int size){
+        int invoke = pool.methodRef(pool.classRef(METHOD_HANDLE), "invokeExact",
+                "(" + "Ljava/lang/Object;".repeat(size) + ")Ljava/lang/Object;");
+        Code code = new Code();
+        code.u1(GETSTATIC);
+        code.u2(fields[0]);
+        for(int i = 0; i < size; i++){
+            code.u1(ALOAD_1);
+            code.push(i);
+            code.u1(AALOAD);
+        }
+        code.u1(INVOKEVIRTUAL);
+        code.u2(invoke);
+        code.u1(ARETURN);
+        return code;
+    }
+
+    /**
+     * {@code Object o = H0.invokeExact();} followed by {@code S[i].invokeExact(o, values[i]);}
+     * for every module setter and {@code return o;}
+     */
+    private static Code settersCreateCode(ConstantPool pool, int[] fields, int size){
+        int methodHandle = pool.classRef(METHOD_HANDLE);
+        int construct = pool.methodRef(methodHandle, "invokeExact", "()Ljava/lang/Object;");
+        int set = pool.methodRef(methodHandle, "invokeExact", "(Ljava/lang/Object;Ljava/lang/Object;)V");
+        Code code = new Code();
+        code.u1(GETSTATIC);
+        code.u2(fields[0]);
+        code.u1(INVOKEVIRTUAL);
+        code.u2(construct);
+        code.u1(ASTORE_2);
+        for(int i = 0; i < size; i++){
+            code.u1(GETSTATIC);
+            code.u2(fields[size + 1 + i]);
+            code.u1(ALOAD_2);
+            code.u1(ALOAD_1);
+            code.push(i);
+            code.u1(AALOAD);
+            code.u1(INVOKEVIRTUAL);
+            code.u2(set);
+        }
+        code.u1(ALOAD_2);
+        code.u1(ARETURN);
+        return code;
+    }
+
+    /**
+     * Create method_info structure with a single Code attribute. Generated code has no branches,
+     * so it does not require a StackMapTable attribute.
+     */
+    private static byte[] method(ConstantPool pool, int access, String name, String descriptor,
+                                 int maxStack, int maxLocals, Code body){
+        byte[] bytecode = body.toByteArray();
+        Code method = new Code();
+        method.u2(access);
+        method.u2(pool.utf8(name));
+        method.u2(pool.utf8(descriptor));
+        method.u2(1);
+        method.u2(pool.utf8("Code"));
+        method.u4(12 + bytecode.length);
+        method.u2(maxStack);
+        method.u2(maxLocals);
+        method.u4(bytecode.length);
+        method.bytes(bytecode);
+        method.u2(0);
+        method.u2(0);
+        return method.toByteArray();
+    }
+
+    /**
+     * Big endian byte output used for class file structures and bytecode
+     */
+    private static final class Code {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        void u1(int value){
+            write(() -> out.writeByte(value));
+        }
+
+        void u2(int value){
+            write(() -> out.writeShort(value));
+        }
+
+        void u4(int value){
+            write(() -> out.writeInt(value));
+        }
+
+        void bytes(byte[] value){
+            write(() -> out.write(value));
+        }
+
+        void utf(String value){
+            write(() -> out.writeUTF(value));
+        }
+
+        /**
+         * Push int constant to the operand stack with the shortest instruction
+         */
+        void push(int value){
+            if(value <= 5){
+                u1(ICONST_0 + value);
+            }else if(value <= Byte.MAX_VALUE){
+                u1(BIPUSH);
+                u1(value);
+            }else{
+                u1(SIPUSH);
+                u2(value);
+            }
+        }
+
+        byte[] toByteArray(){
+            return bytes.toByteArray();
+        }
+
+        private static void write(Write write){
+            try{
+                write.run();
+            }catch (IOException e){
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private interface Write {
+            void run() throws IOException;
+        }
+    }
+
+    /**
+     * Class file constant pool with deduplicated entries
+     */
+    private static final class ConstantPool {
+        private static final int UTF8 = 1;
+        private static final int CLASS = 7;
+        private static final int STRING = 8;
+        private static final int FIELD = 9;
+        private static final int METHOD = 10;
+        private static final int INTERFACE_METHOD = 11;
+        private static final int NAME_AND_TYPE = 12;
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final Code entries = new Code();
+        private int count = 1;
+
+        int utf8(String value){
+            return entry("U" + value, () -> {
+                entries.u1(UTF8);
+                entries.utf(value);
+            });
+        }
+
+        int classRef(String internalName){
+            int name = utf8(internalName);
+            return entry("C" + internalName, () -> {
+                entries.u1(CLASS);
+                entries.u2(name);
+            });
+        }
+
+        int string(String value){
+            int utf = utf8(value);
+            return entry("S" + value, () -> {
+                entries.u1(STRING);
+                entries.u2(utf);
+            });
+        }
+
+        int fieldRef(int owner, String name, String descriptor){
+            return memberRef(FIELD, owner, name, descriptor);
+        }
+
+        int methodRef(int owner, String name, String descriptor){
+            return memberRef(METHOD, owner, name, descriptor);
+        }
+
+        int interfaceMethodRef(int owner, String name, String descriptor){
+            return memberRef(INTERFACE_METHOD, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, int owner, String name, String descriptor){
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = entry("N" + name + ' ' + descriptor, () -> {
+                entries.u1(NAME_AND_TYPE);
+                entries.u2(nameIndex);
+                entries.u2(descriptorIndex);
+            });
+            return entry("M" + tag + ' ' + owner + ' ' + nameAndType, () -> {
+                entries.u1(tag);
+                entries.u2(owner);
+                entries.u2(nameAndType);
+            });
+        }
+
+        private int entry(String key, Runnable writer){
+            Integer index = indexes.get(key);
+            if(index != null) return index;
+            writer.run();
+            indexes.put(key, count);
+            return count++;
+        }
+
+        void writeTo(Code out){
+            out.u2(count);
+            out.bytes(entries.toByteArray());
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package io.github.ysdaeth.jmodularcrypt.core.serializer;
 
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+import io.github.ysdaeth.jmodularcrypt.core.parser.Parser;
 import io.github.ysdaeth.jmodularcrypt.core.parser.Section;
+import io.github.ysdaeth.jmodularcrypt.core.parser.SectionSource;
+import io.github.ysdaeth.jmodularcrypt.core.parser.SectionView;
 
+import java.lang.invoke.MethodHandle;
 import java.util.List;
 import java.util.function.Function;
 
@@ -10,40 +15,317 @@ import java.util.function.Function;
  * for a class that contains annotations such as {@link Module}
  * and storing serialization and deserialization function implementation provided
  * by serializer based on the class logic.
+ * When leading modules are constant and parser supports prefixes, then they are composed once to a prefix,
+ * which is appended to the output and matched in the serialized value, instead of converting them.
+ * When class serializer has module writers and views creator, then modules are written and object is created
+ * without intermediate values array, so primitive modules are not boxed.
  */
 final class ClassSerializer {
 
     private final List<ModuleAccessor> modules;
-    private final Function<Object, Section[]> serializer;
-    private final Function<Section[],Object> deserializer;
+    private final ModuleConverter[] converters;
+    private final Function<Object, Object[]> reader;
+    private final Function<Object[],Object> creator;
+    private final Parser parser;
+    private final MethodHandle[] writers;
+    private final MethodHandle[] sinkWriters;
+    private final MethodHandle[] lengthReaders;
+    private final Function<SectionView[], Object> viewsCreator;
+    private final String prefix;
+    private final SectionView[] prefixViews;
 
+    /**
+     * @param modules sorted modules of the class
+     * @param converters conversion plans of the modules
+     * @param reader function that reads modules values ordered by module order
+     * @param creator function that creates object from modules values ordered by module order
+     * @param parser parser of the serialized values
+     */
     public ClassSerializer(List<ModuleAccessor> modules,
-                           Function<Object,Section[]> serializer,
-                           Function<Section[], Object> deserializer) {
+                           ModuleConverter[] converters,
+                           Function<Object,Object[]> reader,
+                           Function<Object[], Object> creator,
+                           Parser parser) {
+        this(modules, converters, reader, creator, parser, null, null);
+    }
+
+    /**
+     * @param modules sorted modules of the class
+     * @param converters conversion plans of the modules
+     * @param reader function that reads modules values ordered by module order
+     * @param creator function that creates object from modules values ordered by module order
+     * @param parser parser of the serialized values
+     * @param writers handles with {@code (Object, StringBuilder)void} type, which write modules of the object
+     *                ordered by module order, or null when modules are written from values read by the reader
+     * @param viewsCreator function that creates object directly from views of sections ordered by module order,
+     *                     or null when object is created from values converted by the converters
+     */
+    public ClassSerializer(List<ModuleAccessor> modules,
+                           ModuleConverter[] converters,
+                           Function<Object,Object[]> reader,
+                           Function<Object[], Object> creator,
+                           Parser parser,
+                           MethodHandle[] writers,
+                           Function<SectionView[], Object> viewsCreator) {
         this.modules = modules;
-        this.serializer = serializer;
-        this.deserializer = deserializer;
+        this.converters = converters;
+        this.reader = reader;
+        this.creator = creator;
+        this.parser = parser;
+        this.writers = writers;
+        this.sinkWriters = writers == null ? null : sinkWriters(modules, converters);
+        this.lengthReaders = writers == null ? null : lengthReaders(modules, converters);
+        this.viewsCreator = viewsCreator;
+        int leading = 0;
+        while(leading < modules.size() && modules.get(leading).constant() != null) leading++;
+        Section[] constants = new Section[leading];
+        SectionView[] views = new SectionView[leading];
+        for(int i = 0; i < leading; i++){
+            constants[i] = new Section(modules.get(i).name(), modules.get(i).constant());
+            views[i] = SectionView.of(new Section(null, constants[i].value()));
+        }
+        this.prefix = leading == 0 ? null : parser.composePrefix(constants);
+        this.prefixViews = views;
+    }
+
+    /**
+     * Create handles that write modules to the bytes of a sink, the same as module writers
+     * @param modules sorted modules of the class, with getters
+     * @param converters conversion plans of the modules
+     * @return handles with {@code (Object, ByteSink)void} type
+     */
+    private static MethodHandle[] sinkWriters(List<ModuleAccessor> modules, ModuleConverter[] converters){
+        MethodHandle[] writers = new MethodHandle[converters.length];
+        for(int i = 0; i < writers.length; i++){
+            writers[i] = converters[i].sinkWriter(modules.get(i).getter());
+        }
+        return writers;
+    }
+
+    /**
+     * Create handles that return lengths of modules string representations
+     * @param modules sorted modules of the class, with getters
+     * @param converters conversion plans of the modules
+     * @return handles with {@code (Object)int} type, or nulls when length of module is not known before it is written
+     */
+    private static MethodHandle[] lengthReaders(List<ModuleAccessor> modules, ModuleConverter[] converters){
+        MethodHandle[] readers = new MethodHandle[converters.length];
+        for(int i = 0; i < readers.length; i++){
+            readers[i] = converters[i].lengthReader(modules.get(i).getter());
+        }
+        return readers;
+    }
+
+    /**
+     * Compose object and append it to the target with the parser of this class serializer.
+     * Target is restored to its original length when object is invalid.
+     * @param object serialized object
+     * @param target output that composed object is appended to
+     */
+    public void compose(Object object, StringBuilder target){
+        if(prefix == null){
+            parser.compose(serialize(object), target);
+            return;
+        }
+        int initial = target.length();
+        target.append(prefix);
+        try{
+            parser.compose(serialize(object, prefixViews.length), target);
+        }catch (RuntimeException e){
+            target.setLength(initial);
+            throw e;
+        }
+    }
+
+    /**
+     * Compose object and append it to the bytes of the sink, the same as
+     * {@link ClassSerializer#compose(Object, StringBuilder)}. Modules are written directly to the sink,
+     * which is restored to its original length when object is invalid or buffer has not enough space.
+     * @param object serialized object
+     * @param target output that composed object is appended to
+     */
+    public void compose(Object object, ByteSink target){
+        int initial = target.length();
+        try{
+            if(prefix == null){
+                parser.compose(serialize(object), target);
+                return;
+            }
+            target.append(prefix);
+            parser.compose(serialize(object, prefixViews.length), target);
+        }catch (RuntimeException e){
+            target.setLength(initial);
+            throw e;
+        }
+    }
+
+    /**
+     * Parse serialized value to views of sections with the parser of this class serializer.
+     * When value starts with composed prefix of constant modules, then only remaining sections are parsed.
+     * @param source serialized value
+     * @return views of sections
+     */
+    public SectionView[] parse(CharSequence source){
+        int start = prefix == null ? -1 : parser.matchPrefix(source, prefix);
+        if(start < 0) return parser.parseViews(source);
+        SectionView[] remaining = parser.parseViews(source, start, source.length());
+        SectionView[] views = new SectionView[prefixViews.length + remaining.length];
+        System.arraycopy(prefixViews, 0, views, 0, prefixViews.length);
+        System.arraycopy(remaining, 0, views, prefixViews.length, remaining.length);
+        return views;
     }
 
     /**
-     * Convert sections that represents substrings of serialized string to object.
-     * @param parsed sections
+     * Convert views of sections that represents ranges of serialized string to object.
+     * @param parsed views of sections
      * @return deserialized object from sections
      */
-    public Object deserialize(Section[] parsed) {
+    public Object deserialize(SectionView[] parsed) {
         if(modules.size() != parsed.length){
             throw new IllegalArgumentException("Sections length does not match modules length");
         }
-        return deserializer.apply(parsed);
+        if(viewsCreator != null) return viewsCreator.apply(parsed);
+        Object[] values = new Object[parsed.length];
+        for(int i = 0; i < values.length; i++){
+            values[i] = decode(i, parsed[i]);
+        }
+        return creator.apply(values);
+    }
+
+    /**
+     * Convert view of a single section to value of the module
+     * @param index module order
+     * @param view view of the module section
+     * @return module value
+     */
+    Object decode(int index, SectionView view){
+        try{
+            return converters[index].fromView(view);
+        }catch (RuntimeException e){
+            throw ModuleConverter.conversionError(modules.get(index).name(), e);
+        }
+    }
+
+    /**
+     * Create object from converted modules values
+     * @param values modules values ordered by module order
+     * @return created object
+     */
+    Object create(Object[] values){
+        return creator.apply(values);
+    }
+
+    /**
+     * @return sorted modules of the class
+     */
+    List<ModuleAccessor> modules(){
+        return modules;
+    }
+
+    /**
+     * Read modules values of the object, and return source of sections that writes
+     * values string representation directly into the output
+     * @param object serialized object
+     * @return sections of the object
+     */
+    public SectionSource serialize(Object object) {
+        return serialize(object, 0);
     }
 
-    public Section[] serialize(Object object) {
-        Section[] result = serializer.apply(object);
-        if(result.length != modules.size()){
+    /**
+     * Read modules values of the object, and return source of sections starting from specified module
+     * @param object serialized object
+     * @param from order of the first module in the source
+     * @return sections of the object
+     */
+    private SectionSource serialize(Object object, int from) {
+        if(writers != null) return writersSource(object, from);
+        Object[] values = reader.apply(object);
+        if(values.length != modules.size()){
             throw new IllegalArgumentException(
                     "Deserialized fields length does not match with modules length");
         }
-        return result;
+        return new SectionSource() {
+            @Override
+            public int size() {
+                return values.length - from;
+            }
+
+            @Override
+            public String key(int index) {
+                return modules.get(from + index).name();
+            }
+
+            @Override
+            public void writeValue(int index, StringBuilder target) {
+                converters[from + index].write(values[from + index], target);
+            }
+
+            @Override
+            public void writeValue(int index, ByteSink target) {
+                converters[from + index].write(values[from + index], target);
+            }
+
+            @Override
+            public int valueLength(int index) {
+                return converters[from + index].length(values[from + index]);
+            }
+        };
+    }
+
+    /**
+     * Return source of sections that writes modules of the object with module writers, when value is written
+     * @param object serialized object
+     * @param from order of the first module in the source
+     * @return sections of the object
+     */
+    private SectionSource writersSource(Object object, int from) {
+        return new SectionSource() {
+            @Override
+            public int size() {
+                return writers.length - from;
+            }
+
+            @Override
+            public String key(int index) {
+                return modules.get(from + index).name();
+            }
+
+            @Override
+            public void writeValue(int index, StringBuilder target) {
+                try{
+                    writers[from + index].invokeExact(object, target);
+                }catch (RuntimeException e){
+                    throw e;
+                }catch (Throwable e){
+                    throw new RuntimeException("failed to serialize object. Cause:" + e.getCause(), e);
+                }
+            }
+
+            @Override
+            public void writeValue(int index, ByteSink target) {
+                try{
+                    sinkWriters[from + index].invokeExact(object, target);
+                }catch (RuntimeException e){
+                    throw e;
+                }catch (Throwable e){
+                    throw new RuntimeException("failed to serialize object. Cause:" + e.getCause(), e);
+                }
+            }
+
+            @Override
+            public int valueLength(int index) {
+                MethodHandle length = lengthReaders[from + index];
+                if(length == null) return -1;
+                try{
+                    return (int) length.invokeExact(object);
+                }catch (RuntimeException e){
+                    throw e;
+                }catch (Throwable e){
+                    throw new RuntimeException("failed to serialize object. Cause:" + e.getCause(), e);
+                }
+            }
+        };
     }
 
 }
@@ -3,16 +3,26 @@ package io.github.ysdaeth.jmodularcrypt.core.serializer;
 import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
 import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
 import io.github.ysdaeth.jmodularcrypt.core.converter.Converter;
+import io.github.ysdaeth.jmodularcrypt.core.parser.AsciiCharSequence;
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+import io.github.ysdaeth.jmodularcrypt.core.parser.Latin1CharSequence;
 import io.github.ysdaeth.jmodularcrypt.core.parser.Parser;
-import io.github.ysdaeth.jmodularcrypt.core.parser.Section;
+import io.github.ysdaeth.jmodularcrypt.core.parser.SectionView;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -27,6 +37,10 @@ import java.util.function.Function;
  * for modules and entity class, along with assigned implementation of serializer and
  * deserializer for each module
  * <h2>Cache:</h2>
+ * Metadata is cached per serializer instance in a {@link ClassValue}, so serializers with different
+ * {@link SerializerConfig} never share modules converters, and cached metadata does not keep
+ * serialized classes, nor their class loaders reachable. Analysis of one class does not block
+ * serialization of other classes.
  * <ol>
  *     <li>Unreflected field getters and setters. {@link MethodHandle}</li>
  *     <li>Modules order</li>
@@ -36,6 +50,10 @@ import java.util.function.Function;
  *     <li>Deserializer implementation</li>
  * </ol>
  * Implementation of serializer and deserializer depends on {@link SerializerCreator} presence
+ * and {@link SerializerConfig#accessStrategy()}. With {@link AccessStrategy#HIDDEN_CLASS} a dedicated
+ * hidden class is generated on the first encounter of given class, instead of invoking modules
+ * getters and setters reflectively. Serializers generated at compile time by the {@code processor}
+ * module are discovered as {@link GeneratedSerializer} services and take precedence over reflections.
  * <h3>Terminology</h3>
  * <ul>
  *     <li><b>Module</b> - is a field wrapper with metadata, getter and setter for a class object</li>
@@ -54,15 +72,56 @@ import java.util.function.Function;
  *     <li>Fields annotated with {@link Module} </li>
  *     <li>Field types supported by the provided {@link Converter}</li>
  * </ol>
+ * Primitive int, long, char and boolean modules of reflected classes and records are written and created
+ * with method handles composed with {@link Converter} primitive handles, so their values are never boxed.
+ * Serializers generated at compile time, and {@link AccessStrategy#HIDDEN_CLASS} access modules values
+ * as an array of objects.
+ * <b>Records</b>
+ * <ol>
+ *     <li>Canonical constructor, no annotation is required</li>
+ *     <li>All components annotated with {@link Module}, or none of them, then declaration order is used</li>
+ *     <li>Component types supported by the provided {@link Converter}</li>
+ * </ol>
  */
 public class ConfigurableSerializer implements Serializer {
-    private static final Map<Class<?>, ClassSerializer> CACHE = new ConcurrentHashMap<>();
+    private static final MethodHandle INSTANTIATION_ERROR;
+
+    static {
+        try{
+            INSTANTIATION_ERROR = MethodHandles.lookup().findStatic(ConfigurableSerializer.class, "instantiationError",
+                    MethodType.methodType(RuntimeException.class, String.class, Throwable.class));
+        }catch (ReflectiveOperationException e){
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final ClassValue<ClassSerializer> cache = new ClassValue<>() {
+        @Override
+        protected ClassSerializer computeValue(Class<?> type) {
+            return createClassSerializer(type);
+        }
+    };
     private final Converter typeConverter;
     private final Parser parser;
+    private final Parser nestedParser;
+    private final AccessStrategy accessStrategy;
+    private final boolean latin1;
 
+    /**
+     * Create serializer of specified configuration
+     * @param configuration converter, parsers, access strategy and charset of the serializer
+     * @throws IllegalArgumentException when charset is not US-ASCII nor ISO-8859-1
+     */
     public ConfigurableSerializer(SerializerConfig configuration){
-        typeConverter = configuration.typeConverter();
+        Charset charset = configuration.charset();
+        if(!StandardCharsets.US_ASCII.equals(charset) && !StandardCharsets.ISO_8859_1.equals(charset)){
+            throw new IllegalArgumentException("Serialized values charset must be US-ASCII or ISO-8859-1: " + charset);
+        }
+        typeConverter = configuration.typeConverter().frozenCopy();
         parser = configuration.parser();
+        nestedParser = configuration.nestedParser();
+        accessStrategy = configuration.accessStrategy();
+        latin1 = StandardCharsets.ISO_8859_1.equals(charset);
     }
 
     /**
@@ -73,10 +132,44 @@ public class ConfigurableSerializer implements Serializer {
      * @return Object of specified type
      */
     public String serialize(Object mcfObject){
-        Section[] sections = CACHE.computeIfAbsent(
-                mcfObject.getClass(), this::createClassSerializer
-        ).serialize(mcfObject);
-        return parser.compose(sections);
+        StringBuilder target = new StringBuilder();
+        serialize(mcfObject, target);
+        return target.toString();
+    }
+
+    /**
+     * Serialize provided object and append it to the target. Modules values are written
+     * directly into the target, without creating intermediate strings.
+     * When serialization fails, then target is restored to its original length.
+     * @param mcfObject object to serialize
+     * @param target output that serialized object is appended to
+     */
+    @Override
+    public void serialize(Object mcfObject, StringBuilder target){
+        cache.get(mcfObject.getClass()).compose(mcfObject, target);
+    }
+
+    /**
+     * Serialize provided object and append it to the target. When target is {@link StringBuilder}
+     * or {@link ByteSink}, then modules values are written directly into it, otherwise object is serialized to
+     * a temporary buffer first, so nothing is appended when serialization fails.
+     * @param mcfObject object to serialize
+     * @param target output that serialized object is appended to
+     * @throws IOException when target fails to append serialized object
+     */
+    @Override
+    public void serialize(Object mcfObject, Appendable target) throws IOException {
+        if(target instanceof StringBuilder builder){
+            serialize(mcfObject, builder);
+            return;
+        }
+        if(target instanceof ByteSink sink){
+            cache.get(mcfObject.getClass()).compose(mcfObject, sink);
+            return;
+        }
+        StringBuilder buffer = new StringBuilder();
+        serialize(mcfObject, buffer);
+        target.append(buffer);
     }
 
     /**
@@ -93,10 +186,72 @@ public class ConfigurableSerializer implements Serializer {
      */
     @SuppressWarnings("unchecked")
     public <T> T deserialize(String serialized, Class<T> mcfClass){
-        Section[] sections = parser.parse(serialized);
-        return (T)CACHE.computeIfAbsent(
-                mcfClass, this::createClassSerializer
-        ).deserialize(sections);
+        ClassSerializer classSerializer = cache.get(mcfClass);
+        return (T)classSerializer.deserialize(classSerializer.parse(serialized));
+    }
+
+    /**
+     * Split serialized MCF value into sections, and return model which modules are converted
+     * on the first access. When value is rejected after checking some modules, such as identifier,
+     * other modules are never converted.
+     * @param serialized MCF string value
+     * @param mcfClass class that matches serialized string representation
+     * @return lazily converted model of specified type
+     * @param <T> type of deserialized object
+     * @throws IllegalArgumentException when number of sections does not match modules of the class
+     */
+    public <T> LazyModel<T> deserializeLazy(CharSequence serialized, Class<T> mcfClass){
+        ClassSerializer classSerializer = cache.get(mcfClass);
+        return new LazyModel<>(mcfClass, classSerializer, classSerializer.parse(serialized));
+    }
+
+    /**
+     * Serialize object and write it to the buffer as bytes of {@link SerializerConfig#charset()}.
+     * Parsers and converters write modules directly to the buffer with {@link ByteSink}, without composing
+     * the object in a {@link StringBuilder} first. When serialization fails or buffer has not enough remaining
+     * space, then buffer position is not changed, but bytes after the position may be overwritten.
+     * @param mcfObject object that fields will be converted to string
+     * @param target buffer that serialized object is written to
+     * @throws BufferOverflowException when buffer has not enough remaining space
+     * @throws IllegalArgumentException when serialized object contains character of other charset
+     */
+    @Override
+    public void serialize(Object mcfObject, ByteBuffer target){
+        cache.get(mcfObject.getClass()).compose(mcfObject, new ByteSink(target, latin1));
+    }
+
+    /**
+     * Deserialize bytes of MCF value to specified class instance, the same as
+     * {@link ConfigurableSerializer#deserialize(String, Class)}. US-ASCII bytes are parsed and decoded
+     * directly, without decoding them to {@link String} first. ISO-8859-1 bytes are viewed the same way,
+     * with {@link Latin1CharSequence}.
+     * @param serialized bytes of MCF value
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @param mcfClass class that matches serialized string representation
+     * @return Object of specified type
+     * @param <T> return type
+     * @throws IllegalArgumentException when charset is US-ASCII and bytes contain non ASCII character
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(byte[] serialized, int offset, int length, Class<T> mcfClass){
+        ClassSerializer classSerializer = cache.get(mcfClass);
+        SectionView[] sections = classSerializer.parse(chars(serialized, offset, length, latin1));
+        return (T)classSerializer.deserialize(sections);
+    }
+
+    /**
+     * Return serializer bound to specified class. Class metadata is resolved once, when
+     * this method is called, so serialization and deserialization skip the cache lookup.
+     * Objects are always serialized with modules of the bound class, even if they are subclasses of it.
+     * @param type class of serialized objects
+     * @return serializer bound to specified class
+     * @param <T> Type of serialized objects
+     */
+    @Override
+    public <T> TypedSerializer<T> forType(Class<T> type){
+        return new BoundSerializer<>(type, cache.get(type), latin1);
     }
 
 
@@ -105,23 +260,253 @@ public class ConfigurableSerializer implements Serializer {
      * and return deserializer implementation which uses that constructor to assign values to the fields.
      * When no such annotation is found, then implementation of deserializer will use field setters
      * instead constructor for assigning values to the fields.
+     * With {@link AccessStrategy#HIDDEN_CLASS} fields and constructor are accessed by the generated class.
+     * When serializer was generated at compile time for the class, then it is used instead of reflections.
      * @param type Class that will be reflected and scanned for annotations.
      * @return Class serializer with serialization implementation based on the available constructor
      * @param <T> Class type
      */
     private <T> ClassSerializer createClassSerializer(Class<T> type){
+        Optional<GeneratedSerializer<?>> generated = GeneratedSerializers.find(type);
+        if(generated.isPresent()){
+            return createGeneratedClassSerializer(generated.get());
+        }
+        if(type.isRecord()){
+            return createRecordClassSerializer(type);
+        }
+
         Constructor<T> constructor = resolveConstructor(type);
-        Function<Section[],Object> deserializer;
+        Function<Object[],Object> creator;
         List<ModuleAccessor> modules = createModuleAccessors(type);
+        ModuleConverter[] converters = createModuleConverters(modules);
+
+        if(accessStrategy == AccessStrategy.HIDDEN_CLASS){
+            return createHiddenClassSerializer(type, modules, converters, constructor);
+        }
 
         if(constructor.isAnnotationPresent(SerializerCreator.class) ){
-            deserializer = createConstructorDeserializer(modules,typeConverter,constructor);
+            creator = createConstructorCreator(constructor);
         }else{
-            deserializer = createFieldsDeserializer(modules,typeConverter,constructor);
+            creator = createFieldsCreator(modules,constructor);
+        }
+
+        Function<Object,Object[]> reader = createFieldsReader(modules);
+        Function<SectionView[],Object> viewsCreator = constructor.isAnnotationPresent(SerializerCreator.class)
+                ? createConstructorViewsCreator(modules, converters, constructor)
+                : createFieldsViewsCreator(modules, converters, constructor);
+        return new ClassSerializer(modules,converters,reader,creator,parser,
+                createModuleWriters(modules, converters), viewsCreator);
+    }
+
+    /**
+     * Create class serializer that accesses modules with serializer generated at compile time.
+     * Modules metadata is provided by the generated serializer, so the class is not scanned
+     * with java reflections. Modules are read and created from values array, so primitive modules are boxed.
+     * @param generated serializer generated for the class
+     * @return Class serializer which uses generated serializer
+     * @param <T> Class type
+     */
+    private <T> ClassSerializer createGeneratedClassSerializer(GeneratedSerializer<T> generated){
+        String[] names = generated.names();
+        Class<?>[] types = generated.types();
+        String[] constants = generated.constants();
+        List<ModuleAccessor> modules = new ArrayList<>(names.length);
+        for(int i = 0; i < names.length; i++){
+            String constant = constants[i] == null ? null : constants[i].intern();
+            modules.add(new ModuleAccessor(i, types[i], names[i], null, null, constant));
+        }
+        Class<T> type = generated.type();
+        ModuleConverter[] converters = createModuleConverters(modules);
+        ClassAccessor accessor = new ClassAccessor() {
+            @Override
+            public Object[] read(Object object) {
+                return generated.read(type.cast(object));
+            }
+
+            @Override
+            public Object create(Object[] values) {
+                return generated.create(values);
+            }
+        };
+        return new ClassSerializer(
+                modules,
+                converters,
+                createAccessorReader(accessor),
+                createAccessorCreator(accessor),
+                parser);
+    }
+
+    /**
+     * Create class serializer of a record. Components are read with accessor method handles, and record
+     * is created with its canonical constructor, bound once as a spread method handle, so neither
+     * {@link SerializerCreator} nor no args constructor is required. Constructor and accessors are made
+     * accessible only when they cannot be unreflected without it.
+     * Components annotated with {@link Module} are modules in the annotated order, and when no component
+     * is annotated, then all components are modules in the declaration order.
+     * All components must be modules, because canonical constructor requires all of them.
+     * @param type record class
+     * @return Class serializer of the record
+     */
+    private ClassSerializer createRecordClassSerializer(Class<?> type){
+        RecordComponent[] components = type.getRecordComponents();
+        boolean annotated = Arrays.stream(components)
+                .anyMatch(c -> getRecordField(type, c).isAnnotationPresent(Module.class));
+        List<ModuleAccessor> unsorted = new ArrayList<>(components.length);
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        for(int i = 0; i < components.length; i++){
+            RecordComponent component = components[i];
+            Field field = getRecordField(type, component);
+            int order = annotated ? getFieldOrder(field) : i;
+            if(order < 0){
+                throw new IllegalArgumentException(
+                        "All record components must be annotated with " + Module.class + ", component: " + field);
+            }
+            parameterTypes[i] = component.getType();
+            unsorted.add(new ModuleAccessor(order, component.getType(), component.getName(),
+                    unreflectAccessor(component.getAccessor()), null, getFieldConstant(field)));
+        }
+        if(unsorted.isEmpty()) throw new IllegalArgumentException("There are no components in the record: " + type);
+        List<ModuleAccessor> modules = sortModulesOrder(unsorted);
+
+        int[] parameterIndexes = new int[components.length];
+        for(int i = 0; i < components.length; i++){
+            parameterIndexes[unsorted.get(i).order()] = i;
+        }
+        MethodHandle canonical;
+        try{
+            Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+            try{
+                canonical = MethodHandles.lookup().unreflectConstructor(constructor);
+            }catch (IllegalAccessException e){
+                constructor.setAccessible(true);
+                canonical = MethodHandles.lookup().unreflectConstructor(constructor);
+            }
+        }catch (NoSuchMethodException | IllegalAccessException | InaccessibleObjectException e){
+            throw new RuntimeException("Canonical constructor must be accessible in the record: " + type, e);
+        }
+        MethodHandle constructor = canonical
+                .asSpreader(Object[].class, components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        ModuleConverter[] converters = createModuleConverters(modules);
+        return new ClassSerializer(
+                modules,
+                converters,
+                createRecordReader(modules),
+                createRecordCreator(constructor, parameterIndexes),
+                parser,
+                createModuleWriters(modules, converters),
+                createRecordViewsCreator(modules, converters, canonical, parameterIndexes));
+    }
+
+    /**
+     * Return field of the record component, which contains component annotations
+     * @param type record class
+     * @param component record component
+     * @return private field of the record component
+     */
+    private static Field getRecordField(Class<?> type, RecordComponent component){
+        try{
+            return type.getDeclaredField(component.getName());
+        }catch (NoSuchFieldException e){
+            throw new IllegalArgumentException("Record component field does not exist: " + component, e);
+        }
+    }
+
+    /**
+     * Create method handle of the record component accessor, with {@code (Object)type} type,
+     * where type is the component type. Accessor is made accessible only when lookup of this class
+     * has no access to it, for example when record is not public.
+     * @param accessor record component accessor
+     * @return accessor method handle
+     */
+    private static MethodHandle unreflectAccessor(Method accessor){
+        try{
+            MethodHandle handle;
+            try{
+                handle = MethodHandles.lookup().unreflect(accessor);
+            }catch (IllegalAccessException e){
+                accessor.setAccessible(true);
+                handle = MethodHandles.lookup().unreflect(accessor);
+            }
+            return handle.asType(MethodType.methodType(accessor.getReturnType(), Object.class));
+        }catch (IllegalAccessException | InaccessibleObjectException e){
+            throw new RuntimeException("Record component accessor must be accessible: " + accessor, e);
         }
+    }
 
-        Function<Object,Section[]> serializer = createClassSerializer(modules, typeConverter);
-        return new ClassSerializer(modules,serializer,deserializer);
+    /**
+     * Create class serializer that accesses modules with generated hidden class, rather than invoking
+     * module accessors in a loop. Modules are read and created from values array, so primitive modules are boxed.
+     * @param type class that modules will be accessed
+     * @param modules sorted module accessors of the class
+     * @param converters conversion plans of the modules
+     * @param constructor constructor annotated with {@link SerializerCreator} or no args constructor
+     * @return Class serializer which uses generated class accessor
+     */
+    private ClassSerializer createHiddenClassSerializer(
+            Class<?> type, List<ModuleAccessor> modules, ModuleConverter[] converters, Constructor<?> constructor){
+        MethodHandle constructorHandle;
+        try{
+            constructorHandle = MethodHandles.lookup().unreflectConstructor(constructor);
+        }catch (IllegalAccessException e){
+            throw new RuntimeException("Constructor must be public in the class: " + type, e);
+        }
+        ClassAccessor accessor = ClassAccessorGenerator.generate(
+                type, modules, constructorHandle, constructor.isAnnotationPresent(SerializerCreator.class));
+        return new ClassSerializer(
+                modules,
+                converters,
+                createAccessorReader(accessor),
+                createAccessorCreator(accessor),
+                parser);
+    }
+
+    /**
+     * Create conversion plans of modules. When module type is not registered in {@link Converter}
+     * and it is a class with modules, then it is serialized as a nested object with
+     * {@link SerializerConfig#nestedParser()}, in the same pass as the outer object.
+     * @param modules sorted modules of a class
+     * @return conversion plans in the same order as modules
+     */
+    private ModuleConverter[] createModuleConverters(List<ModuleAccessor> modules){
+        ModuleConverter[] converters = new ModuleConverter[modules.size()];
+        for(int i = 0; i < converters.length; i++){
+            ModuleAccessor module = modules.get(i);
+            Class<?> type = module.type();
+            if(module.constant() != null){
+                converters[i] = ModuleConverter.constant(module.name(), module.constant());
+            }else{
+                converters[i] = isNested(type)
+                        ? ModuleConverter.nested(cache.get(type), nestedParser)
+                        : ModuleConverter.of(typeConverter, type);
+            }
+        }
+        return converters;
+    }
+
+    /**
+     * Create module writers, that read modules with getters and write them with conversion plans
+     * @param modules sorted modules of a class, with getters
+     * @param converters conversion plans of the modules
+     * @return handles with {@code (Object, StringBuilder)void} type, in the same order as modules
+     */
+    private static MethodHandle[] createModuleWriters(List<ModuleAccessor> modules, ModuleConverter[] converters){
+        MethodHandle[] writers = new MethodHandle[converters.length];
+        for(int i = 0; i < writers.length; i++){
+            writers[i] = converters[i].writer(modules.get(i).getter());
+        }
+        return writers;
+    }
+
+    /**
+     * Check if specified module type is a class with modules, that is not registered in converter
+     * @param type module type
+     * @return true if module should be serialized as nested object
+     */
+    private boolean isNested(Class<?> type){
+        if(type.isPrimitive() || type.isArray() || typeConverter.isRegistered(type, String.class)) return false;
+        if(GeneratedSerializers.find(type).isPresent()) return true;
+        return Arrays.stream(type.getDeclaredFields()).anyMatch(f -> f.isAnnotationPresent(Module.class));
     }
 
     /**
@@ -188,51 +573,127 @@ public class ConfigurableSerializer implements Serializer {
     }
 
     /**
-     * Create class serializer that calls {@link ModuleAccessor} and invoke
-     * get() method on object field. {@link Converter} is used to convert fields values
-     * to string representation, and return sections as a key value pairs where
-     * key is a field name and value as string representation.
+     * Create reader that calls {@link ModuleAccessor} and invoke
+     * get() method on object field. Values are returned in modules order, and they are
+     * converted to string representation with {@link ModuleConverter} when written to the output.
      * @param accessors class field accessors
-     * @return implementation of serializer for specified class of the object
-     * @param <T> instance parameter type
+     * @return implementation of modules values reader for specified class of the object
      */
-    private static <T> Function<T, Section[]> createClassSerializer(
-            List<ModuleAccessor> accessors, Converter converter){
+    private static Function<Object, Object[]> createFieldsReader(List<ModuleAccessor> accessors){
 
         return (obj)->{
-            Section[] sections = new Section[accessors.size()];
+            Object[] values = new Object[accessors.size()];
             try{
                 for(ModuleAccessor module: accessors){
-                    var value = module.getter().invoke(obj);
-                    String strValue = converter.convert(value,String.class);
-                    sections[module.order()] = new Section(module.name(),strValue);
+                    values[module.order()] = module.getter().invoke(obj);
                 }
             }catch (Throwable e){
                 throw new RuntimeException("failed to serialize object. Cause:" + e.getCause(),e);
             }
-            return sections;
+            return values;
         };
     }
 
     /**
-     * When there is no constructor annotated with {@link SerializerCreator}, then that deserializer
+     * Create reader that reads record components with accessor handles created by
+     * {@link ConfigurableSerializer#unreflectAccessor(Method)}.
+     * @param modules sorted modules of the record
+     * @return implementation of modules values reader for the record
+     */
+    private static Function<Object, Object[]> createRecordReader(List<ModuleAccessor> modules){
+        MethodHandle[] accessors = modules.stream()
+                .map(m -> m.getter().asType(MethodType.genericMethodType(1)))
+                .toArray(MethodHandle[]::new);
+        return (obj)->{
+            Object[] values = new Object[accessors.length];
+            try{
+                for(int i = 0; i < accessors.length; i++){
+                    values[i] = (Object) accessors[i].invokeExact(obj);
+                }
+            }catch (Throwable e){
+                throw new RuntimeException("failed to serialize object. Cause:" + e.getCause(),e);
+            }
+            return values;
+        };
+    }
+
+    /**
+     * Create reader that reads all modules values with generated {@link ClassAccessor}.
+     * @param accessor generated accessor of the class
+     * @return implementation of modules values reader for specified class of the object
+     */
+    private static Function<Object, Object[]> createAccessorReader(ClassAccessor accessor){
+
+        return (obj)->{
+            try{
+                return accessor.read(obj);
+            }catch (Throwable e){
+                throw new RuntimeException("failed to serialize object. Cause:" + e.getCause(),e);
+            }
+        };
+    }
+
+    /**
+     * Create creator that creates an instance from converted modules values with generated {@link ClassAccessor}.
+     * @param accessor generated accessor of the class
+     * @return implementation of instance creator
+     */
+    private static Function<Object[],Object> createAccessorCreator(ClassAccessor accessor){
+        return (values)->{
+            try{
+                return accessor.create(values);
+            }catch (Throwable e){
+                throw new RuntimeException("Could not instantiate object. " + e.getMessage(), e);
+            }
+        };
+    }
+
+    /**
+     * Create creator of a record, that invokes canonical constructor spread handle.
+     * Modules values are reordered to constructor parameters order, when module order differs
+     * from components declaration order.
+     * @param constructor canonical constructor handle with {@code (Object[])Object} type
+     * @param parameterIndexes constructor parameter index of each module, by module order
+     * @return implementation of instance creator
+     */
+    private static Function<Object[],Object> createRecordCreator(MethodHandle constructor, int[] parameterIndexes){
+        boolean declarationOrder = true;
+        for(int i = 0; i < parameterIndexes.length; i++){
+            declarationOrder &= parameterIndexes[i] == i;
+        }
+        boolean reorder = !declarationOrder;
+        return (values)->{
+            Object[] args = values;
+            if(reorder){
+                args = new Object[values.length];
+                for(int i = 0; i < values.length; i++){
+                    args[parameterIndexes[i]] = values[i];
+                }
+            }
+            try{
+                return (Object) constructor.invokeExact(args);
+            }catch (Throwable e){
+                throw new RuntimeException("Could not instantiate record. " + e.getMessage(), e);
+            }
+        };
+    }
+
+    /**
+     * When there is no constructor annotated with {@link SerializerCreator}, then that creator
      * implementation will use modules setters, rather than all args constructor. In such case
      * fields can not be final.
      * @param modules list of modules assigned for instance that will use this method
-     * @param converter type that will convert string to field value as castable object.
      * @param constructor public no args constructor without annotations
-     * @return deserialization implementation
+     * @return implementation of instance creator
      */
-    private static Function<Section[],Object> createFieldsDeserializer(
-            List<ModuleAccessor> modules, Converter converter, Constructor<?> constructor){
-        return (sections)->{
+    private static Function<Object[],Object> createFieldsCreator(
+            List<ModuleAccessor> modules, Constructor<?> constructor){
+        return (values)->{
             Object instance;
             try{
                 instance = constructor.newInstance();
                 for(ModuleAccessor module :modules){
-                    String value = sections[module.order()].value();
-                    var arg = converter.convert(value,module.type());
-                    module.setter().invoke(instance,arg);
+                    module.setter().invoke(instance,values[module.order()]);
                 }
             }catch (Throwable e){
                 throw new RuntimeException(e);
@@ -242,37 +703,170 @@ public class ConfigurableSerializer implements Serializer {
     }
 
     /**
-     * Create deserializer implementation that should be used when McfClass constructor was
+     * Create creator implementation that should be used when McfClass constructor was
      * annotated with {@link SerializerCreator}, then it will be used to create instance,
      * rather than modules setters. That means that class fields may be final.
-     * @param modules list of modules assigned for instance that will use this method
-     * @param converter type that will convert string to field value as castable object.
      * @param constructor annotated with {@link SerializerCreator} that contains parameters
      *                    in the same order as specified with {@link Module#order()}
-     * @return deserialization implementation
+     * @return implementation of instance creator
      */
-    private static Function<Section[],Object> createConstructorDeserializer(
-            List<ModuleAccessor> modules, Converter converter, Constructor<?> constructor){
-        return (sections)->{
-            Object instance;
+    private static Function<Object[],Object> createConstructorCreator(Constructor<?> constructor){
+        return (values)->{
             try{
-                Object[] args = new Object[sections.length];
-                for(int i =0; i < modules.size(); i++){
-                    ModuleAccessor module = modules.get(i);
-                    String value = sections[module.order()].value();
-                    var arg = converter.convert(value,module.type());
-                    args[i] = arg;
-                }
-                instance = constructor.newInstance(args);
+                return constructor.newInstance(values);
             }catch (Exception e){
                 throw new RuntimeException("Could not instantiate object. " +
                         "Make sure parameters in constructor are in the same in the same order as" +
                         " annotation order value on fields. : " + e.getMessage(), e);
             }
-            return instance;
         };
     }
 
+    /**
+     * Create creator that creates an instance with no args constructor, and sets modules converted
+     * from views of sections directly with setters, without intermediate values array.
+     * @param modules sorted modules of the class
+     * @param converters conversion plans of the modules
+     * @param constructor public no args constructor without annotations
+     * @return implementation of instance creator, or null when any module has no setter
+     */
+    private static Function<SectionView[],Object> createFieldsViewsCreator(
+            List<ModuleAccessor> modules, ModuleConverter[] converters, Constructor<?> constructor){
+        MethodHandle[] setters = new MethodHandle[modules.size()];
+        for(int i = 0; i < setters.length; i++){
+            ModuleAccessor module = modules.get(i);
+            if(module.setter() == null) return null;
+            MethodHandle setter = module.setter()
+                    .asType(MethodType.methodType(void.class, Object.class, module.type()));
+            setters[i] = MethodHandles.filterArguments(setter, 1, converters[i].reader(module.type(), module.name()));
+        }
+        MethodHandle instantiate = unreflectConstructor(constructor, "Could not instantiate object. ");
+        if(instantiate == null) return null;
+        MethodHandle noArgs = instantiate.asType(MethodType.methodType(Object.class));
+        return (views)->{
+            try{
+                Object instance = (Object) noArgs.invokeExact();
+                for(int i = 0; i < setters.length; i++){
+                    setters[i].invokeExact(instance, views[i]);
+                }
+                return instance;
+            }catch (RuntimeException e){
+                throw e;
+            }catch (Throwable e){
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * Create creator that invokes constructor annotated with {@link SerializerCreator} with modules converted
+     * from views of sections, without intermediate values array.
+     * @param modules sorted modules of the class
+     * @param converters conversion plans of the modules
+     * @param constructor constructor with parameters of the same types as modules
+     * @return implementation of instance creator, or null when constructor parameters do not match modules
+     */
+    private static Function<SectionView[],Object> createConstructorViewsCreator(
+            List<ModuleAccessor> modules, ModuleConverter[] converters, Constructor<?> constructor){
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        if(parameterTypes.length != modules.size()) return null;
+        MethodHandle[] readers = new MethodHandle[parameterTypes.length];
+        for(int i = 0; i < readers.length; i++){
+            ModuleAccessor module = modules.get(i);
+            if(parameterTypes[i] != module.type()) return null;
+            readers[i] = converters[i].reader(module.type(), module.name());
+        }
+        MethodHandle instantiate = unreflectConstructor(constructor, "Could not instantiate object. ");
+        if(instantiate == null) return null;
+        return createSpreadViewsCreator(MethodHandles.filterArguments(instantiate, 0, readers));
+    }
+
+    /**
+     * Create creator of a record, that invokes canonical constructor with components converted
+     * from views of sections, without intermediate values array. Views are reordered to constructor
+     * parameters order by the method handle, when module order differs from components declaration order.
+     * @param modules sorted modules of the record
+     * @param converters conversion plans of the modules
+     * @param canonical canonical constructor handle
+     * @param parameterIndexes constructor parameter index of each module, by module order
+     * @return implementation of instance creator
+     */
+    private static Function<SectionView[],Object> createRecordViewsCreator(
+            List<ModuleAccessor> modules, ModuleConverter[] converters, MethodHandle canonical, int[] parameterIndexes){
+        MethodHandle[] readers = new MethodHandle[parameterIndexes.length];
+        int[] moduleIndexes = new int[parameterIndexes.length];
+        for(int i = 0; i < parameterIndexes.length; i++){
+            ModuleAccessor module = modules.get(i);
+            readers[parameterIndexes[i]] = converters[i].reader(module.type(), module.name());
+            moduleIndexes[parameterIndexes[i]] = i;
+        }
+        MethodHandle filtered = MethodHandles.filterArguments(
+                wrapFailure(canonical, "Could not instantiate record. "), 0, readers);
+        Class<?>[] views = new Class<?>[parameterIndexes.length];
+        Arrays.fill(views, SectionView.class);
+        return createSpreadViewsCreator(MethodHandles.permuteArguments(
+                filtered, MethodType.methodType(canonical.type().returnType(), views), moduleIndexes));
+    }
+
+    /**
+     * Create creator that spreads views of sections over parameters of the handle
+     * @param handle handle which parameters are views of sections ordered by module order
+     * @return implementation of instance creator
+     */
+    private static Function<SectionView[],Object> createSpreadViewsCreator(MethodHandle handle){
+        int count = handle.type().parameterCount();
+        MethodHandle spread = handle.asType(handle.type().changeReturnType(Object.class))
+                .asSpreader(SectionView[].class, count);
+        return (views)->{
+            try{
+                return (Object) spread.invokeExact(views);
+            }catch (RuntimeException e){
+                throw e;
+            }catch (Throwable e){
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * Unreflect constructor, which failures are wrapped with {@link ConfigurableSerializer#wrapFailure(MethodHandle, String)}
+     * @param constructor accessible constructor
+     * @param message message prefix of wrapped failures
+     * @return constructor handle, or null when constructor cannot be unreflected
+     */
+    private static MethodHandle unreflectConstructor(Constructor<?> constructor, String message){
+        try{
+            return wrapFailure(MethodHandles.lookup().unreflectConstructor(constructor), message);
+        }catch (IllegalAccessException e){
+            return null;
+        }
+    }
+
+    /**
+     * Wrap handle, so any failure is rethrown as {@link RuntimeException} with specified message prefix
+     * @param target wrapped handle
+     * @param message message prefix
+     * @return handle of the same type as target
+     */
+    private static MethodHandle wrapFailure(MethodHandle target, String message){
+        MethodType type = target.type();
+        MethodHandle handler = MethodHandles.filterArguments(
+                MethodHandles.throwException(type.returnType(), RuntimeException.class), 0,
+                MethodHandles.insertArguments(INSTANTIATION_ERROR, 0, message));
+        return MethodHandles.catchException(target, Throwable.class,
+                MethodHandles.dropArguments(handler, 1, type.parameterList()));
+    }
+
+    /**
+     * Create exception of object that could not be instantiated
+     * @param message message prefix
+     * @param cause instantiation failure
+     * @return exception with cause message appended to the prefix
+     */
+    private static RuntimeException instantiationError(String message, Throwable cause){
+        return new RuntimeException(message + cause.getMessage(), cause);
+    }
+
     /**
      * Read all fields from a class by using java reflections to create field accessors, and metadata
      * such as: field type, field name, field order.
@@ -319,7 +913,25 @@ public class ConfigurableSerializer implements Serializer {
              setter = null;
          }
 
-        return new ModuleAccessor(order,type,field.getName(),getter,setter);
+        return new ModuleAccessor(order,type,field.getName(),getter,setter,getFieldConstant(field));
+    }
+
+    /**
+     * Return constant specified by {@link Module#constant()}. Constant is interned, so deserialized
+     * constant modules are the same instances as string constants in the source code.
+     * @param field field with annotation
+     * @return constant, or null when module is not constant
+     * @throws IllegalArgumentException when constant module is not a String
+     */
+    private static String getFieldConstant(Field field){
+        Module module = field.getAnnotation(Module.class);
+        if(module == null || module.constant().isEmpty()) return null;
+        String constant = module.constant().intern();
+        if(field.getType() != String.class){
+            throw new IllegalArgumentException("Constant module must be a String, but was " + field.getType()
+                    + " in the field: " + field);
+        }
+        return constant;
     }
 
     /**
@@ -378,4 +990,88 @@ public class ConfigurableSerializer implements Serializer {
         return ordered;
     }
 
-}
\ No newline at end of file
+    /**
+     * Serializer bound to one class with resolved class serializer
+     * @param <T> type of the bound class
+     */
+    private static final class BoundSerializer<T> implements TypedSerializer<T> {
+        private final Class<T> type;
+        private final ClassSerializer classSerializer;
+        private final boolean latin1;
+
+        private BoundSerializer(Class<T> type, ClassSerializer classSerializer, boolean latin1){
+            this.type = type;
+            this.classSerializer = classSerializer;
+            this.latin1 = latin1;
+        }
+
+        @Override
+        public Class<T> type() {
+            return type;
+        }
+
+        @Override
+        public String serialize(T object) {
+            StringBuilder target = new StringBuilder();
+            serialize(object, target);
+            return target.toString();
+        }
+
+        @Override
+        public void serialize(T object, StringBuilder target) {
+            classSerializer.compose(object, target);
+        }
+
+        @Override
+        public void serialize(T object, Appendable target) throws IOException {
+            if(target instanceof StringBuilder builder){
+                serialize(object, builder);
+                return;
+            }
+            if(target instanceof ByteSink sink){
+                classSerializer.compose(object, sink);
+                return;
+            }
+            StringBuilder buffer = new StringBuilder();
+            serialize(object, buffer);
+            target.append(buffer);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(String serialized) {
+            return (T) classSerializer.deserialize(classSerializer.parse(serialized));
+        }
+
+        @Override
+        public LazyModel<T> deserializeLazy(CharSequence serialized) {
+            return new LazyModel<>(type, classSerializer, classSerializer.parse(serialized));
+        }
+
+        @Override
+        public void serialize(T object, ByteBuffer target) {
+            classSerializer.compose(object, new ByteSink(target, latin1));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(byte[] serialized, int offset, int length) {
+            SectionView[] sections = classSerializer.parse(chars(serialized, offset, length, latin1));
+            return (T) classSerializer.deserialize(sections);
+        }
+    }
+
+    /**
+     * Return characters of serialized bytes
+     * @param serialized serialized bytes
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @param latin1 true when bytes are ISO-8859-1, false when they are US-ASCII
+     * @return view of ISO-8859-1 or US-ASCII bytes
+     */
+    private static CharSequence chars(byte[] serialized, int offset, int length, boolean latin1){
+        return latin1
+                ? new Latin1CharSequence(serialized, offset, length)
+                : new AsciiCharSequence(serialized, offset, length);
+    }
+}
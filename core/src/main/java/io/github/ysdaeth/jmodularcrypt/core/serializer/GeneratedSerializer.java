@@ -0,0 +1,49 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer;
+
+/**
+ * Service interface for serializers generated at compile time for classes that
+ * contain {@link io.github.ysdaeth.jmodularcrypt.core.annotations.Module} annotations.
+ * Implementations are created by the {@code processor} module and are discovered with
+ * {@link java.util.ServiceLoader}. When a generated serializer exists for a class, then
+ * {@link ConfigurableSerializer} uses it instead of scanning the class with java reflections,
+ * so the package of the class does not need to be opened to the core module.
+ * Modules metadata and values are always in the same order as
+ * {@link io.github.ysdaeth.jmodularcrypt.core.annotations.Module#order()}
+ * @param <T> type of the serialized class
+ */
+public interface GeneratedSerializer<T> {
+
+    /**
+     * @return class that this serializer was generated for
+     */
+    Class<T> type();
+
+    /**
+     * @return modules field names ordered by module order
+     */
+    String[] names();
+
+    /**
+     * @return modules field types ordered by module order
+     */
+    Class<?>[] types();
+
+    /**
+     * @return modules constants ordered by module order, null for modules that are not constant
+     */
+    String[] constants();
+
+    /**
+     * Read all modules values of specified object
+     * @param object object to read
+     * @return modules values ordered by module order
+     */
+    Object[] read(T object);
+
+    /**
+     * Create object from modules values
+     * @param values modules values ordered by module order
+     * @return created object
+     */
+    T create(Object[] values);
+}
@@ -0,0 +1,55 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer;
+
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Lookup of {@link GeneratedSerializer} implementations with {@link ServiceLoader} of the class loader
+ * of the serialized class, so serializers of class loaders created later are found as well.
+ * Result is cached per class with {@link ClassValue}, it does not keep the class or its loader reachable.
+ * Only provider of the expected generated class name is instantiated.
+ */
+final class GeneratedSerializers {
+    private static final String SUFFIX = "_GeneratedSerializer";
+
+    private static final ClassValue<Optional<GeneratedSerializer<?>>> SERIALIZERS = new ClassValue<>() {
+        @Override
+        protected Optional<GeneratedSerializer<?>> computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    private GeneratedSerializers(){}
+
+    /**
+     * Find serializer generated at compile time for specified class
+     * @param type class of serialized object
+     * @return generated serializer or empty when class has no generated serializer
+     */
+    static Optional<GeneratedSerializer<?>> find(Class<?> type){
+        return SERIALIZERS.get(type);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Optional<GeneratedSerializer<?>> load(Class<?> type){
+        ClassLoader loader = type.getClassLoader();
+        if(loader == null || type.isPrimitive() || type.isArray()) return Optional.empty();
+        String name = generatedName(type);
+        return (Optional) ServiceLoader.load(GeneratedSerializer.class, loader).stream()
+                .filter(provider -> provider.type().getName().equals(name))
+                .map(ServiceLoader.Provider::get)
+                .filter(serializer -> serializer.type() == type)
+                .findFirst();
+    }
+
+    /**
+     * Name of serializer generated for the class, enclosing class names are joined with '_' sign
+     * @param type serialized class
+     * @return binary name of generated serializer
+     */
+    private static String generatedName(Class<?> type){
+        String packageName = type.getPackageName();
+        String name = type.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + '.') + name.replace('$', '_') + SUFFIX;
+    }
+}
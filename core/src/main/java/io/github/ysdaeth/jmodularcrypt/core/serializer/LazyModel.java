@@ -0,0 +1,121 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer;
+
+import io.github.ysdaeth.jmodularcrypt.core.parser.SectionView;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Deserialized object which modules are converted on the first access. Serialized value is
+ * only split into sections when the model is created, so checking identifier or version
+ * of the value does not decode other modules, such as encrypted bytes.
+ * Converted values are cached, and reused by {@link LazyModel#toObject()}.
+ * Instances are created with {@link ConfigurableSerializer#deserializeLazy(CharSequence, Class)}
+ * or {@link TypedSerializer#deserializeLazy(CharSequence)}, and are not thread safe.
+ * @param <T> type of deserialized class
+ */
+public final class LazyModel<T> {
+    private static final Object NOT_CONVERTED = new Object();
+
+    private final Class<T> type;
+    private final ClassSerializer classSerializer;
+    private final SectionView[] sections;
+    private final Object[] values;
+
+    LazyModel(Class<T> type, ClassSerializer classSerializer, SectionView[] sections){
+        if(classSerializer.modules().size() != sections.length){
+            throw new IllegalArgumentException("Sections length does not match modules length");
+        }
+        this.type = type;
+        this.classSerializer = classSerializer;
+        this.sections = sections;
+        this.values = new Object[sections.length];
+        Arrays.fill(values, NOT_CONVERTED);
+    }
+
+    /**
+     * @return class of deserialized object
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * @return number of modules
+     */
+    public int size(){
+        return sections.length;
+    }
+
+    /**
+     * Return module value, and convert it on the first access
+     * @param order module order
+     * @return converted module value
+     * @throws IndexOutOfBoundsException when there is no module of specified order
+     */
+    public Object get(int order){
+        Object value = values[order];
+        if(value == NOT_CONVERTED){
+            value = classSerializer.decode(order, sections[order]);
+            values[order] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Return module value of specified field name, and convert it on the first access
+     * @param name module field name
+     * @return converted module value
+     * @throws IllegalArgumentException when there is no module with specified name
+     */
+    public Object get(String name){
+        return get(orderOf(name));
+    }
+
+    /**
+     * Check if string representation of the module is equal to expected value, without
+     * converting the module and without copying its value.
+     * @param order module order
+     * @param expected expected string representation
+     * @return true if module string representation is equal to expected value
+     */
+    public boolean textEquals(int order, CharSequence expected){
+        SectionView view = sections[order];
+        int length = view.valueLength();
+        if(length != expected.length()) return false;
+        CharSequence source = view.source();
+        for(int i = 0; i < length; i++){
+            if(source.charAt(view.valueStart() + i) != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Return string representation of the module, without converting it
+     * @param order module order
+     * @return copy of the module string representation
+     */
+    public String text(int order){
+        return sections[order].value();
+    }
+
+    /**
+     * Convert all remaining modules and create the object
+     * @return deserialized object
+     */
+    public T toObject(){
+        Object[] args = new Object[values.length];
+        for(int i = 0; i < args.length; i++){
+            args[i] = get(i);
+        }
+        return type.cast(classSerializer.create(args));
+    }
+
+    private int orderOf(String name){
+        List<ModuleAccessor> modules = classSerializer.modules();
+        for(int i = 0; i < modules.size(); i++){
+            if(modules.get(i).name().equals(name)) return i;
+        }
+        throw new IllegalArgumentException("There is no module " + name + " in the class: " + type);
+    }
+}
@@ -11,6 +11,7 @@ import java.lang.invoke.MethodHandle;
  *     <li>field getter</li>
  *     <li>field setter</li>
  *     <li>Field order</li>
+ *     <li>Field constant value</li>
  * </ul>
  * Because java reflections does not guarantee fields order in any particular order,
  * it contains field order metadata
@@ -21,6 +22,7 @@ final class ModuleAccessor implements Comparable<ModuleAccessor> {
     private final String name;
     private final MethodHandle getter;
     private final MethodHandle setter;
+    private final String constant;
 
     /**
      * Create module accessor
@@ -29,13 +31,16 @@ final class ModuleAccessor implements Comparable<ModuleAccessor> {
      * @param name Field name
      * @param getter Field value setter
      * @param setter Field value getter
+     * @param constant constant string representation of the field, or null when field is not constant
      */
-    public ModuleAccessor(int order, Class<?> type, String name, MethodHandle getter, MethodHandle setter){
+    public ModuleAccessor(int order, Class<?> type, String name,
+                          MethodHandle getter, MethodHandle setter, String constant){
         this.order = order;
         this.type = type;
         this.name = name;
         this.getter = getter;
         this.setter = setter;
+        this.constant = constant;
     }
 
     public int order(){
@@ -49,6 +54,9 @@ final class ModuleAccessor implements Comparable<ModuleAccessor> {
     public MethodHandle setter(){
         return setter;
     }
+    public String constant(){
+        return constant;
+    }
 
     /**
      * Comparator that compares other module accessors by its order.
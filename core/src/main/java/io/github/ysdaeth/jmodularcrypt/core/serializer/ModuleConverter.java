@@ -0,0 +1,287 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer;
+
+import io.github.ysdaeth.jmodularcrypt.core.converter.Converter;
+import io.github.ysdaeth.jmodularcrypt.core.converter.RangeDecoder;
+import io.github.ysdaeth.jmodularcrypt.core.converter.SinkEncoder;
+import io.github.ysdaeth.jmodularcrypt.core.converter.TextEncoder;
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+import io.github.ysdaeth.jmodularcrypt.core.parser.Parser;
+import io.github.ysdaeth.jmodularcrypt.core.parser.SectionView;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.ToIntFunction;
+
+/**
+ * Conversion plan of a single module. Functions converting module value to string and back
+ * are resolved once from {@link Converter} by the module type, so converting values
+ * does not look up the converter registry. Conversion is null safe, {@code null} value is written
+ * as empty string.
+ * Values are written directly into the output with {@link TextEncoder}, or into bytes with {@link SinkEncoder},
+ * and decoded directly from section views source with {@link RangeDecoder}.
+ * When module type is not registered, for example field type is an interface,
+ * then conversion falls back to {@link Converter#convert(Object, Class)} by value runtime type.
+ * Modules which type is another class with modules are converted with {@link ModuleConverter#nested(ClassSerializer, Parser)},
+ * and constant modules with {@link ModuleConverter#constant(String, String)}.
+ * Modules can be also accessed with method handles composed by {@link ModuleConverter#writer(MethodHandle)}
+ * and {@link ModuleConverter#reader(Class, String)}. When primitive type has registered handles in {@link Converter},
+ * then they are composed directly with module getter, setter or constructor parameter, so primitive values are never boxed.
+ */
+final class ModuleConverter {
+    private static final MethodHandle WRITE;
+    private static final MethodHandle WRITE_SINK;
+    private static final MethodHandle SCRATCH;
+    private static final MethodHandle APPEND_SCRATCH;
+    private static final MethodHandle LENGTH;
+    private static final MethodHandle FROM_VIEW;
+    private static final MethodHandle SOURCE;
+    private static final MethodHandle VALUE_START;
+    private static final MethodHandle VALUE_END;
+    private static final MethodHandle CONVERSION_ERROR;
+
+    static {
+        try{
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            WRITE = lookup.findVirtual(ModuleConverter.class, "write",
+                    MethodType.methodType(void.class, Object.class, StringBuilder.class));
+            WRITE_SINK = lookup.findVirtual(ModuleConverter.class, "write",
+                    MethodType.methodType(void.class, Object.class, ByteSink.class));
+            SCRATCH = lookup.findVirtual(ByteSink.class, "scratch", MethodType.methodType(StringBuilder.class));
+            APPEND_SCRATCH = lookup.findVirtual(ByteSink.class, "appendScratch", MethodType.methodType(ByteSink.class))
+                    .asType(MethodType.methodType(void.class, ByteSink.class));
+            LENGTH = lookup.findVirtual(ModuleConverter.class, "length",
+                    MethodType.methodType(int.class, Object.class));
+            FROM_VIEW = lookup.findVirtual(ModuleConverter.class, "fromView",
+                    MethodType.methodType(Object.class, SectionView.class));
+            SOURCE = lookup.findVirtual(SectionView.class, "source", MethodType.methodType(CharSequence.class));
+            VALUE_START = lookup.findVirtual(SectionView.class, "valueStart", MethodType.methodType(int.class));
+            VALUE_END = lookup.findVirtual(SectionView.class, "valueEnd", MethodType.methodType(int.class));
+            CONVERSION_ERROR = lookup.findStatic(ModuleConverter.class, "conversionError",
+                    MethodType.methodType(RuntimeException.class, String.class, RuntimeException.class));
+        }catch (ReflectiveOperationException e){
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final TextEncoder<Object> encoder;
+    private final SinkEncoder<Object> sinkEncoder;
+    private final RangeDecoder<Object> fromRange;
+    private final MethodHandle primitiveEncoder;
+    private final MethodHandle primitiveDecoder;
+    private final ToIntFunction<Object> length;
+
+    private ModuleConverter(TextEncoder<Object> encoder, SinkEncoder<Object> sinkEncoder,
+                            RangeDecoder<Object> fromRange, ToIntFunction<Object> length){
+        this(encoder, sinkEncoder, fromRange, null, null, length);
+    }
+
+    private ModuleConverter(TextEncoder<Object> encoder, SinkEncoder<Object> sinkEncoder,
+                            RangeDecoder<Object> fromRange,
+                            MethodHandle primitiveEncoder, MethodHandle primitiveDecoder,
+                            ToIntFunction<Object> length){
+        this.encoder = encoder;
+        this.sinkEncoder = sinkEncoder;
+        this.fromRange = fromRange;
+        this.primitiveEncoder = primitiveEncoder;
+        this.primitiveDecoder = primitiveDecoder;
+        this.length = length;
+    }
+
+    /**
+     * Create conversion plan for module of specified type
+     * @param converter converter that provides conversion functions
+     * @param type module type
+     * @return conversion plan
+     */
+    @SuppressWarnings("unchecked")
+    static ModuleConverter of(Converter converter, Class<?> type){
+        Class<Object> moduleType = (Class<Object>) type;
+        TextEncoder<Object> resolved = converter.isRegistered(type, String.class)
+                ? converter.resolveEncoder(moduleType)
+                : (value, target) -> target.append(converter.convert(value, String.class));
+        TextEncoder<Object> encoder = (value, target) -> {
+            if(value != null) resolved.encode(value, target);
+        };
+        SinkEncoder<Object> resolvedSink = converter.isRegistered(type, String.class)
+                ? converter.resolveSinkEncoder(moduleType)
+                : (value, target) -> target.append(converter.convert(value, String.class));
+        SinkEncoder<Object> sinkEncoder = (value, target) -> {
+            if(value != null) resolvedSink.encode(value, target);
+        };
+        RangeDecoder<Object> fromRange = converter.isRegistered(String.class, type)
+                ? converter.resolveDecoder(moduleType)
+                : (source, start, end) -> converter.convert(source.subSequence(start, end).toString(), moduleType);
+        ToIntFunction<Object> length = converter.isRegistered(type, String.class)
+                ? converter.findLength(moduleType)
+                : null;
+        return new ModuleConverter(encoder, sinkEncoder, fromRange,
+                converter.findPrimitiveEncoder(type), converter.findPrimitiveDecoder(type), length);
+    }
+
+    /**
+     * Create conversion plan for constant module. Constant is written without reading the value,
+     * and section is decoded to the constant itself, when it matches the constant.
+     * @param name module name
+     * @param constant constant string representation of the module
+     * @return conversion plan
+     * @throws IllegalArgumentException when decoded section does not match the constant
+     */
+    static ModuleConverter constant(String name, String constant){
+        return new ModuleConverter(
+                (value, target) -> target.append(constant),
+                (value, target) -> target.append(constant),
+                (source, start, end) -> {
+                    if(!regionEquals(source, start, end, constant)){
+                        throw new IllegalArgumentException("Module " + name + " must be '" + constant
+                                + "' but was '" + source.subSequence(start, end) + "'");
+                    }
+                    return constant;
+                },
+                value -> constant.length());
+    }
+
+    /**
+     * Create conversion plan for module which type is another class with modules. Nested object
+     * is composed directly into the output, and parsed from the range of its section, so
+     * it does not need to be converted to intermediate string.
+     * @param nested class serializer of the module type
+     * @param parser parser of nested object
+     * @return conversion plan
+     */
+    static ModuleConverter nested(ClassSerializer nested, Parser parser){
+        return new ModuleConverter(
+                (value, target) -> {
+                    if(value != null) parser.compose(nested.serialize(value), target);
+                },
+                (value, target) -> {
+                    if(value != null) parser.compose(nested.serialize(value), target);
+                },
+                (source, start, end) -> nested.deserialize(parser.parseViews(source, start, end)),
+                null);
+    }
+
+    private static boolean regionEquals(CharSequence source, int start, int end, String expected){
+        if(end - start != expected.length()) return false;
+        if(source instanceof String string) return string.regionMatches(start, expected, 0, expected.length());
+        for(int i = 0; i < expected.length(); i++){
+            if(source.charAt(start + i) != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compose method handle that reads module value with the getter and appends its string representation
+     * to the output. Primitive values are appended without boxing, when primitive encoder is registered.
+     * @param getter module getter, which single parameter is the object
+     * @return handle with {@code (Object, StringBuilder)void} type
+     */
+    MethodHandle writer(MethodHandle getter){
+        Class<?> type = getter.type().returnType();
+        if(primitiveEncoder != null && primitiveEncoder.type().parameterType(0) == type){
+            return MethodHandles.filterArguments(primitiveEncoder, 0,
+                    getter.asType(MethodType.methodType(type, Object.class)));
+        }
+        return MethodHandles.filterArguments(WRITE.bindTo(this), 0,
+                getter.asType(MethodType.methodType(Object.class, Object.class)));
+    }
+
+    /**
+     * Compose method handle that reads module value with the getter and appends its string representation
+     * to the bytes of the sink, the same as {@link ModuleConverter#writer(MethodHandle)}. Primitive values
+     * are appended to the scratch builder of the sink with primitive encoder, so they are not boxed either.
+     * @param getter module getter, which single parameter is the object
+     * @return handle with {@code (Object, ByteSink)void} type
+     */
+    MethodHandle sinkWriter(MethodHandle getter){
+        Class<?> type = getter.type().returnType();
+        if(primitiveEncoder != null && primitiveEncoder.type().parameterType(0) == type){
+            MethodHandle encoder = MethodHandles.filterArguments(primitiveEncoder, 0,
+                    getter.asType(MethodType.methodType(type, Object.class)), SCRATCH);
+            return MethodHandles.foldArguments(MethodHandles.dropArguments(APPEND_SCRATCH, 0, Object.class), encoder);
+        }
+        return MethodHandles.filterArguments(WRITE_SINK.bindTo(this), 0,
+                getter.asType(MethodType.methodType(Object.class, Object.class)));
+    }
+
+    /**
+     * Compose method handle that reads module value with the getter and returns length of its string representation
+     * @param getter module getter, which single parameter is the object
+     * @return handle with {@code (Object)int} type, or null when length is not known without writing the value
+     */
+    MethodHandle lengthReader(MethodHandle getter){
+        if(length == null) return null;
+        return MethodHandles.filterArguments(LENGTH.bindTo(this), 0,
+                getter.asType(MethodType.methodType(Object.class, Object.class)));
+    }
+
+    /**
+     * Compose method handle that converts view of section to module value of specified type.
+     * Primitive values are decoded directly from section source without boxing, when primitive decoder is registered.
+     * Conversion failures are rethrown with the same message as {@link ClassSerializer#deserialize(SectionView[])}.
+     * @param type module type, that is returned by the handle
+     * @param name module name
+     * @return handle with {@code (SectionView)type} type
+     */
+    MethodHandle reader(Class<?> type, String name){
+        MethodHandle reader;
+        if(primitiveDecoder != null && primitiveDecoder.type().returnType() == type){
+            MethodHandle filtered = MethodHandles.filterArguments(primitiveDecoder, 0, SOURCE, VALUE_START, VALUE_END);
+            reader = MethodHandles.permuteArguments(filtered, MethodType.methodType(type, SectionView.class), 0, 0, 0);
+        }else{
+            reader = FROM_VIEW.bindTo(this).asType(MethodType.methodType(type, SectionView.class));
+        }
+        MethodHandle handler = MethodHandles.dropArguments(
+                MethodHandles.filterArguments(MethodHandles.throwException(type, RuntimeException.class), 0,
+                        MethodHandles.insertArguments(CONVERSION_ERROR, 0, name)),
+                1, SectionView.class);
+        return MethodHandles.catchException(reader, RuntimeException.class, handler);
+    }
+
+    /**
+     * Create exception of module that could not be converted
+     * @param name module name
+     * @param cause conversion failure
+     * @return exception with module name in the message
+     */
+    static RuntimeException conversionError(String name, RuntimeException cause){
+        return new RuntimeException("Could not convert module '" + name + "'. " + cause.getMessage(), cause);
+    }
+
+    /**
+     * Append string representation of the value to the target
+     * @param value module value
+     * @param target output that value is appended to
+     */
+    void write(Object value, StringBuilder target){
+        encoder.encode(value, target);
+    }
+
+    /**
+     * Append string representation of the value to the bytes of the sink
+     * @param value module value
+     * @param target output that value is appended to
+     */
+    void write(Object value, ByteSink target){
+        sinkEncoder.encode(value, target);
+    }
+
+    /**
+     * Return length of string representation of the value, without writing it
+     * @param value module value
+     * @return number of characters appended by {@link ModuleConverter#write(Object, StringBuilder)},
+     * or -1 when length is not known
+     */
+    int length(Object value){
+        if(length == null) return -1;
+        return value == null ? 0 : length.applyAsInt(value);
+    }
+
+    /**
+     * @param view view of section with string representation of module value
+     * @return module value
+     */
+    Object fromView(SectionView view){
+        return fromRange.decode(view.source(), view.valueStart(), view.valueEnd());
+    }
+}
@@ -1,5 +1,12 @@
 package io.github.ysdaeth.jmodularcrypt.core.serializer;
 
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Interface for serializer that convert objects to string value and
  * from string value to objects
@@ -13,6 +20,27 @@ public interface Serializer {
      */
     String serialize(Object mcfObject);
 
+    /**
+     * Serialize object and append it to the target. Default implementation appends
+     * result of {@link Serializer#serialize(Object)}.
+     * @param mcfObject object that fields will be converted to string
+     * @param target output that serialized object is appended to
+     */
+    default void serialize(Object mcfObject, StringBuilder target){
+        target.append(serialize(mcfObject));
+    }
+
+    /**
+     * Serialize object and append it to the target. Default implementation appends
+     * result of {@link Serializer#serialize(Object)}.
+     * @param mcfObject object that fields will be converted to string
+     * @param target output that serialized object is appended to
+     * @throws IOException when target fails to append serialized object
+     */
+    default void serialize(Object mcfObject, Appendable target) throws IOException {
+        target.append(serialize(mcfObject));
+    }
+
     /**
      * Deserialize string to object of specified class
      * @param serialized result that was returned with {@link Serializer#serialize(Object)} method
@@ -21,4 +49,114 @@ public interface Serializer {
      * @param <T> Type of object to return
      */
     <T> T deserialize(String serialized, Class<T> mcfClass);
+
+    /**
+     * Serialize object and write it to the buffer as US-ASCII bytes. Default implementation passes
+     * the buffer wrapped in {@link ByteSink} to {@link Serializer#serialize(Object, Appendable)}, so characters
+     * appended by the serializer are written directly to the buffer.
+     * When serialization fails or buffer has not enough remaining space, then buffer position is not changed,
+     * but bytes after the position may be overwritten.
+     * @param mcfObject object that fields will be converted to string
+     * @param target buffer that serialized object is written to
+     * @throws java.nio.BufferOverflowException when buffer has not enough remaining space
+     */
+    default void serialize(Object mcfObject, ByteBuffer target){
+        ByteSink sink = new ByteSink(target, false);
+        try{
+            serialize(mcfObject, (Appendable) sink);
+        }catch (IOException e){
+            throw new UncheckedIOException(e);
+        }catch (RuntimeException e){
+            sink.setLength(0);
+            throw e;
+        }
+    }
+
+    /**
+     * Deserialize US-ASCII bytes to object of specified class. Default implementation
+     * decodes bytes to string and calls {@link Serializer#deserialize(String, Class)}.
+     * @param serialized bytes of the result returned with {@link Serializer#serialize(Object, ByteBuffer)}
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @param mcfClass class of object
+     * @return Object of specified type
+     * @param <T> Type of object to return
+     */
+    default <T> T deserialize(byte[] serialized, int offset, int length, Class<T> mcfClass){
+        return deserialize(new String(serialized, offset, length, StandardCharsets.US_ASCII), mcfClass);
+    }
+
+    /**
+     * Deserialize remaining US-ASCII bytes of the buffer to object of specified class.
+     * Buffer position is moved to its limit when object is deserialized.
+     * @param serialized buffer with the result returned with {@link Serializer#serialize(Object, ByteBuffer)}
+     * @param mcfClass class of object
+     * @return Object of specified type
+     * @param <T> Type of object to return
+     */
+    default <T> T deserialize(ByteBuffer serialized, Class<T> mcfClass){
+        T result;
+        if(serialized.hasArray()){
+            result = deserialize(serialized.array(), serialized.arrayOffset() + serialized.position(),
+                    serialized.remaining(), mcfClass);
+        }else{
+            byte[] copy = new byte[serialized.remaining()];
+            serialized.get(serialized.position(), copy);
+            result = deserialize(copy, 0, copy.length, mcfClass);
+        }
+        serialized.position(serialized.limit());
+        return result;
+    }
+
+    /**
+     * Return serializer bound to specified class. Default implementation delegates
+     * to {@link Serializer#serialize(Object)} and {@link Serializer#deserialize(String, Class)}.
+     * @param type class of serialized objects
+     * @return serializer bound to specified class
+     * @param <T> Type of serialized objects
+     */
+    default <T> TypedSerializer<T> forType(Class<T> type){
+        Serializer serializer = this;
+        return new TypedSerializer<>() {
+            @Override
+            public Class<T> type() {
+                return type;
+            }
+
+            @Override
+            public String serialize(T object) {
+                return serializer.serialize(object);
+            }
+
+            @Override
+            public void serialize(T object, StringBuilder target) {
+                serializer.serialize(object, target);
+            }
+
+            @Override
+            public void serialize(T object, Appendable target) throws IOException {
+                serializer.serialize(object, target);
+            }
+
+            @Override
+            public void serialize(T object, ByteBuffer target) {
+                serializer.serialize(object, target);
+            }
+
+            @Override
+            public T deserialize(String serialized) {
+                return serializer.deserialize(serialized, type);
+            }
+
+            @Override
+            public T deserialize(byte[] serialized, int offset, int length) {
+                return serializer.deserialize(serialized, offset, length, type);
+            }
+
+            @Override
+            public T deserialize(ByteBuffer serialized) {
+                return serializer.deserialize(serialized, type);
+            }
+        };
+    }
 }
@@ -1,15 +1,20 @@
 package io.github.ysdaeth.jmodularcrypt.core.serializer;
 
 import io.github.ysdaeth.jmodularcrypt.core.converter.Converter;
+import io.github.ysdaeth.jmodularcrypt.core.parser.McfParametersParser;
 import io.github.ysdaeth.jmodularcrypt.core.parser.Parser;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Reusable configuration for {@link ConfigurableSerializer}
  */
 public interface SerializerConfig {
 
     /**
-     * Type converter converts string to types and types to strings
+     * Type converter converts string to types and types to strings.
+     * Returned converter is frozen by {@link ConfigurableSerializer}, so it must not be modified afterwards
      * @return Implementation of type converter
      */
     Converter typeConverter();
@@ -20,4 +25,35 @@ public interface SerializerConfig {
      */
     Parser parser();
 
+    /**
+     * Return parser of modules which type is another class with {@link io.github.ysdaeth.jmodularcrypt.core.annotations.Module}
+     * annotated fields. Nested object is composed with this parser into a single section value
+     * of the outer object, and parsed from the range of that section.
+     * Default is {@link McfParametersParser}, so nested objects are written in parameter format inside MCF.
+     * @return parser of nested modules
+     */
+    default Parser nestedParser(){
+        return new McfParametersParser();
+    }
+
+    /**
+     * Return strategy used to access modules of serialized classes.
+     * Default is {@link AccessStrategy#REFLECTION}
+     * @return modules access strategy
+     */
+    default AccessStrategy accessStrategy(){
+        return AccessStrategy.REFLECTION;
+    }
+
+    /**
+     * Return charset of serialized values written to and read from bytes. Each character is a single byte,
+     * {@link StandardCharsets#US_ASCII} for text formats, or {@link StandardCharsets#ISO_8859_1} for
+     * binary formats, which characters are bytes from 0 to 255.
+     * Default is {@link StandardCharsets#US_ASCII}
+     * @return charset of serialized bytes
+     */
+    default Charset charset(){
+        return StandardCharsets.US_ASCII;
+    }
+
 }
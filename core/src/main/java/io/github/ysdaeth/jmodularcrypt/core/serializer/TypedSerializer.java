@@ -0,0 +1,123 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer;
+
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializer bound to one class. Instances are created with {@link Serializer#forType(Class)}
+ * and are meant to be stored as fields, when the same class is serialized repeatedly,
+ * so class metadata is not looked up on every call.
+ * @param <T> type of serialized class
+ */
+public interface TypedSerializer<T> {
+
+    /**
+     * @return class that this serializer is bound to
+     */
+    Class<T> type();
+
+    /**
+     * Serialize object to string.
+     * @param object object that fields will be converted to string
+     * @return serialized object
+     */
+    String serialize(T object);
+
+    /**
+     * Serialize object and append it to the target. Default implementation appends
+     * result of {@link TypedSerializer#serialize(Object)}.
+     * @param object object that fields will be converted to string
+     * @param target output that serialized object is appended to
+     */
+    default void serialize(T object, StringBuilder target){
+        target.append(serialize(object));
+    }
+
+    /**
+     * Serialize object and append it to the target. Default implementation appends
+     * result of {@link TypedSerializer#serialize(Object)}.
+     * @param object object that fields will be converted to string
+     * @param target output that serialized object is appended to
+     * @throws IOException when target fails to append serialized object
+     */
+    default void serialize(T object, Appendable target) throws IOException {
+        target.append(serialize(object));
+    }
+
+    /**
+     * Deserialize string to object of bound class
+     * @param serialized result that was returned with {@link TypedSerializer#serialize(Object)} method
+     * @return Object of bound type
+     */
+    T deserialize(String serialized);
+
+    /**
+     * Split serialized string into sections, and return model which modules are converted
+     * on the first access. Default implementation is not supported, serializers bound
+     * with {@link ConfigurableSerializer#forType(Class)} support it.
+     * @param serialized result that was returned with {@link TypedSerializer#serialize(Object)} method
+     * @return lazily converted model of bound type
+     * @throws UnsupportedOperationException when serializer does not support lazy deserialization
+     */
+    default LazyModel<T> deserializeLazy(CharSequence serialized){
+        throw new UnsupportedOperationException("Lazy deserialization is not supported by " + getClass());
+    }
+
+    /**
+     * Serialize object and write it to the buffer as US-ASCII bytes. Default implementation passes
+     * the buffer wrapped in {@link ByteSink} to {@link TypedSerializer#serialize(Object, Appendable)}, so characters
+     * appended by the serializer are written directly to the buffer.
+     * When serialization fails or buffer has not enough remaining space, then buffer position is not changed,
+     * but bytes after the position may be overwritten.
+     * @param object object that fields will be converted to string
+     * @param target buffer that serialized object is written to
+     * @throws java.nio.BufferOverflowException when buffer has not enough remaining space
+     */
+    default void serialize(T object, ByteBuffer target){
+        ByteSink sink = new ByteSink(target, false);
+        try{
+            serialize(object, (Appendable) sink);
+        }catch (IOException e){
+            throw new UncheckedIOException(e);
+        }catch (RuntimeException e){
+            sink.setLength(0);
+            throw e;
+        }
+    }
+
+    /**
+     * Deserialize US-ASCII bytes to object of bound class. Default implementation
+     * decodes bytes to string and calls {@link TypedSerializer#deserialize(String)}.
+     * @param serialized bytes of the result returned with {@link TypedSerializer#serialize(Object, ByteBuffer)}
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @return Object of bound type
+     */
+    default T deserialize(byte[] serialized, int offset, int length){
+        return deserialize(new String(serialized, offset, length, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Deserialize remaining US-ASCII bytes of the buffer to object of bound class.
+     * Buffer position is moved to its limit when object is deserialized.
+     * @param serialized buffer with the result returned with {@link TypedSerializer#serialize(Object, ByteBuffer)}
+     * @return Object of bound type
+     */
+    default T deserialize(ByteBuffer serialized){
+        T result;
+        if(serialized.hasArray()){
+            result = deserialize(serialized.array(), serialized.arrayOffset() + serialized.position(),
+                    serialized.remaining());
+        }else{
+            byte[] copy = new byte[serialized.remaining()];
+            serialized.get(serialized.position(), copy);
+            result = deserialize(copy, 0, copy.length);
+        }
+        serialized.position(serialized.limit());
+        return result;
+    }
+}
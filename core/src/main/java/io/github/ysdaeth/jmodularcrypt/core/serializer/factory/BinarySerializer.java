@@ -0,0 +1,44 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.factory;
+
+import io.github.ysdaeth.jmodularcrypt.core.converter.BinaryConverter;
+import io.github.ysdaeth.jmodularcrypt.core.converter.Converter;
+import io.github.ysdaeth.jmodularcrypt.core.parser.BinaryParser;
+import io.github.ysdaeth.jmodularcrypt.core.parser.Parser;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.ConfigurableSerializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.SerializerConfig;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+final class BinarySerializer extends ConfigurableSerializer {
+
+    public BinarySerializer() {
+        super(new BinaryConfig());
+    }
+
+    /**
+     * Serializer configuration for length prefixed binary format, nested objects are length prefixed too
+     */
+    private static class BinaryConfig implements SerializerConfig {
+
+        @Override
+        public Converter typeConverter() {
+            return new BinaryConverter();
+        }
+
+        @Override
+        public Parser parser() {
+            return new BinaryParser();
+        }
+
+        @Override
+        public Parser nestedParser() {
+            return new BinaryParser();
+        }
+
+        @Override
+        public Charset charset() {
+            return StandardCharsets.ISO_8859_1;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.factory;
+
+import io.github.ysdaeth.jmodularcrypt.core.converter.Converter;
+import io.github.ysdaeth.jmodularcrypt.core.converter.ConverterRadix64Bytes;
+import io.github.ysdaeth.jmodularcrypt.core.parser.McfParser;
+import io.github.ysdaeth.jmodularcrypt.core.parser.Parser;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.ConfigurableSerializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.SerializerConfig;
+
+final class McfSerializerRadix64 extends ConfigurableSerializer {
+
+    public McfSerializerRadix64() {
+        super(new Radix64Config());
+    }
+
+    private static class Radix64Config implements SerializerConfig{
+
+        @Override
+        public Converter typeConverter() {
+            return new ConverterRadix64Bytes();
+        }
+
+        @Override
+        public Parser parser() {
+            return new McfParser();
+        }
+    }
+}
@@ -8,29 +8,60 @@ import io.github.ysdaeth.jmodularcrypt.core.serializer.Serializer;
  * <ul>
  *     <li>{@link SerializerType#MCF_BASE64} serializes structures to Modular Crypt Format - bytes to base64</li>
  *     <li>{@link SerializerType#MCF_HEXADECIMAL} serializes structures to Modular Crypt Format - bytes to hex format</li>
+ *     <li>{@link SerializerType#MCF_RADIX64} serializes structures to Modular Crypt Format - bytes to unpadded
+ *     radix-64 format with {@code ./0-9A-Za-z} alphabet of classic crypt hashes</li>
  *     <li>{@link SerializerType#MCF_PARAMETER} serializes structures to parameter Modular Crypt Format - bytes base64</li>
+ *     <li>{@link SerializerType#BINARY} serializes structures to length prefixed binary format - raw bytes,
+ *     which are ISO-8859-1 characters of serialized string</li>
  * </ul>
  */
 public final class SerializerFactory {
 
+    private static final Serializer MCF_BASE64 = new McfSerializer();
+    private static final Serializer MCF_HEXADECIMAL = new McfSerializerHexFormat();
+    private static final Serializer MCF_PARAMETER = new McfParameterSerializer();
+    private static final Serializer MCF_RADIX64 = new McfSerializerRadix64();
+    private static final Serializer BINARY = new BinarySerializer();
+
     private SerializerFactory(){}
 
     /**
-     * Create configured instance of {@link Serializer} based on provided type
+     * Return configured instance of {@link Serializer} based on provided type. Instances are thread safe
+     * and shared, so classes metadata is cached once for each serializer type.
      * <ul>
      *     <li>{@link SerializerType#MCF_BASE64} serializes structures to Modular Crypt Format - bytes to base64</li>
      *     <li>{@link SerializerType#MCF_HEXADECIMAL} serializes structures to Modular Crypt Format - bytes to hex format</li>
+     *     <li>{@link SerializerType#MCF_RADIX64} serializes structures to Modular Crypt Format - bytes to unpadded
+     *     radix-64 format</li>
      *     <li>{@link SerializerType#MCF_PARAMETER} serializes structures to parameter Modular Crypt Format - bytes base64</li>
+     *     <li>{@link SerializerType#BINARY} serializes structures to length prefixed binary format</li>
      * </ul>
      * @param type type of serializer
      * @return serializer
      */
     public static Serializer getInstance(SerializerType type){
         return switch(type){
-            case MCF_BASE64 -> new McfSerializer();
-            case MCF_HEXADECIMAL -> new McfSerializerHexFormat();
-            case MCF_PARAMETER -> new McfParameterSerializer();
+            case MCF_BASE64 -> MCF_BASE64;
+            case MCF_HEXADECIMAL -> MCF_HEXADECIMAL;
+            case MCF_PARAMETER -> MCF_PARAMETER;
+            case MCF_RADIX64 -> MCF_RADIX64;
+            case BINARY -> BINARY;
         };
     }
 
+    /**
+     * Convert serialized value of specified class from one format to another. Value is deserialized
+     * and serialized again, so conversion is lossless for every value that both formats represent,
+     * and converting it back gives the original value.
+     * @param serialized value serialized with serializer of the source type
+     * @param type class of serialized value
+     * @param from type of serializer that produced the value
+     * @param to type of serializer of returned value
+     * @return value serialized with serializer of the target type
+     */
+    public static String convert(String serialized, Class<?> type, SerializerType from, SerializerType to){
+        if(from == to) return serialized;
+        return getInstance(to).serialize(getInstance(from).deserialize(serialized, type));
+    }
+
 }
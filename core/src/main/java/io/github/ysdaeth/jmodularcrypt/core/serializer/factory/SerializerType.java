@@ -5,9 +5,13 @@ package io.github.ysdaeth.jmodularcrypt.core.serializer.factory;
  * <ul>
  *     <li>{@link SerializerType#MCF_BASE64} serializes structures to Modular Crypt Format - bytes to base64</li>
  *     <li>{@link SerializerType#MCF_HEXADECIMAL} serializes structures to Modular Crypt Format - bytes to hex format</li>
+ *     <li>{@link SerializerType#MCF_RADIX64} serializes structures to Modular Crypt Format - bytes to unpadded
+ *     radix-64 format with {@code ./0-9A-Za-z} alphabet of classic crypt hashes</li>
  *     <li>{@link SerializerType#MCF_PARAMETER} serializes structures to parameter Modular Crypt Format - bytes base64</li>
+ *     <li>{@link SerializerType#BINARY} serializes structures to length prefixed binary format - raw bytes,
+ *     which are ISO-8859-1 characters of serialized string</li>
  * </ul>
  */
 public enum SerializerType {
-    MCF_BASE64, MCF_HEXADECIMAL, MCF_PARAMETER
+    MCF_BASE64, MCF_HEXADECIMAL, MCF_PARAMETER, MCF_RADIX64, BINARY
 }
@@ -4,4 +4,5 @@ module io.github.ysdaeth.jmodularcrypt.core {
     exports io.github.ysdaeth.jmodularcrypt.core.converter;
     exports io.github.ysdaeth.jmodularcrypt.core.serializer;
     exports io.github.ysdaeth.jmodularcrypt.core.serializer.factory;
+    uses io.github.ysdaeth.jmodularcrypt.core.serializer.GeneratedSerializer;
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Random;
+
+class Base64CodecTest {
+
+    @Test
+    public void encode_shouldMatchJdkEncoder(){
+        Random random = new Random(7);
+        for(int length : new int[]{0, 1, 2, 3, 4, 5, 767, 768, 769, 4096}){
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String expected = Base64.getEncoder().encodeToString(bytes);
+            StringBuilder target = new StringBuilder("$");
+            Base64Codec.encode(bytes, target);
+
+            Assertions.assertEquals(expected, Base64Codec.encode(bytes));
+            Assertions.assertEquals("$" + expected, target.toString());
+            Assertions.assertEquals(expected.length(), Base64Codec.encodedLength(length));
+            Assertions.assertArrayEquals(bytes, Base64Codec.decode(expected, 0, expected.length()));
+        }
+    }
+
+    @Test
+    public void encode_shouldWriteIntoCallerBuffer(){
+        char[] target = new char[10];
+        int written = Base64Codec.encode(new byte[]{0, 1, 2, 3, 4}, 1, 3, target, 2);
+
+        Assertions.assertEquals(4, written);
+        Assertions.assertEquals("AQID", new String(target, 2, written));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                ()->Base64Codec.encode(new byte[4], 0, 4, new char[7], 0));
+    }
+
+    @Test
+    public void decode_shouldWriteIntoCallerBuffer(){
+        byte[] target = new byte[6];
+        int written = Base64Codec.decode("$AQI$", 1, 4, target, 3);
+
+        Assertions.assertEquals(2, written);
+        Assertions.assertEquals(2, Base64Codec.decodedLength("$AQI=$", 1, 5));
+        Assertions.assertArrayEquals(new byte[]{0, 0, 0, 1, 2, 0}, target);
+    }
+
+    @Test
+    public void decode_shouldRejectInvalidFormat(){
+        for(String invalid : new String[]{"A", "AQ=", "AQ=A", "AQ-D", "AQéD"}){
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    ()->Base64Codec.decode(invalid, 0, invalid.length()), invalid);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package io.github.ysdaeth.jmodularcrypt.core.converter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Base64;
 
 class BasicConverterTest {
 
@@ -174,4 +176,143 @@ class BasicConverterTest {
         Assertions.assertEquals(expected,actual);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void convert_shouldReturnNullFromNull(){
+        Assertions.assertNull(converter.convert(null, String.class));
+    }
+
+    @Test
+    public void resolve_shouldReturnNullSafeFunction(){
+        var toText = converter.resolve(byte[].class, String.class);
+        Assertions.assertEquals("AQID", toText.apply(new byte[]{1,2,3}));
+        Assertions.assertNull(toText.apply(null));
+    }
+
+    @Test
+    public void findPrimitive_shouldConvertWithoutBoxing() throws Throwable {
+        StringBuilder target = new StringBuilder();
+        converter.findPrimitiveEncoder(long.class).invokeExact(-42L, target);
+        converter.findPrimitiveEncoder(boolean.class).invokeExact(true, target);
+
+        Assertions.assertEquals("-42true", target.toString());
+        Assertions.assertEquals(123, (int) converter.findPrimitiveDecoder(int.class).invokeExact((CharSequence) "$123$", 1, 4));
+        Assertions.assertFalse((boolean) converter.findPrimitiveDecoder(boolean.class).invokeExact((CharSequence) "truee", 0, 5));
+        Assertions.assertNull(converter.findPrimitiveEncoder(float.class));
+    }
+
+    @Test
+    public void resolveEncoder_shouldAppendObjectBytesWithoutCopy(){
+        for(int length = 0; length < 7; length++){
+            byte[] bytes = new byte[length];
+            Byte[] boxed = new Byte[length];
+            for(int i = 0; i < length; i++){
+                bytes[i] = (byte) (i * 97);
+                boxed[i] = bytes[i];
+            }
+            StringBuilder target = new StringBuilder();
+            converter.resolveEncoder(Byte[].class).encode(boxed, target);
+            String expected = Base64.getEncoder().encodeToString(bytes);
+
+            Assertions.assertEquals(expected, target.toString());
+            Assertions.assertArrayEquals(boxed, converter.resolveDecoder(Byte[].class).decode(expected, 0, expected.length()));
+        }
+    }
+
+    @Test
+    public void convert_shouldConvertBufferAndView(){
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0,1,2,3}).position(1);
+        ByteView view = ByteView.of(new byte[]{0,1,2,3}, 1, 3);
+
+        Assertions.assertEquals("AQID", converter.resolve(ByteBuffer.class, String.class).apply(buffer));
+        Assertions.assertEquals(1, buffer.position());
+        Assertions.assertEquals("AQID", converter.resolve(ByteView.class, String.class).apply(view));
+        Assertions.assertEquals(buffer, converter.resolveDecoder(ByteBuffer.class).decode("$AQID", 1, 5));
+        Assertions.assertEquals(view, converter.resolveDecoder(ByteView.class).decode("$AQID", 1, 5));
+    }
+
+    @Test
+    public void resolve_shouldThrowWhenNotRegistered(){
+        Assertions.assertThrows(RuntimeException.class, ()->converter.resolve(Double.class, String.class));
+    }
+
+    @Test
+    public void freeze_shouldRejectRegistration(){
+        ExtendableConverter frozen = new ExtendableConverter();
+        frozen.freeze();
+        Assertions.assertThrows(IllegalStateException.class,
+                ()->frozen.register(Long.class, String.class, Object::toString, Long::valueOf));
+    }
+
+    @Test
+    public void frozenCopy_shouldNotFreezeConverter(){
+        ExtendableConverter converter = new ExtendableConverter();
+        Converter copy = converter.frozenCopy();
+        converter.register(StringBuilder.class, String.class, Object::toString, StringBuilder::new);
+
+        Assertions.assertNotSame(converter, copy);
+        Assertions.assertTrue(converter.isRegistered(StringBuilder.class, String.class));
+        Assertions.assertFalse(copy.isRegistered(StringBuilder.class, String.class));
+        Assertions.assertTrue(copy.isRegistered(byte[].class, String.class));
+        Assertions.assertSame(copy, copy.frozenCopy());
+    }
+
+    private static class ExtendableConverter extends BasicConverter {
+        @Override
+        protected <T, R> void register(Class<T> from, Class<R> to,
+                                       java.util.function.Function<T, R> forwardFn,
+                                       java.util.function.Function<R, T> backwardFn) {
+            super.register(from, to, forwardFn, backwardFn);
+        }
+    }
+
+    @Test
+    public void resolveDecoder_shouldDecodeBase64RangeLikeDecoder(){
+        RangeDecoder<byte[]> decoder = converter.resolveDecoder(byte[].class);
+        java.util.Random random = new java.util.Random(7);
+        for(int length = 0; length < 40; length++){
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String padded = java.util.Base64.getEncoder().encodeToString(bytes);
+            String unpadded = java.util.Base64.getEncoder().withoutPadding().encodeToString(bytes);
+
+            Assertions.assertArrayEquals(bytes, decoder.decode("$" + padded + "$", 1, padded.length() + 1));
+            Assertions.assertArrayEquals(bytes, decoder.decode(unpadded, 0, unpadded.length()));
+        }
+    }
+
+    @Test
+    public void resolveDecoder_shouldRejectInvalidBase64(){
+        RangeDecoder<byte[]> decoder = converter.resolveDecoder(byte[].class);
+        for(String invalid : new String[]{"A", "AA=", "AAAA=", "AA=A", "A-AA", "AAA\u00e9"}){
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    ()->java.util.Base64.getDecoder().decode(invalid), invalid);
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    ()->decoder.decode(invalid, 0, invalid.length()), invalid);
+        }
+    }
+
+    @Test
+    public void resolveDecoder_shouldParseIntRange(){
+        Assertions.assertEquals(65536, converter.resolveDecoder(int.class).decode("m=65536,t=3", 2, 7));
+    }
+
+    @Test
+    public void resolveEncoder_shouldEncodeBase64LikeEncoder(){
+        TextEncoder<byte[]> encoder = converter.resolveEncoder(byte[].class);
+        java.util.Random random = new java.util.Random(7);
+        for(int length = 0; length < 40; length++){
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            StringBuilder target = new StringBuilder("$");
+            encoder.encode(bytes, target);
+            Assertions.assertEquals("$" + java.util.Base64.getEncoder().encodeToString(bytes), target.toString());
+        }
+    }
+
+    @Test
+    public void resolveEncoder_shouldAppendInt(){
+        StringBuilder target = new StringBuilder("m=");
+        converter.resolveEncoder(int.class).encode(65536, target);
+        Assertions.assertEquals("m=65536", target.toString());
+    }
+}
@@ -3,6 +3,7 @@ package io.github.ysdaeth.jmodularcrypt.core.converter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 class ConverterBytesToHexTest {
@@ -42,4 +43,36 @@ class ConverterBytesToHexTest {
         boolean matches = Arrays.equals(expected,actual);
         Assertions.assertTrue(matches,"byte array does not match after hex decoding");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void resolveDecoder_shouldDecodeHexRange(){
+        byte[] actual = converter.resolveDecoder(byte[].class).decode("$v=1$0a0B0c$", 5, 11);
+        Assertions.assertArrayEquals(new byte[]{10,11,12}, actual);
+    }
+
+    @Test
+    public void resolveEncoder_shouldAppendHex(){
+        StringBuilder target = new StringBuilder("$v=1$");
+        converter.resolveEncoder(byte[].class).encode(new byte[]{10,11,12}, target);
+        Assertions.assertEquals("$v=1$0a0b0c", target.toString());
+    }
+
+    @Test
+    public void resolveDecoder_shouldDecodeObjectBytesRange(){
+        Byte[] actual = converter.resolveDecoder(Byte[].class).decode("$ff0B$", 1, 5);
+        Assertions.assertArrayEquals(new Byte[]{-1,11}, actual);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->converter.resolveDecoder(Byte[].class).decode("ff0", 0, 3));
+    }
+
+    @Test
+    public void resolveEncoder_shouldAppendRemainingBufferAndView(){
+        StringBuilder target = new StringBuilder();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(3).put(new byte[]{9,10,11}).position(1);
+        converter.resolveEncoder(ByteBuffer.class).encode(buffer, target);
+        converter.resolveEncoder(ByteView.class).encode(ByteView.of(new byte[]{1,2,3,4}, 1, 2), target);
+
+        Assertions.assertEquals("0a0b0203", target.toString());
+        Assertions.assertEquals(1, buffer.position());
+    }
+}
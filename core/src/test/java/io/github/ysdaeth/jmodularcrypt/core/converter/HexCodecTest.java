@@ -0,0 +1,43 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+import java.util.Random;
+
+class HexCodecTest {
+
+    @Test
+    public void encode_shouldMatchHexFormat(){
+        Random random = new Random(7);
+        for(int length : new int[]{0, 1, 511, 512, 513, 4096}){
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String expected = HexFormat.of().formatHex(bytes);
+            StringBuilder target = new StringBuilder("$");
+            HexCodec.encode(bytes, target);
+
+            Assertions.assertEquals(expected, HexCodec.encode(bytes));
+            Assertions.assertEquals("$" + expected, target.toString());
+            Assertions.assertArrayEquals(bytes, HexCodec.decode(expected.toUpperCase(), 0, expected.length()));
+        }
+    }
+
+    @Test
+    public void decode_shouldWriteIntoCallerBuffer(){
+        byte[] target = new byte[4];
+        int written = HexCodec.decode("$0aFf$", 1, 5, target, 1);
+
+        Assertions.assertEquals(2, written);
+        Assertions.assertArrayEquals(new byte[]{0, 10, -1, 0}, target);
+    }
+
+    @Test
+    public void decode_shouldRejectInvalidFormat(){
+        for(String invalid : new String[]{"0", "0g", "-1"}){
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    ()->HexCodec.decode(invalid, 0, invalid.length()), invalid);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.ysdaeth.jmodularcrypt.core.converter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Random;
+
+class Radix64CodecTest {
+
+    private static final String BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+    private static final String RADIX64 = "./0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    @Test
+    public void encode_shouldMatchUnpaddedBase64WithCryptAlphabet(){
+        Random random = new Random(11);
+        for(int length : new int[]{0, 1, 2, 3, 32, 64, 767, 768, 769, 4096}){
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String expected = translate(Base64.getEncoder().withoutPadding().encodeToString(bytes));
+            StringBuilder target = new StringBuilder("$");
+            Radix64Codec.encode(bytes, target);
+
+            Assertions.assertEquals(expected, Radix64Codec.encode(bytes));
+            Assertions.assertEquals(Radix64Codec.encodedLength(length), expected.length());
+            Assertions.assertEquals("$" + expected, target.toString());
+            Assertions.assertArrayEquals(bytes, Radix64Codec.decode(expected, 0, expected.length()));
+        }
+    }
+
+    @Test
+    public void decode_shouldWriteIntoCallerBuffer(){
+        byte[] target = new byte[4];
+        int written = Radix64Codec.decode("$/.$", 1, 3, target, 1);
+
+        Assertions.assertEquals(1, written);
+        Assertions.assertArrayEquals(new byte[]{0, 4, 0, 0}, target);
+    }
+
+    @Test
+    public void decode_shouldRejectInvalidFormat(){
+        for(String invalid : new String[]{"A", "AAAAA", "AA=", "AA+/", "/0", "..0"}){
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    ()->Radix64Codec.decode(invalid, 0, invalid.length()), invalid);
+        }
+    }
+
+    @Test
+    public void converter_shouldEncodeAllBytesContainersAlike(){
+        byte[] bytes = new byte[]{-1, 0, 1, 2, 3, -128, 127};
+        String expected = Radix64Codec.encode(bytes);
+        Byte[] objectBytes = new Byte[bytes.length];
+        for(int i = 0; i < bytes.length; i++) objectBytes[i] = bytes[i];
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        ConverterRadix64Bytes converter = new ConverterRadix64Bytes();
+        StringBuilder fromBuffer = new StringBuilder();
+        converter.resolveEncoder(ByteBuffer.class).encode(direct, fromBuffer);
+
+        Assertions.assertEquals(expected, converter.convert(bytes, String.class));
+        Assertions.assertEquals(expected, converter.convert(objectBytes, String.class));
+        Assertions.assertEquals(expected, fromBuffer.toString());
+        Assertions.assertEquals(0, direct.position());
+        Assertions.assertEquals(expected, converter.convert(ByteView.of(bytes), String.class));
+        Assertions.assertArrayEquals(objectBytes, converter.convert(expected, Byte[].class));
+        Assertions.assertEquals(ByteView.of(bytes), converter.convert(expected, ByteView.class));
+    }
+
+    private static String translate(String base64){
+        StringBuilder radix64 = new StringBuilder(base64.length());
+        for(int i = 0; i < base64.length(); i++){
+            radix64.append(RADIX64.charAt(BASE64.indexOf(base64.charAt(i))));
+        }
+        return radix64.toString();
+    }
+}
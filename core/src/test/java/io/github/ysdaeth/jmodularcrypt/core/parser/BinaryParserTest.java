@@ -0,0 +1,121 @@
+package io.github.ysdaeth.jmodularcrypt.core.parser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BinaryParserTest {
+
+    private final BinaryParser parser = new BinaryParser();
+
+    @Test
+    void compose_shouldPrefixValuesWithVarintLength(){
+        String large = "x".repeat(300);
+        String composed = parser.compose(new Section[]{
+                new Section("k", "ab"), new Section("k", ""), new Section("k", large)});
+
+        Assertions.assertEquals("\u0002ab\u0000¬\u0002" + large, composed);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void compose_shouldAppendLengthsOfEveryPrefixWidth(boolean knownLength){
+        Section[] sections = new Section[]{new Section(null, "a".repeat(127)), new Section(null, "b".repeat(128)),
+                new Section(null, "c".repeat(16383)), new Section(null, "d".repeat(16384))};
+        StringBuilder target = new StringBuilder("##");
+
+        parser.compose(knownLength ? SectionSource.of(sections) : unknownLength(sections), target);
+
+        Assertions.assertEquals(2 + 1 + 127 + 2 + 128 + 2 + 16383 + 3 + 16384, target.length());
+        Assertions.assertEquals("##\u007f", target.substring(0, 3));
+        Assertions.assertArrayEquals(sections, parser.parse(target.substring(2)));
+    }
+
+    @Test
+    void parse_shouldReturnComposedValues(){
+        Section[] sections = new Section[]{
+                new Section(null, "$\u0000ÿ"), new Section(null, ""), new Section(null, "y".repeat(20000))};
+
+        Assertions.assertArrayEquals(sections, parser.parse(parser.compose(sections)));
+    }
+
+    @Test
+    void parseViews_shouldParseRange(){
+        String source = "##" + parser.compose(new Section[]{new Section(null, "a"), new Section(null, "bc")}) + "##";
+        SectionView[] views = parser.parseViews(source, 2, source.length() - 2);
+
+        Assertions.assertEquals(2, views.length);
+        Assertions.assertEquals("a", views[0].value());
+        Assertions.assertEquals("bc", views[1].value());
+    }
+
+    @Test
+    void parse_shouldThrowOnTruncatedValue(){
+        for(String invalid : new String[]{"\u0003ab", "\u0080", "ÿÿÿÿÿ\u0001", "Ā"}){
+            Assertions.assertThrows(IllegalArgumentException.class, ()->parser.parse(invalid));
+        }
+    }
+
+    @Test
+    void compose_shouldRestoreTargetOnInvalidValue(){
+        StringBuilder target = new StringBuilder("prefix");
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()->parser.compose(
+                SectionSource.of(new Section[]{new Section(null, "a"), new Section(null, "Ā")}), target));
+        Assertions.assertEquals("prefix", target.toString());
+    }
+
+    @Test
+    void compose_shouldRejectValueOfOtherLengthThanKnown(){
+        SectionSource source = new SectionSource() {
+            @Override
+            public int size() {
+                return 1;
+            }
+
+            @Override
+            public String key(int index) {
+                return null;
+            }
+
+            @Override
+            public void writeValue(int index, StringBuilder target) {
+                target.append("abc");
+            }
+
+            @Override
+            public int valueLength(int index) {
+                return 2;
+            }
+        };
+        StringBuilder target = new StringBuilder("prefix");
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()->parser.compose(source, target));
+        Assertions.assertEquals("prefix", target.toString());
+    }
+
+    /**
+     * @param sections key value pairs
+     * @return source of the sections, that does not know values lengths before they are written
+     */
+    private static SectionSource unknownLength(Section[] sections){
+        SectionSource source = SectionSource.of(sections);
+        return new SectionSource() {
+            @Override
+            public int size() {
+                return source.size();
+            }
+
+            @Override
+            public String key(int index) {
+                return source.key(index);
+            }
+
+            @Override
+            public void writeValue(int index, StringBuilder target) {
+                source.writeValue(index, target);
+            }
+        };
+    }
+}
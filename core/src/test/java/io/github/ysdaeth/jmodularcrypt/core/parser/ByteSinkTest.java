@@ -0,0 +1,60 @@
+package io.github.ysdaeth.jmodularcrypt.core.parser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+class ByteSinkTest {
+
+    @Test
+    void append_shouldWriteCharactersAtBufferPosition(){
+        ByteBuffer buffer = ByteBuffer.allocate(16).put((byte) '#');
+        ByteSink sink = new ByteSink(buffer, false);
+
+        sink.append('$').append("abc", 1, 3).append(new char[]{'x', 'y'}, 1, 1);
+        sink.scratch().append(42);
+        sink.appendScratch();
+
+        Assertions.assertEquals("$bcy42", sink.toString());
+        Assertions.assertEquals(6, sink.length());
+        Assertions.assertEquals('c', sink.charAt(2));
+        Assertions.assertEquals("cy", sink.subSequence(2, 4));
+        Assertions.assertEquals(7, buffer.position());
+    }
+
+    @Test
+    void setLength_shouldMoveBufferPositionBack(){
+        ByteBuffer buffer = ByteBuffer.allocate(16).put((byte) '#');
+        ByteSink sink = new ByteSink(buffer, false);
+        sink.append("abcd");
+
+        sink.setLength(1);
+
+        Assertions.assertEquals("a", sink.toString());
+        Assertions.assertEquals(2, buffer.position());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, ()->sink.setLength(2));
+    }
+
+    @Test
+    void append_shouldRejectCharactersOfOtherCharset(){
+        ByteSink ascii = new ByteSink(ByteBuffer.allocate(4), false);
+        ByteSink latin1 = new ByteSink(ByteBuffer.allocate(4), true);
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()->ascii.append('ÿ'));
+        Assertions.assertThrows(IllegalArgumentException.class, ()->latin1.append('Ā'));
+        latin1.append('ÿ');
+        Assertions.assertEquals('ÿ', latin1.charAt(0));
+    }
+
+    @Test
+    void append_shouldNotWriteRangeThatDoesNotFit(){
+        ByteBuffer buffer = ByteBuffer.allocate(3);
+        ByteSink sink = new ByteSink(buffer, false);
+        sink.append('a');
+
+        Assertions.assertThrows(BufferOverflowException.class, ()->sink.append("bcd"));
+        Assertions.assertEquals(1, buffer.position());
+    }
+}
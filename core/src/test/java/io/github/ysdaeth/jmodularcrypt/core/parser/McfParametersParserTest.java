@@ -88,4 +88,42 @@ class McfParametersParserTest {
         assertArrayEquals(original, parsed);
     }
 
-}
\ No newline at end of file
+    @Test
+    void parse_shouldSkipBlankSections() {
+        Section[] result = parser.parse(",a=1, ,,b=2,");
+
+        assertArrayEquals(new Section[]{new Section("a", "1"), new Section("b", "2")}, result);
+    }
+
+    @Test
+    void parse_shouldThrowException_whenAssignmentIsMissing() {
+        assertThrows(
+                StringIndexOutOfBoundsException.class,
+                () -> parser.parse("a=1,b")
+        );
+    }
+
+    @Test
+    void compose_shouldReturnEmptyString_whenNoSections() {
+        assertEquals("", parser.compose(new Section[0]));
+    }
+
+    @Test
+    void parseViews_shouldReturnTheSameSectionsAsParse() {
+        String composed = ",a=1, ,bc=d=,e=fg,";
+
+        SectionView[] views = parser.parseViews(composed);
+        Section[] sections = new Section[views.length];
+        for (int i = 0; i < views.length; i++) sections[i] = views[i].toSection();
+
+        assertArrayEquals(parser.parse(composed), sections);
+    }
+
+    @Test
+    void parseViews_shouldThrowException_whenAssignmentIsMissing() {
+        assertThrows(
+                StringIndexOutOfBoundsException.class,
+                () -> parser.parseViews("a=1,b")
+        );
+    }
+}
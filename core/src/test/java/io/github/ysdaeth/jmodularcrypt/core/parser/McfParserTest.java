@@ -41,4 +41,72 @@ class McfParserTest {
                 ));
     }
 
-}
\ No newline at end of file
+    @Test
+    void parse_shouldSkipBlankSections(){
+        Section[] actual = mcfParser.parse("a$ $$b c$$ ");
+
+        Assertions.assertArrayEquals(
+                new Section[]{new Section(null,"a"), new Section(null,"b c")}, actual);
+    }
+
+    @Test
+    void parse_shouldReturnSectionsOfLongFormat(){
+        String[] values = new String[20];
+        Arrays.setAll(values, i -> "value" + i);
+        String composed = "$" + String.join("$", values);
+
+        Section[] actual = mcfParser.parse(composed);
+
+        Assertions.assertArrayEquals(values, Arrays.stream(actual).map(Section::value).toArray());
+        Assertions.assertEquals(composed, mcfParser.compose(actual));
+    }
+
+    @Test
+    void parse_shouldReturnEmptySectionsForEmptyString(){
+        Assertions.assertEquals(0, mcfParser.parse("").length);
+        Assertions.assertEquals(0, mcfParser.parse("$$").length);
+    }
+
+    @Test
+    void parseViews_shouldReturnTheSameValuesAsParse(){
+        String composed = "$RSA$ $v=1$iv=AAAA$AQID$$";
+
+        SectionView[] views = mcfParser.parseViews(composed);
+
+        Assertions.assertArrayEquals(
+                mcfParser.parse(composed),
+                Arrays.stream(views).map(SectionView::toSection).toArray());
+        Assertions.assertSame(composed, views[0].source());
+    }
+
+    @Test
+    void parseViews_shouldParseAsciiBytes(){
+        String composed = "$RSA$ $v=1$iv=AAAA$AQID$$";
+        byte[] bytes = ("##" + composed).getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+
+        SectionView[] views = mcfParser.parseViews(new AsciiCharSequence(bytes, 2, composed.length()));
+
+        Assertions.assertArrayEquals(
+                mcfParser.parse(composed),
+                Arrays.stream(views).map(SectionView::toSection).toArray());
+    }
+
+    @Test
+    void parseViews_shouldRejectNonAsciiBytes(){
+        byte[] bytes = {'$', 'R', (byte) 0xc3, (byte) 0xa9};
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->mcfParser.parseViews(new AsciiCharSequence(bytes, 0, bytes.length)));
+    }
+
+    @Test
+    void matchPrefix_shouldMatchWholeSections(){
+        String prefix = mcfParser.composePrefix(new Section[]{new Section(null, "ALG"), new Section(null, "v=1")});
+
+        Assertions.assertEquals("$ALG$v=1", prefix);
+        Assertions.assertEquals(8, mcfParser.matchPrefix("$ALG$v=1$AQID", prefix));
+        Assertions.assertEquals(8, mcfParser.matchPrefix("$ALG$v=1", prefix));
+        Assertions.assertEquals(-1, mcfParser.matchPrefix("$ALG$v=10$AQID", prefix));
+        Assertions.assertEquals(-1, mcfParser.matchPrefix("$ALG$v=2$AQID", prefix));
+        Assertions.assertEquals(-1, mcfParser.matchPrefix("$ALG", prefix));
+    }
+}
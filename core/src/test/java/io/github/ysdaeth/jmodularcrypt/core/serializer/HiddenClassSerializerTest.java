@@ -0,0 +1,143 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer;
+
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+import io.github.ysdaeth.jmodularcrypt.core.converter.BasicConverter;
+import io.github.ysdaeth.jmodularcrypt.core.converter.Converter;
+import io.github.ysdaeth.jmodularcrypt.core.parser.McfParser;
+import io.github.ysdaeth.jmodularcrypt.core.parser.Parser;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfClass;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfClassSetters;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+class HiddenClassSerializerTest {
+
+    private static final Serializer serializer = new ConfigurableSerializer(new HiddenClassConfig());
+
+    private static final String EXPECTED_NAME = "Jeff";
+    private static final byte[] EXPECTED_BYTES = new byte[]{1,2,3};
+    private static final String EXPECTED = "$Jeff$AQID";
+
+    @ParameterizedTest
+    @MethodSource("mcfClassProvider")
+    void serialize_shouldReturnString(McfClass mcfClass){
+        String actual = serializer.serialize(mcfClass);
+        Assertions.assertEquals(EXPECTED,actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("mcfClassProvider")
+    void deserialize_shouldReturnObject(McfClass mcfClass){
+        McfClass mcf = serializer.deserialize(EXPECTED, mcfClass.getClass());
+
+        Assertions.assertTrue(Arrays.equals(EXPECTED_BYTES, mcf.getBytes()),"Bytes array does not match");
+        Assertions.assertEquals(EXPECTED_NAME, mcf.getName());
+    }
+
+    @Test
+    void serializeAndDeserialize_shouldSupportPrimitiveModules(){
+        PrimitiveModel model = new PrimitiveModel(7, true, 'x');
+        String serialized = serializer.serialize(model);
+        PrimitiveModel deserialized = serializer.deserialize(serialized, PrimitiveModel.class);
+
+        Assertions.assertEquals("$7$true$x", serialized);
+        Assertions.assertEquals(7, deserialized.count);
+        Assertions.assertTrue(deserialized.enabled);
+        Assertions.assertEquals('x', deserialized.sign);
+    }
+
+    static Stream<McfClass> mcfClassProvider(){
+        return Stream.of(
+                new McfClassSetters(EXPECTED_NAME, EXPECTED_BYTES),
+                new PrivateModel(EXPECTED_NAME, EXPECTED_BYTES)
+        );
+    }
+
+    private static final class PrivateModel implements McfClass {
+        @Module(order = 0)
+        private final String name;
+        @Module(order = 1)
+        private final byte[] bytes;
+
+        @SerializerCreator
+        public PrivateModel(String name, byte[] bytes){
+            this.name = name;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return bytes;
+        }
+    }
+
+    private static final class PrimitiveModel {
+        @Module(order = 0)
+        private final int count;
+        @Module(order = 1)
+        private final boolean enabled;
+        @Module(order = 2)
+        private final char sign;
+
+        @SerializerCreator
+        public PrimitiveModel(int count, boolean enabled, char sign){
+            this.count = count;
+            this.enabled = enabled;
+            this.sign = sign;
+        }
+    }
+
+    @Test
+    void constructor_shouldNotFreezeConfiguredConverter(){
+        OpenConverter converter = new OpenConverter();
+        new ConfigurableSerializer(new SerializerConfig() {
+            @Override
+            public Converter typeConverter() {
+                return converter;
+            }
+
+            @Override
+            public Parser parser() {
+                return new McfParser();
+            }
+        });
+        Assertions.assertDoesNotThrow(()->converter.register(Long.class, String.class, Object::toString, Long::valueOf));
+    }
+
+    private static class OpenConverter extends BasicConverter {
+        @Override
+        protected <T, R> void register(Class<T> from, Class<R> to,
+                                       java.util.function.Function<T, R> forwardFn,
+                                       java.util.function.Function<R, T> backwardFn) {
+            super.register(from, to, forwardFn, backwardFn);
+        }
+    }
+
+    private static class HiddenClassConfig implements SerializerConfig {
+        @Override
+        public Converter typeConverter() {
+            return new BasicConverter();
+        }
+
+        @Override
+        public Parser parser() {
+            return new McfParser();
+        }
+
+        @Override
+        public AccessStrategy accessStrategy() {
+            return AccessStrategy.HIDDEN_CLASS;
+        }
+    }
+}
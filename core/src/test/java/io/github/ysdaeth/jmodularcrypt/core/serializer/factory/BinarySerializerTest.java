@@ -0,0 +1,99 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.factory;
+
+import io.github.ysdaeth.jmodularcrypt.core.serializer.Serializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.TypedSerializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfConstantClass;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfNestedClass;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfPrimitiveRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class BinarySerializerTest {
+
+    private static final Serializer binary = SerializerFactory.getInstance(SerializerType.BINARY);
+    private static final byte[] BYTES = new byte[]{0, 1, 36, 127, -128, -1};
+
+    @Test
+    void serialize_shouldWriteLengthPrefixedRawBytes(){
+        McfConstantClass model = new McfConstantClass(McfConstantClass.IDENTIFIER, McfConstantClass.VERSION, BYTES);
+
+        Assertions.assertEquals("\u0003ALG\u0003v=1\u0006\u0000\u0001$\u007f\u0080ÿ", binary.serialize(model));
+        Assertions.assertArrayEquals(BYTES, binary.deserialize(binary.serialize(model), McfConstantClass.class).getBytes());
+    }
+
+    @Test
+    void deserialize_shouldReadNestedAndPrimitiveModules(){
+        McfNestedClass nested = new McfNestedClass("name", new McfNestedClass.Params(BYTES, 12), BYTES);
+        McfPrimitiveRecord record = new McfPrimitiveRecord('m', 10000, -5L, true);
+
+        McfNestedClass nestedResult = binary.deserialize(binary.serialize(nested), McfNestedClass.class);
+        Assertions.assertEquals("name", nestedResult.getName());
+        Assertions.assertArrayEquals(BYTES, nestedResult.getParams().getIv());
+        Assertions.assertEquals(12, nestedResult.getParams().getCost());
+        Assertions.assertArrayEquals(BYTES, nestedResult.getBytes());
+        Assertions.assertEquals(record, binary.deserialize(binary.serialize(record), McfPrimitiveRecord.class));
+    }
+
+    @Test
+    void byteBuffer_shouldWriteAndReadEveryByte(){
+        TypedSerializer<McfConstantClass> typed = binary.forType(McfConstantClass.class);
+        McfConstantClass model = new McfConstantClass(McfConstantClass.IDENTIFIER, McfConstantClass.VERSION, BYTES);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        typed.serialize(model, buffer);
+        buffer.flip();
+
+        Assertions.assertEquals(15, buffer.remaining());
+        Assertions.assertArrayEquals(BYTES, typed.deserialize(buffer.duplicate()).getBytes());
+        Assertions.assertArrayEquals(BYTES, binary.deserialize(buffer, McfConstantClass.class).getBytes());
+    }
+
+    @Test
+    void byteBuffer_shouldWriteModulesOfUnknownLength(){
+        McfNestedClass nested = new McfNestedClass("name", new McfNestedClass.Params(new byte[200], 12), BYTES);
+        McfPrimitiveRecord record = new McfPrimitiveRecord('m', 10000, -5L, true);
+
+        for(Object model : new Object[]{nested, record}){
+            byte[] expected = binary.serialize(model).getBytes(StandardCharsets.ISO_8859_1);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length);
+            binary.serialize(model, buffer);
+
+            byte[] written = new byte[expected.length];
+            buffer.flip().get(written);
+            Assertions.assertArrayEquals(expected, written);
+        }
+    }
+
+    @Test
+    void deserialize_shouldReadRangeOfBytes(){
+        McfConstantClass model = new McfConstantClass(McfConstantClass.IDENTIFIER, McfConstantClass.VERSION, BYTES);
+        byte[] serialized = binary.serialize(model).getBytes(StandardCharsets.ISO_8859_1);
+        byte[] bytes = new byte[serialized.length + 3];
+        System.arraycopy(serialized, 0, bytes, 2, serialized.length);
+        bytes[0] = bytes[1] = bytes[bytes.length - 1] = (byte) 0xff;
+
+        McfConstantClass result = binary.deserialize(bytes, 2, serialized.length, McfConstantClass.class);
+        Assertions.assertArrayEquals(BYTES, result.getBytes());
+        Assertions.assertEquals(McfConstantClass.VERSION, result.getVersion());
+    }
+
+    @Test
+    void serialize_shouldRejectNonAsciiString(){
+        McfNestedClass nested = new McfNestedClass("naïve", new McfNestedClass.Params(BYTES, 1), BYTES);
+
+        Assertions.assertThrows(RuntimeException.class, ()->binary.serialize(nested));
+    }
+
+    @Test
+    void convert_shouldBeLossless(){
+        McfNestedClass nested = new McfNestedClass("name", new McfNestedClass.Params(BYTES, 12), BYTES);
+        String mcf = SerializerFactory.getInstance(SerializerType.MCF_BASE64).serialize(nested);
+
+        String converted = SerializerFactory.convert(mcf, McfNestedClass.class, SerializerType.MCF_BASE64, SerializerType.BINARY);
+        Assertions.assertEquals(binary.serialize(nested), converted);
+        Assertions.assertEquals(mcf, SerializerFactory.convert(
+                converted, McfNestedClass.class, SerializerType.BINARY, SerializerType.MCF_BASE64));
+    }
+}
@@ -1,13 +1,27 @@
 package io.github.ysdaeth.jmodularcrypt.core.serializer.factory;
 
+import io.github.ysdaeth.jmodularcrypt.core.serializer.LazyModel;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.TypedSerializer;
 import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfClass;
 import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfClassPrivateFinalFields;
 import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfClassProtectedFields;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfConstantClass;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfNestedClass;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfPlainRecord;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfPrimitiveClass;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfPrimitiveRecord;
 import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfRecordClass;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.mocked.McfReorderedRecord;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -41,12 +55,226 @@ class McfSerializerTest {
         Assertions.assertEquals(EXPECTED_NAME,actualName);
     }
 
+    @ParameterizedTest
+    @MethodSource("mcfClassProvider")
+    public void forType_shouldSerializeAndDeserialize(McfClass mcfClass){
+        TypedSerializer<? extends McfClass> typed = serializer.forType(mcfClass.getClass());
+
+        String actual = serialize(typed, mcfClass);
+        McfClass mcf = typed.deserialize(EXPECTED);
+
+        Assertions.assertEquals(EXPECTED,actual);
+        Assertions.assertEquals(mcfClass.getClass(), typed.type());
+        Assertions.assertTrue(Arrays.equals(EXPECTED_BYTES.get(), mcf.getBytes()),"Bytes array does not match");
+        Assertions.assertEquals(EXPECTED_NAME,mcf.getName());
+    }
+
+    @ParameterizedTest
+    @MethodSource("mcfClassProvider")
+    public void serialize_shouldAppendToTarget(McfClass mcfClass) throws IOException {
+        StringBuilder builder = new StringBuilder("prefix");
+        StringWriter writer = new StringWriter();
+
+        serializer.serialize(mcfClass, builder);
+        serializer.serialize(mcfClass, writer);
+
+        Assertions.assertEquals("prefix" + EXPECTED, builder.toString());
+        Assertions.assertEquals(EXPECTED, writer.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("mcfClassProvider")
+    public void serialize_shouldRestoreTargetWhenValueIsInvalid(McfClass mcfClass){
+        McfClass invalid = new McfClassPrivateFinalFields("Je$ff", mcfClass.getBytes());
+        StringBuilder builder = new StringBuilder("prefix");
+        StringWriter writer = new StringWriter();
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()->serializer.serialize(invalid, builder));
+        Assertions.assertThrows(IllegalArgumentException.class, ()->serializer.serialize(invalid, writer));
+        Assertions.assertEquals("prefix", builder.toString());
+        Assertions.assertEquals("", writer.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("mcfClassProvider")
+    public void serialize_shouldWriteAsciiBytes(McfClass mcfClass){
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) '#');
+
+        serializer.serialize(mcfClass, buffer);
+
+        Assertions.assertEquals("#" + EXPECTED, new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII));
+        ByteBuffer small = ByteBuffer.allocate(EXPECTED.length() - 1);
+        Assertions.assertThrows(BufferOverflowException.class, ()->serializer.serialize(mcfClass, small));
+        Assertions.assertEquals(0, small.position());
+    }
+
+    @ParameterizedTest
+    @MethodSource("mcfClassProvider")
+    public void deserialize_shouldReadAsciiBytes(McfClass mcfClass){
+        byte[] bytes = ("##" + EXPECTED).getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().position(2);
+
+        McfClass fromArray = serializer.deserialize(bytes, 2, EXPECTED.length(), mcfClass.getClass());
+        McfClass fromBuffer = serializer.forType(mcfClass.getClass()).deserialize(direct);
+
+        for(McfClass mcf : new McfClass[]{fromArray, fromBuffer}){
+            Assertions.assertArrayEquals(EXPECTED_BYTES.get(), mcf.getBytes());
+            Assertions.assertEquals(EXPECTED_NAME, mcf.getName());
+        }
+        Assertions.assertFalse(direct.hasRemaining());
+    }
+
+    @ParameterizedTest
+    @MethodSource("bufferModelProvider")
+    public void serialize_shouldWriteModelsDirectlyToBuffer(Object model){
+        byte[] expected = ("#" + serializer.serialize(model)).getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer heap = ByteBuffer.allocate(expected.length).put((byte) '#');
+        ByteBuffer direct = ByteBuffer.allocateDirect(expected.length).put((byte) '#');
+
+        serializer.serialize(model, heap);
+        serialize(serializer.forType(model.getClass()), model, direct);
+
+        Assertions.assertArrayEquals(expected, heap.array());
+        byte[] written = new byte[expected.length];
+        direct.flip().get(written);
+        Assertions.assertArrayEquals(expected, written);
+        ByteBuffer small = ByteBuffer.allocate(expected.length - 2).put((byte) '#');
+        Assertions.assertThrows(BufferOverflowException.class, ()->serializer.serialize(model, small));
+        Assertions.assertEquals(1, small.position());
+    }
+
+    @Test
+    public void serialize_shouldRestoreBufferPositionWhenValueIsInvalid(){
+        McfNestedClass invalid = new McfNestedClass(
+                EXPECTED_NAME, new McfNestedClass.Params(EXPECTED_BYTES.get(), 3), new byte[0]);
+        ByteBuffer buffer = ByteBuffer.allocate(64).put((byte) '#');
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()->serializer.serialize(invalid, buffer));
+        Assertions.assertEquals(1, buffer.position());
+    }
+
+    @Test
+    public void serialize_shouldComposeNestedModulesInParameterFormat(){
+        McfNestedClass nested = new McfNestedClass(
+                EXPECTED_NAME, new McfNestedClass.Params(EXPECTED_BYTES.get(), 3), EXPECTED_BYTES.get());
+        String expected = "$Jeff$iv=AQID,cost=3$AQID";
+
+        String actual = serializer.serialize(nested);
+        McfNestedClass mcf = serializer.deserialize(expected, McfNestedClass.class);
+
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(EXPECTED_NAME, mcf.getName());
+        Assertions.assertArrayEquals(EXPECTED_BYTES.get(), mcf.getParams().getIv());
+        Assertions.assertEquals(3, mcf.getParams().getCost());
+        Assertions.assertArrayEquals(EXPECTED_BYTES.get(), mcf.getBytes());
+    }
+
+    @ParameterizedTest
+    @MethodSource("mcfClassProvider")
+    public void deserializeLazy_shouldConvertModulesOnAccess(McfClass mcfClass){
+        LazyModel<? extends McfClass> invalid = serializer.deserializeLazy("$Jeff$not*base64", mcfClass.getClass());
+        LazyModel<? extends McfClass> valid = serializer.forType(mcfClass.getClass()).deserializeLazy(EXPECTED);
+
+        Assertions.assertTrue(invalid.textEquals(0, EXPECTED_NAME));
+        Assertions.assertFalse(invalid.textEquals(0, "Jef"));
+        Assertions.assertEquals(EXPECTED_NAME, invalid.get("name"));
+        Assertions.assertThrows(RuntimeException.class, ()->invalid.get(1));
+        Assertions.assertThrows(RuntimeException.class, invalid::toObject);
+        Assertions.assertArrayEquals(EXPECTED_BYTES.get(), (byte[]) valid.get(1));
+        Assertions.assertEquals(EXPECTED_NAME, valid.toObject().getName());
+    }
+
+    @Test
+    public void serialize_shouldWriteConstantModules(){
+        McfConstantClass constant = new McfConstantClass(null, "v=2", EXPECTED_BYTES.get());
+
+        Assertions.assertEquals("$ALG$v=1$AQID", serializer.serialize(constant));
+    }
+
+    @Test
+    public void deserialize_shouldMatchConstantModules(){
+        for(String serialized : new String[]{"$ALG$v=1$AQID", "$ $ALG$v=1$AQID"}){
+            McfConstantClass mcf = serializer.deserialize(serialized, McfConstantClass.class);
+            Assertions.assertSame(McfConstantClass.IDENTIFIER, mcf.getIdentifier());
+            Assertions.assertSame(McfConstantClass.VERSION, mcf.getVersion());
+            Assertions.assertArrayEquals(EXPECTED_BYTES.get(), mcf.getBytes());
+        }
+        for(String serialized : new String[]{"$ALG$v=2$AQID", "$ALGO$v=1$AQID", "$ALG$v=10$AQID"}){
+            Assertions.assertThrows(RuntimeException.class,
+                    ()->serializer.deserialize(serialized, McfConstantClass.class), serialized);
+        }
+    }
+
+    @Test
+    public void serialize_shouldConvertPrimitiveModules(){
+        McfPrimitiveClass primitive = new McfPrimitiveClass(-600000, Long.MAX_VALUE, true, 'c');
+        String serialized = serializer.serialize(primitive);
+        McfPrimitiveClass mcf = serializer.deserialize(serialized, McfPrimitiveClass.class);
+
+        Assertions.assertEquals("$-600000$9223372036854775807$true$c", serialized);
+        Assertions.assertEquals(-600000, mcf.getIterations());
+        Assertions.assertEquals(Long.MAX_VALUE, mcf.getKeyId());
+        Assertions.assertTrue(mcf.isTagged());
+        Assertions.assertEquals('c', mcf.getMode());
+    }
+
+    @Test
+    public void serialize_shouldConvertPrimitiveRecordComponents(){
+        McfPrimitiveRecord primitive = new McfPrimitiveRecord('x', 1000, -1L, false);
+        String serialized = serializer.serialize(primitive);
+
+        Assertions.assertEquals("$1000$-1$false$x", serialized);
+        Assertions.assertEquals(primitive, serializer.deserialize(serialized, McfPrimitiveRecord.class));
+        Assertions.assertEquals(primitive,
+                serializer.deserializeLazy(serialized, McfPrimitiveRecord.class).toObject());
+    }
+
+    @Test
+    public void serialize_shouldAccessPrivateRecord(){
+        PrivateRecord record = new PrivateRecord(EXPECTED_NAME, 7);
+        String serialized = serializer.serialize(record);
+
+        Assertions.assertEquals("$Jeff$7", serialized);
+        Assertions.assertEquals(record, serializer.deserialize(serialized, PrivateRecord.class));
+    }
+
+    private record PrivateRecord(String name, int cost){}
+
+    @Test
+    public void deserialize_shouldRejectInvalidPrimitiveModule(){
+        RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+                ()->serializer.deserialize("$1000$2147483648x$true$c", McfPrimitiveClass.class));
+        Assertions.assertTrue(e.getMessage().startsWith("Could not convert module 'keyId'."), e.getMessage());
+        Assertions.assertThrows(RuntimeException.class,
+                ()->serializer.deserialize("$2147483648$1$true$c", McfPrimitiveRecord.class));
+    }
+
+    private static <T extends McfClass> String serialize(TypedSerializer<T> typed, McfClass mcfClass){
+        return typed.serialize(typed.type().cast(mcfClass));
+    }
+
+    private static <T> void serialize(TypedSerializer<T> typed, Object model, ByteBuffer target){
+        typed.serialize(typed.type().cast(model), target);
+    }
+
+    public static Stream<Object> bufferModelProvider(){
+        return Stream.of(
+                new McfClassPrivateFinalFields(EXPECTED_NAME, EXPECTED_BYTES.get()),
+                new McfNestedClass(EXPECTED_NAME, new McfNestedClass.Params(new byte[300], 3), EXPECTED_BYTES.get()),
+                new McfConstantClass(null, "v=2", EXPECTED_BYTES.get()),
+                new McfPrimitiveClass(-600000, Long.MAX_VALUE, true, 'c'),
+                new McfPrimitiveRecord('x', 1000, -1L, false));
+    }
+
     public static Stream<McfClass> mcfClassProvider(){
 
         return Stream.of(
                 new McfClassPrivateFinalFields(EXPECTED_NAME, EXPECTED_BYTES.get()),
                 new McfClassProtectedFields(EXPECTED_NAME, EXPECTED_BYTES.get()),
-                new McfRecordClass(EXPECTED_NAME, EXPECTED_BYTES.get())
+                new McfRecordClass(EXPECTED_NAME, EXPECTED_BYTES.get()),
+                new McfPlainRecord(EXPECTED_NAME, EXPECTED_BYTES.get()),
+                new McfReorderedRecord(EXPECTED_BYTES.get(), EXPECTED_NAME)
         );
 
     }
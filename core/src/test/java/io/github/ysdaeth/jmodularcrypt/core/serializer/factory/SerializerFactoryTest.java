@@ -0,0 +1,115 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.factory;
+
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.Serializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+class SerializerFactoryTest {
+
+    private static final Serializer base64 = SerializerFactory.getInstance(SerializerType.MCF_BASE64);
+    private static final Serializer hex = SerializerFactory.getInstance(SerializerType.MCF_HEXADECIMAL);
+
+    private static final String EXPECTED_BASE64 = "$Jeff$AQID";
+    private static final String EXPECTED_HEX = "$Jeff$010203";
+    private static final String EXPECTED_RADIX64 = "$Jeff$.E61";
+
+    @Test
+    void serialize_base64BeforeHex_shouldUseOwnConverters(){
+        Base64First model = new Base64First("Jeff", new byte[]{1,2,3});
+
+        Assertions.assertEquals(EXPECTED_BASE64, base64.serialize(model));
+        Assertions.assertEquals(EXPECTED_HEX, hex.serialize(model));
+    }
+
+    @Test
+    void serialize_hexBeforeBase64_shouldUseOwnConverters(){
+        HexFirst model = new HexFirst("Jeff", new byte[]{1,2,3});
+
+        Assertions.assertEquals(EXPECTED_HEX, hex.serialize(model));
+        Assertions.assertEquals(EXPECTED_BASE64, base64.serialize(model));
+    }
+
+    @Test
+    void deserialize_shouldUseOwnConverters(){
+        Base64First fromBase64 = base64.deserialize(EXPECTED_BASE64, Base64First.class);
+        Base64First fromHex = hex.deserialize(EXPECTED_HEX, Base64First.class);
+
+        Assertions.assertTrue(Arrays.equals(new byte[]{1,2,3}, fromBase64.bytes),"Bytes array does not match");
+        Assertions.assertTrue(Arrays.equals(new byte[]{1,2,3}, fromHex.bytes),"Bytes array does not match");
+    }
+
+    @Test
+    void radix64_shouldSerializeAndDeserializeUnpaddedBytes(){
+        Serializer radix64 = SerializerFactory.getInstance(SerializerType.MCF_RADIX64);
+        Base64First model = new Base64First("Jeff", new byte[]{1,2,3});
+
+        Assertions.assertEquals(EXPECTED_RADIX64, radix64.serialize(model));
+        Assertions.assertArrayEquals(new byte[]{1,2,3}, radix64.deserialize(EXPECTED_RADIX64, Base64First.class).bytes);
+        Assertions.assertEquals(EXPECTED_BASE64, base64.serialize(model));
+    }
+
+    @ParameterizedTest
+    @MethodSource("signLengthProvider")
+    void serialize_signOfHMac_shouldHaveFormatLength(SerializerType type, int length, int expectedLength){
+        Serializer serializer = SerializerFactory.getInstance(type);
+        Base64First model = new Base64First("Jeff", new byte[length]);
+
+        String actual = serializer.serialize(model);
+
+        Assertions.assertEquals("$Jeff$".length() + expectedLength, actual.length());
+    }
+
+    @Test
+    void getInstance_shouldReturnSharedInstance(){
+        Assertions.assertSame(base64, SerializerFactory.getInstance(SerializerType.MCF_BASE64));
+        Assertions.assertSame(hex, SerializerFactory.getInstance(SerializerType.MCF_HEXADECIMAL));
+    }
+
+    static Stream<Arguments> signLengthProvider(){
+        return Stream.of(
+                Arguments.of(SerializerType.MCF_HEXADECIMAL, 32, 64),
+                Arguments.of(SerializerType.MCF_HEXADECIMAL, 48, 96),
+                Arguments.of(SerializerType.MCF_HEXADECIMAL, 64, 128),
+                Arguments.of(SerializerType.MCF_BASE64, 32, 44),
+                Arguments.of(SerializerType.MCF_BASE64, 48, 64),
+                Arguments.of(SerializerType.MCF_BASE64, 64, 88),
+                Arguments.of(SerializerType.MCF_RADIX64, 32, 43),
+                Arguments.of(SerializerType.MCF_RADIX64, 48, 64),
+                Arguments.of(SerializerType.MCF_RADIX64, 64, 86)
+        );
+    }
+
+    private static final class Base64First {
+        @Module(order = 0)
+        private final String name;
+        @Module(order = 1)
+        private final byte[] bytes;
+
+        @SerializerCreator
+        public Base64First(String name, byte[] bytes){
+            this.name = name;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class HexFirst {
+        @Module(order = 0)
+        private final String name;
+        @Module(order = 1)
+        private final byte[] bytes;
+
+        @SerializerCreator
+        public HexFirst(String name, byte[] bytes){
+            this.name = name;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.mocked;
+
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+
+public class McfClassSetters implements McfClass{
+
+    @Module(order = 1)
+    private byte[] bytes;
+
+    @Module(order = 0)
+    private String name;
+
+    public McfClassSetters(){}
+
+    public McfClassSetters(String name, byte[] bytes){
+        this.name = name;
+        this.bytes = bytes;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.mocked;
+
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+
+public class McfConstantClass {
+    public static final String IDENTIFIER = "ALG";
+    public static final String VERSION = "v=1";
+
+    @Module(order = 0, constant = IDENTIFIER)
+    private final String identifier;
+
+    @Module(order = 1, constant = VERSION)
+    private final String version;
+
+    @Module(order = 2)
+    private final byte[] bytes;
+
+    @SerializerCreator
+    public McfConstantClass(String identifier, String version, byte[] bytes){
+        this.identifier = identifier;
+        this.version = version;
+        this.bytes = bytes;
+    }
+
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.mocked;
+
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+
+public class McfNestedClass {
+
+    @Module(order = 0)
+    private final String name;
+
+    @Module(order = 1)
+    private final Params params;
+
+    @Module(order = 2)
+    private final byte[] bytes;
+
+    @SerializerCreator
+    public McfNestedClass(String name, Params params, byte[] bytes){
+        this.name = name;
+        this.params = params;
+        this.bytes = bytes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Params getParams() {
+        return params;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public static class Params {
+        @Module(order = 0)
+        private final byte[] iv;
+
+        @Module(order = 1)
+        private final int cost;
+
+        @SerializerCreator
+        public Params(byte[] iv, int cost){
+            this.iv = iv;
+            this.cost = cost;
+        }
+
+        public byte[] getIv() {
+            return iv;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+    }
+}
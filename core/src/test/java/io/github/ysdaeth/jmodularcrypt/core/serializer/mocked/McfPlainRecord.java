@@ -0,0 +1,14 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.mocked;
+
+public record McfPlainRecord(String name, byte[] bytes) implements McfClass {
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.mocked;
+
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+
+public class McfPrimitiveClass {
+
+    @Module(order = 0)
+    private int iterations;
+
+    @Module(order = 1)
+    private long keyId;
+
+    @Module(order = 2)
+    private boolean tagged;
+
+    @Module(order = 3)
+    private char mode;
+
+    public McfPrimitiveClass(){}
+
+    public McfPrimitiveClass(int iterations, long keyId, boolean tagged, char mode){
+        this.iterations = iterations;
+        this.keyId = keyId;
+        this.tagged = tagged;
+        this.mode = mode;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getKeyId() {
+        return keyId;
+    }
+
+    public boolean isTagged() {
+        return tagged;
+    }
+
+    public char getMode() {
+        return mode;
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.mocked;
+
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+
+public record McfPrimitiveRecord(
+        @Module(order = 3) char mode,
+        @Module(order = 0) int iterations,
+        @Module(order = 1) long keyId,
+        @Module(order = 2) boolean tagged) {
+}
@@ -0,0 +1,18 @@
+package io.github.ysdaeth.jmodularcrypt.core.serializer.mocked;
+
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+
+public record McfReorderedRecord(
+        @Module(order = 1) byte[] bytes,
+        @Module(order = 0) String name) implements McfClass {
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.ysdaeth.jmodularcrypt.core.encryptor;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Thread safe source of reusable {@link Cipher} instances of one transformation and provider,
+ * so provider lookup and cipher creation are not repeated for every operation, and only
+ * {@link Cipher#init} with the key and parameters of the operation is done per call.
+ * Cipher is acquired for a single operation, and released when operation succeeds.
+ * Cipher that failed is not released, as its state is not known, it is left to GC instead.
+ * Pools are shared for the same transformation, provider and {@link Mode}.
+ * <p>
+ * Pooling is opt-in, base AES and RSA factories use {@link Mode#NONE} by default.
+ * Released cipher keeps the key of its last initialization until it is initialized again,
+ * so ciphers of {@link Mode#THREAD_LOCAL} pool retain keys for the lifetime of the thread,
+ * and ciphers of {@link Mode#SHARED} pool for the lifetime of the process.
+ * Callers that must not retain keys should re-initialize cipher with a throwaway key before it is released.
+ * </p>
+ */
+public abstract class CipherPool {
+    private static final ConcurrentMap<String, CipherPool> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Reuse mode of cipher instances
+     * <ul>
+     *     <li>{@link Mode#NONE} creates a new cipher for every operation</li>
+     *     <li>{@link Mode#THREAD_LOCAL} keeps one cipher per thread, it fits pools of platform threads.
+     *     Every virtual thread has its own cipher too, so ciphers are not reused by short living virtual threads</li>
+     *     <li>{@link Mode#SHARED} keeps ciphers in a bounded lock free pool shared by all threads,
+     *     it is not tied to threads, so ciphers are reused by virtual threads as well</li>
+     * </ul>
+     */
+    public enum Mode { NONE, THREAD_LOCAL, SHARED }
+
+    private final String transformation;
+    private final String provider;
+
+    private CipherPool(String transformation, String provider){
+        this.transformation = transformation;
+        this.provider = provider;
+    }
+
+    /**
+     * Return shared pool of ciphers of specified transformation from the default provider
+     * @param transformation cipher transformation
+     * @param mode reuse mode of cipher instances
+     * @return pool of ciphers
+     */
+    public static CipherPool of(String transformation, Mode mode){
+        return of(transformation, null, mode);
+    }
+
+    /**
+     * Return shared pool of ciphers of specified transformation and provider
+     * @param transformation cipher transformation
+     * @param provider name of the provider, or null for the default provider
+     * @param mode reuse mode of cipher instances
+     * @return pool of ciphers
+     * @throws IllegalArgumentException when transformation or mode is null
+     */
+    public static CipherPool of(String transformation, String provider, Mode mode){
+        if(transformation == null) throw new IllegalArgumentException("Transformation must not be null");
+        if(mode == null) throw new IllegalArgumentException("Mode must not be null");
+        return POOLS.computeIfAbsent(mode + ":" + transformation + ":" + Objects.toString(provider, ""),
+                key -> switch (mode){
+                    case NONE -> new Unpooled(transformation, provider);
+                    case THREAD_LOCAL -> new PerThread(transformation, provider);
+                    case SHARED -> new Shared(transformation, provider,
+                            Runtime.getRuntime().availableProcessors() * 2);
+                });
+    }
+
+    /**
+     * Acquire cipher for a single operation, that is reused or created when no cipher is available.
+     * Cipher must be initialized before use.
+     * @return cipher of the pool transformation
+     * @throws GeneralSecurityException when cipher cannot be created
+     */
+    public abstract Cipher acquire() throws GeneralSecurityException;
+
+    /**
+     * Release cipher after successful operation, so it can be acquired again.
+     * Cipher must not be used after it is released.
+     * @param cipher cipher returned by {@link CipherPool#acquire()}
+     */
+    public abstract void release(Cipher cipher);
+
+    /**
+     * @return a new cipher of the pool transformation and provider
+     * @throws GeneralSecurityException when cipher cannot be created
+     */
+    Cipher create() throws GeneralSecurityException {
+        return provider == null
+                ? Cipher.getInstance(transformation)
+                : Cipher.getInstance(transformation, provider);
+    }
+
+    private static final class Unpooled extends CipherPool {
+        private Unpooled(String transformation, String provider){
+            super(transformation, provider);
+        }
+
+        @Override
+        public Cipher acquire() throws GeneralSecurityException {
+            return create();
+        }
+
+        @Override
+        public void release(Cipher cipher) {}
+    }
+
+    /**
+     * Single cipher slot per thread. Slot is emptied while cipher is in use, so nested
+     * operations of the same thread get their own ciphers.
+     */
+    private static final class PerThread extends CipherPool {
+        private final ThreadLocal<Cipher> slot = new ThreadLocal<>();
+
+        private PerThread(String transformation, String provider){
+            super(transformation, provider);
+        }
+
+        @Override
+        public Cipher acquire() throws GeneralSecurityException {
+            Cipher cipher = slot.get();
+            if(cipher == null) return create();
+            slot.set(null);
+            return cipher;
+        }
+
+        @Override
+        public void release(Cipher cipher) {
+            slot.set(cipher);
+        }
+    }
+
+    /**
+     * Bounded array of cipher slots, that are taken and filled with atomic operations.
+     * Search starts at a slot of the current thread, so threads rarely compete for the same slot.
+     * When all slots are empty a new cipher is created, when all slots are full released cipher is dropped.
+     */
+    private static final class Shared extends CipherPool {
+        private final AtomicReferenceArray<Cipher> slots;
+
+        private Shared(String transformation, String provider, int size){
+            super(transformation, provider);
+            slots = new AtomicReferenceArray<>(size);
+        }
+
+        @Override
+        public Cipher acquire() throws GeneralSecurityException {
+            int length = slots.length();
+            int start = start(length);
+            for(int i = 0; i < length; i++){
+                int index = (start + i) % length;
+                if(slots.get(index) != null){
+                    Cipher cipher = slots.getAndSet(index, null);
+                    if(cipher != null) return cipher;
+                }
+            }
+            return create();
+        }
+
+        @Override
+        public void release(Cipher cipher) {
+            int length = slots.length();
+            int start = start(length);
+            for(int i = 0; i < length; i++){
+                if(slots.compareAndSet((start + i) % length, null, cipher)) return;
+            }
+        }
+
+        private static int start(int length){
+            return (int) (Thread.currentThread().getId() % length);
+        }
+    }
+}
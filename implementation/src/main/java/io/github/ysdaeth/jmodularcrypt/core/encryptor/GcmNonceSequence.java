@@ -0,0 +1,105 @@
+package io.github.ysdaeth.jmodularcrypt.core.encryptor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread safe lock free sequence of 96 bit AES GCM nonces of deterministic construction.
+ * Nonce is a random 32 bit prefix followed by 64 bit big endian counter, that starts from
+ * a random value and wraps around, both drawn once per sequence. Every nonce costs an atomic
+ * increment, instead of a random generator draw, and nonces of the sequence never repeat.
+ * Sequence issues at most limit nonces, then it is exhausted and key must be rotated, or a new sequence used.
+ * Two sequences of the same key repeat a nonce only when their prefixes collide, and their counter
+ * ranges overlap as well, so a prefix collision alone does not repeat nonces. One sequence should
+ * still be used for every encryption with the same key, instead of a new sequence per encryptor instance.
+ */
+public final class GcmNonceSequence {
+    /**
+     * Length of the nonce in bytes
+     */
+    public static final int NONCE_LENGTH = 12;
+    /**
+     * Maximal limit of nonces, number of issued nonces does not overflow even when exhausted sequence is used
+     */
+    public static final long MAX_LIMIT = 1L << 62;
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final int prefix;
+    private final long start;
+    private final long limit;
+    private final AtomicLong issued = new AtomicLong();
+
+    /**
+     * Create sequence of {@link GcmNonceSequence#MAX_LIMIT} nonces, with prefix and counter start
+     * drawn from DRBG shared by all threads
+     */
+    public GcmNonceSequence(){
+        this(RandomSource.of(RandomSource.Mode.SHARED), MAX_LIMIT);
+    }
+
+    /**
+     * Create sequence of at most limit nonces, with prefix and counter start drawn from DRBG shared by all threads
+     * @param limit maximal number of nonces
+     * @throws IllegalArgumentException when limit is not positive or exceeds {@link GcmNonceSequence#MAX_LIMIT}
+     */
+    public GcmNonceSequence(long limit){
+        this(RandomSource.of(RandomSource.Mode.SHARED), limit);
+    }
+
+    /**
+     * Create sequence of at most limit nonces, with prefix and counter start drawn from specified source
+     * @param random source of random prefix and counter start
+     * @param limit maximal number of nonces
+     * @throws IllegalArgumentException when random is null, or limit is not positive
+     * or exceeds {@link GcmNonceSequence#MAX_LIMIT}
+     */
+    public GcmNonceSequence(RandomSource random, long limit){
+        if(random == null) throw new IllegalArgumentException("Random source must not be null");
+        if(limit <= 0 || limit > MAX_LIMIT)
+            throw new IllegalArgumentException("Limit must be positive and not greater than 2^62: " + limit);
+        byte[] bytes = new byte[NONCE_LENGTH];
+        random.nextBytes(bytes);
+        this.prefix = (int) INT.get(bytes, 0);
+        this.start = (long) LONG.get(bytes, Integer.BYTES);
+        this.limit = limit;
+    }
+
+    /**
+     * Write the next nonce into the target array
+     * @param target array of {@link GcmNonceSequence#NONCE_LENGTH} bytes
+     * @throws IllegalArgumentException when target length is not nonce length
+     * @throws IllegalStateException when sequence is exhausted
+     */
+    public void next(byte[] target){
+        if(target.length != NONCE_LENGTH)
+            throw new IllegalArgumentException("Nonce length must be " + NONCE_LENGTH + " bytes: " + target.length);
+        long count = issued.getAndIncrement();
+        if(count >= limit) throw new IllegalStateException("Nonce sequence is exhausted after " + limit + " nonces");
+        INT.set(target, 0, prefix);
+        LONG.set(target, Integer.BYTES, start + count);
+    }
+
+    /**
+     * @return maximal number of nonces of this sequence
+     */
+    public long limit(){
+        return limit;
+    }
+
+    /**
+     * @return number of nonces that can be issued before sequence is exhausted
+     */
+    public long remaining(){
+        return Math.max(0, limit - issued.get());
+    }
+
+    /**
+     * @return true when no more nonces can be issued
+     */
+    public boolean isExhausted(){
+        return issued.get() >= limit;
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.ysdaeth.jmodularcrypt.core.encryptor;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * Thread safe source of random bytes for initial vectors and keys of encryptors.
+ * Seeded generator is created once and reused, instead of a new {@link SecureRandom} for every operation,
+ * which seeds itself and competes with other threads for the native entropy source.
+ * Generators of {@link Mode#SHARED} and {@link Mode#THREAD_LOCAL} are {@code DRBG} instances
+ * of 256 bit security strength, that reseed themselves from the entropy source.
+ */
+public abstract class RandomSource {
+    private static final int STRENGTH = 256;
+
+    /**
+     * Reuse mode of random generators
+     * <ul>
+     *     <li>{@link Mode#NONE} creates a new {@link SecureRandom} for every operation</li>
+     *     <li>{@link Mode#SHARED} uses one thread safe DRBG shared by all threads</li>
+     *     <li>{@link Mode#THREAD_LOCAL} keeps one DRBG per thread, so threads do not compete for a generator.
+     *     It fits pools of platform threads, every virtual thread creates and seeds its own generator</li>
+     * </ul>
+     */
+    public enum Mode { NONE, SHARED, THREAD_LOCAL }
+
+    private RandomSource(){}
+
+    /**
+     * Return source of random bytes of specified mode. Sources of {@link Mode#SHARED}
+     * and {@link Mode#THREAD_LOCAL} are shared by all callers.
+     * @param mode reuse mode of random generators
+     * @return source of random bytes
+     * @throws IllegalArgumentException when mode is null
+     */
+    public static RandomSource of(Mode mode){
+        if(mode == null) throw new IllegalArgumentException("Mode must not be null");
+        return switch (mode){
+            case NONE -> Unshared.INSTANCE;
+            case SHARED -> Shared.INSTANCE;
+            case THREAD_LOCAL -> PerThread.INSTANCE;
+        };
+    }
+
+    /**
+     * Return source of random bytes from caller supplied generator.
+     * Generator must be thread safe, when source is used by many threads.
+     * @param random generator of random bytes
+     * @return source of random bytes
+     * @throws IllegalArgumentException when random is null
+     */
+    public static RandomSource of(SecureRandom random){
+        if(random == null) throw new IllegalArgumentException("Random must not be null");
+        return new Supplied(random);
+    }
+
+    /**
+     * Fill array with random bytes
+     * @param bytes array to fill
+     */
+    public abstract void nextBytes(byte[] bytes);
+
+    /**
+     * @return a new DRBG of 256 bit security strength with reseeding
+     * @throws RuntimeException when DRBG is not available
+     */
+    static SecureRandom drbg(){
+        try{
+            return SecureRandom.getInstance("DRBG", DrbgParameters.instantiation(
+                    STRENGTH, DrbgParameters.Capability.RESEED_ONLY, null));
+        }catch (NoSuchAlgorithmException e){
+            throw new RuntimeException("Could not create DRBG. Root cause" + e.getMessage(), e);
+        }
+    }
+
+    private static final class Unshared extends RandomSource {
+        private static final RandomSource INSTANCE = new Unshared();
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            new SecureRandom().nextBytes(bytes);
+        }
+    }
+
+    /**
+     * DRBG is created when the source is first used
+     */
+    private static final class Shared extends RandomSource {
+        private static final RandomSource INSTANCE = new Shared();
+        private final SecureRandom random = drbg();
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            random.nextBytes(bytes);
+        }
+    }
+
+    private static final class PerThread extends RandomSource {
+        private static final RandomSource INSTANCE = new PerThread();
+        private final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(RandomSource::drbg);
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            random.get().nextBytes(bytes);
+        }
+    }
+
+    private static final class Supplied extends RandomSource {
+        private final SecureRandom random;
+
+        private Supplied(SecureRandom random){
+            this.random = random;
+        }
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            random.nextBytes(bytes);
+        }
+    }
+}
@@ -1,14 +1,32 @@
 package io.github.ysdaeth.jmodularcrypt.core.encryptor.aes;
 
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.CipherPool;
+
 /**
  * Factory for internal base AES implementations only. It provides
  * base implementations.
  */
 public class BaseAesFactory {
 
+    /**
+     * Return base implementation, that creates a new cipher for every operation
+     * @param identifier base implementation identifier
+     * @return base AES implementation
+     */
     public static BaseAes getInstance(String identifier){
+        return getInstance(identifier, CipherPool.Mode.NONE);
+    }
+
+    /**
+     * Return base implementation, that reuses ciphers in specified mode.
+     * Pooled ciphers retain keys of their last operation, see {@link CipherPool}
+     * @param identifier base implementation identifier
+     * @param mode reuse mode of cipher instances
+     * @return base AES implementation
+     */
+    public static BaseAes getInstance(String identifier, CipherPool.Mode mode){
         return switch (identifier){
-            case "GCM" ->new BaseAesGcm();
+            case "GCM" ->new BaseAesGcm(mode);
             default -> throw new IllegalArgumentException("No such instance: "+ identifier);
         };
     }
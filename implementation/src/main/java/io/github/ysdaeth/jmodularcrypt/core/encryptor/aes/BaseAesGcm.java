@@ -1,24 +1,48 @@
 package io.github.ysdaeth.jmodularcrypt.core.encryptor.aes;
 
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.CipherPool;
+
 import javax.crypto.AEADBadTagException;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidParameterException;
 import java.security.KeyException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Thread safe class, every encryption and decryption create a new cipher instance
- * default tag length is 128. Class is base implementation that other modules depends on.
+ * Thread safe class, every encryption and decryption acquires cipher instance from the {@link CipherPool},
+ * and initializes it with the key and initial vector. Default tag length is 128.
+ * Only the key and initial vector of the operation are initialized per call. Pooled cipher retains
+ * the key of its last operation until it is reused, see {@link CipherPool}. Cipher rejects encryption
+ * with the key and initial vector of its previous encryption, in that case pooled cipher is cleared
+ * with a throwaway key and initialized again, so it behaves the same as a new cipher.
+ * Class is base implementation that other modules depends on.
  * It provides base implementation of AES GCM.
  */
 final class BaseAesGcm implements BaseAes{
     private static final String CIPHER_ALG ="AES/GCM/NoPadding";
     private static final int TAG_LENGTH = 128;
+    private static final int IV_LENGTH = 12;
+    private static final SecretKey THROWAWAY_KEY = new SecretKeySpec(new byte[16], "AES");
+    private static final AtomicLong THROWAWAY_COUNTER = new AtomicLong();
+
+    private final CipherPool ciphers;
+    private final boolean pooled;
+
+    /**
+     * Create AES GCM with ciphers of specified reuse mode
+     * @param mode reuse mode of cipher instances
+     */
+    BaseAesGcm(CipherPool.Mode mode){
+        ciphers = CipherPool.of(CIPHER_ALG, mode);
+        pooled = mode != CipherPool.Mode.NONE;
+    }
 
-    BaseAesGcm(){}
     /**
      * Encrypt provided bytes with AES GCM with tag length of 128 bits.
      * <b>Secret passed as an argument is not cleared after encryption, so it relies on GC
@@ -35,10 +59,11 @@ final class BaseAesGcm implements BaseAes{
         validateKey(secretKey);
         byte[] encrypted;
         try{
-            Cipher cipher = Cipher.getInstance(CIPHER_ALG);
+            Cipher cipher = ciphers.acquire();
             GCMParameterSpec spec = new GCMParameterSpec(TAG_LENGTH,initialVector);
-            cipher.init(Cipher.ENCRYPT_MODE,secretKey,spec);
+            initEncrypt(cipher,secretKey,spec);
             encrypted = cipher.doFinal(rawSecret);
+            ciphers.release(cipher);
         }catch (KeyException | BadPaddingException | InvalidAlgorithmParameterException e){
             throw new KeyException(e);
         } catch (Exception e){
@@ -61,10 +86,11 @@ final class BaseAesGcm implements BaseAes{
         validateKey(secretKey);
         byte[] decrypted;
         try{
-            Cipher cipher = Cipher.getInstance(CIPHER_ALG);
+            Cipher cipher = ciphers.acquire();
             GCMParameterSpec spec = new GCMParameterSpec(TAG_LENGTH,initialVector);
             cipher.init(Cipher.DECRYPT_MODE,secretKey,spec);
             decrypted = cipher.doFinal(encrypted);
+            ciphers.release(cipher);
         }catch (KeyException | AEADBadTagException | InvalidAlgorithmParameterException e){
             throw new KeyException(e);
         }catch (Exception e){
@@ -73,6 +99,30 @@ final class BaseAesGcm implements BaseAes{
         return decrypted;
     }
 
+    /**
+     * Initialize cipher for encryption. When pooled cipher rejects the key and initial vector
+     * of its previous encryption, it is initialized with a throwaway key and unique initial vector
+     * first, which a new cipher would not need.
+     * @param cipher acquired cipher
+     * @param secretKey key of the operation
+     * @param spec initial vector and tag length of the operation
+     * @throws GeneralSecurityException when key or parameters are invalid
+     */
+    private void initEncrypt(Cipher cipher, SecretKey secretKey, GCMParameterSpec spec) throws GeneralSecurityException {
+        try{
+            cipher.init(Cipher.ENCRYPT_MODE,secretKey,spec);
+        }catch (InvalidAlgorithmParameterException e){
+            if(!pooled) throw e;
+            byte[] iv = new byte[IV_LENGTH];
+            long count = THROWAWAY_COUNTER.getAndIncrement();
+            for(int i = 0; i < Long.BYTES; i++){
+                iv[IV_LENGTH - 1 - i] = (byte) (count >>> 8 * i);
+            }
+            cipher.init(Cipher.ENCRYPT_MODE, THROWAWAY_KEY, new GCMParameterSpec(TAG_LENGTH, iv));
+            cipher.init(Cipher.ENCRYPT_MODE,secretKey,spec);
+        }
+    }
+
     /**
      * Check if key is not null and  algorithm is AES.
      * @param secretKey secret key to be checked
@@ -1,14 +1,33 @@
 package io.github.ysdaeth.jmodularcrypt.core.encryptor.rsa;
 
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.CipherPool;
+
 /**
  * Factory for internal base RSA implementations only. It provides
  * base implementations.
  */
 public final class BaseRsaFactory {
     private BaseRsaFactory(){}
+
+    /**
+     * Return base implementation, that creates a new cipher for every operation
+     * @param identifier base implementation identifier
+     * @return base RSA implementation
+     */
     public static BaseRsa getInstance(String identifier){
+        return getInstance(identifier, CipherPool.Mode.NONE);
+    }
+
+    /**
+     * Return base implementation, that reuses ciphers in specified mode.
+     * Pooled ciphers retain keys of their last operation, see {@link CipherPool}
+     * @param identifier base implementation identifier
+     * @param mode reuse mode of cipher instances
+     * @return base RSA implementation
+     */
+    public static BaseRsa getInstance(String identifier, CipherPool.Mode mode){
         return switch (identifier){
-            case "OAEP" -> new BaseRsaOaep();
+            case "OAEP" -> new BaseRsaOaep(mode);
             default -> throw new IllegalArgumentException("No such instance:" +identifier);
         };
     }
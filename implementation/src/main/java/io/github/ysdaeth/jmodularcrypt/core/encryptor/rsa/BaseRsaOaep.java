@@ -1,5 +1,7 @@
 package io.github.ysdaeth.jmodularcrypt.core.encryptor.rsa;
 
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.CipherPool;
+
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import java.security.*;
@@ -7,12 +9,30 @@ import java.util.Objects;
 
 
 /**
- * Thread safe class, every encryption and decryption creates a new cipher instance.
+ * Thread safe class, every encryption and decryption acquires cipher instance from the {@link CipherPool},
+ * and initializes it with the key.
  * Base functionality of RSA algorithm with block size matching key size.
  * Uses RSA with SHA256 and MGF1(SHA256) padding.
  */
 public final class BaseRsaOaep implements BaseRsa{
     public static final String ALGORITHM = "RSA/ECB/OAEPWithSHA-256AndMGF1Padding";
+    private final CipherPool ciphers;
+
+    /**
+     * Create RSA OAEP, that creates a new cipher for every operation
+     */
+    public BaseRsaOaep(){
+        this(CipherPool.Mode.NONE);
+    }
+
+    /**
+     * Create RSA OAEP with ciphers of specified reuse mode.
+     * Released ciphers keep reference to the key of their last operation until they are reused.
+     * @param mode reuse mode of cipher instances
+     */
+    public BaseRsaOaep(CipherPool.Mode mode){
+        ciphers = CipherPool.of(ALGORITHM, mode);
+    }
 
     /**
      * Encrypt data with public key
@@ -61,13 +81,14 @@ public final class BaseRsaOaep implements BaseRsa{
      * @throws KeyException when key is invalid or does not match encrypted bytes in decrypt mode
      * @throws IllegalArgumentException if the key type is not supported.
      */
-    private static byte[] cipher(byte[] data, Key key) throws KeyException{
+    private byte[] cipher(byte[] data, Key key) throws KeyException{
         int cipherMode = cipherMode(key);
         byte[] deciphered;
         try{
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            Cipher cipher = ciphers.acquire();
             cipher.init(cipherMode,key);
             deciphered = cipher.doFinal(data);
+            ciphers.release(cipher);
         }catch (BadPaddingException | InvalidKeyException e){
             throw new KeyException("Key does not match encrypted data."+e.getMessage(),e);
         }catch (Exception e){
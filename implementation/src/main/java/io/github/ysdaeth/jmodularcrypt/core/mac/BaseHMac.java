@@ -2,10 +2,23 @@ package io.github.ysdaeth.jmodularcrypt.core.mac;
 
 import javax.crypto.Mac;
 import javax.crypto.SecretKey;
-import java.util.Arrays;
+import javax.crypto.ShortBufferException;
+import java.security.MessageDigest;
 
+/**
+ * Thread safe HMac from Java provider. HMac created with algorithm only creates and initializes
+ * a new {@link Mac} for every sign. HMac bound to a key initializes prototype {@link Mac} once,
+ * and signs with per thread instances, which are clones of the prototype when provider supports cloning,
+ * or instances initialized with the key otherwise. Key schedule is computed once per thread, and
+ * {@link Mac#doFinal(byte[])} resets instance to the initialized state, so it is reused for the next sign.
+ * Signs are compared in constant time.
+ */
 public class BaseHMac {
     private final String algorithm;
+    private final SecretKey secretKey;
+    private final Mac prototype;
+    private final boolean cloneable;
+    private final ThreadLocal<Mac> macs;
 
     /**
      * Create HMac from Java provider
@@ -14,6 +27,90 @@ public class BaseHMac {
     public BaseHMac(String algorithm) {
         if(algorithm == null) throw new IllegalArgumentException("Algorithm must not be null");
         this.algorithm = algorithm;
+        this.secretKey = null;
+        this.prototype = null;
+        this.cloneable = false;
+        this.macs = null;
+    }
+
+    /**
+     * Create HMac from Java provider bound to the key, which is used by {@link BaseHMac#sign(byte[])}
+     * and {@link BaseHMac#verify(byte[], byte[])}
+     * @param algorithm HMac instance algorithm
+     * @param secretKey secret key
+     * @throws IllegalArgumentException when algorithm or key is null
+     * @throws RuntimeException when algorithm is not available, or key is not valid
+     */
+    public BaseHMac(String algorithm, SecretKey secretKey) {
+        if(algorithm == null) throw new IllegalArgumentException("Algorithm must not be null");
+        if(secretKey == null) throw new IllegalArgumentException("Secret key must not be null");
+        this.algorithm = algorithm;
+        this.secretKey = secretKey;
+        try{
+            prototype = Mac.getInstance(algorithm);
+            prototype.init(secretKey);
+        }catch (Exception e){
+            throw new RuntimeException("Failed to initialize HMac." + e.getMessage(),e);
+        }
+        cloneable = isCloneable(prototype);
+        macs = ThreadLocal.withInitial(this::copyPrototype);
+    }
+
+    /**
+     * @return length of the sign in bytes
+     * @throws RuntimeException when algorithm is not available
+     */
+    public int length() {
+        if(prototype != null) return prototype.getMacLength();
+        try{
+            return Mac.getInstance(algorithm).getMacLength();
+        }catch (Exception e){
+            throw new RuntimeException("Failed to read sign length." + e.getMessage(),e);
+        }
+    }
+
+    /**
+     * Create sign of the message with the bound key
+     * @param message message to sign
+     * @return sign based on message and bound key
+     * @throws IllegalStateException when HMac is not bound to a key
+     */
+    public byte[] sign(byte[] message) {
+        if(macs == null) throw new IllegalStateException("HMac is not bound to a key");
+        return macs.get().doFinal(message);
+    }
+
+    /**
+     * Write sign of the message with the bound key into the target array, so sign is not allocated
+     * @param message message to sign
+     * @param target array that sign is written to
+     * @param offset index of the first written byte
+     * @return number of written bytes, which is {@link BaseHMac#length()}
+     * @throws IllegalStateException when HMac is not bound to a key
+     * @throws IllegalArgumentException when target is too short
+     */
+    public int sign(byte[] message, byte[] target, int offset) {
+        if(macs == null) throw new IllegalStateException("HMac is not bound to a key");
+        Mac mac = macs.get();
+        mac.update(message);
+        try{
+            mac.doFinal(target, offset);
+            return mac.getMacLength();
+        }catch (ShortBufferException e){
+            mac.reset();
+            throw new IllegalArgumentException("Target is too short for sign." + e.getMessage(),e);
+        }
+    }
+
+    /**
+     * Check if sign matches message, signed with the bound key
+     * @param message original message
+     * @param sign sign
+     * @return true if sign match message
+     * @throws IllegalStateException when HMac is not bound to a key
+     */
+    public boolean verify(byte[] message, byte[] sign) {
+        return MessageDigest.isEqual(sign(message), sign);
     }
 
     /**
@@ -42,6 +139,30 @@ public class BaseHMac {
      */
     public boolean verify(byte[] message, byte[] sign, SecretKey secretKey) {
         byte[] signed = sign(message,secretKey);
-        return Arrays.equals(signed,sign);
+        return MessageDigest.isEqual(signed,sign);
+    }
+
+    /**
+     * Copy initialized prototype for the current thread
+     * @return clone of the prototype, or a new instance initialized with the key when cloning is not supported
+     */
+    private Mac copyPrototype() {
+        try{
+            if(cloneable) return (Mac) prototype.clone();
+            Mac mac = Mac.getInstance(algorithm, prototype.getProvider());
+            mac.init(secretKey);
+            return mac;
+        }catch (Exception e){
+            throw new RuntimeException("Failed to initialize HMac." + e.getMessage(),e);
+        }
+    }
+
+    private static boolean isCloneable(Mac mac) {
+        try{
+            mac.clone();
+            return true;
+        }catch (CloneNotSupportedException e){
+            return false;
+        }
     }
 }
@@ -6,21 +6,24 @@ import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerFactory
 import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerType;
 import io.github.ysdaeth.jmodularcrypt.core.encryptor.aes.BaseAes;
 import io.github.ysdaeth.jmodularcrypt.core.encryptor.aes.BaseAesFactory;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.CipherPool;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.GcmNonceSequence;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.RandomSource;
 import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
 import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
-import io.github.ysdaeth.jmodularcrypt.core.serializer.Serializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.LazyModel;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.TypedSerializer;
 
 import javax.crypto.SecretKey;
 import java.security.Key;
 import java.security.KeyException;
-import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * <h2>AES GCM encryptor</h2>
  * Class purpose is to encrypt data and is designed to provide Modular Crypt Format standard output.
- * Internally it uses AES GCM with 96bit initial vector.
+ * Internally it uses AES GCM with 96bit initial vector, that is random, or taken from {@link GcmNonceSequence}.
  * It uses cipher instance provided by the {@link java.security.Provider}
  * For more details see {@link Encryptor}.
  * <p>Example Modular Crypt Output Format</p>
@@ -30,25 +33,88 @@ public class EncryptorAesGcm implements Encryptor {
 
     public static final String IDENTIFIER = "AES-GCM";
     private static final String VERSION = "v=1";
-    private final Serializer modelSerializer;
-    private final Serializer paramsSerializer;
+    private final TypedSerializer<AesMcfEntity> modelSerializer;
 
     private final BaseAes baseAes;
+    private final RandomSource random;
+    private final GcmNonceSequence nonces;
 
     /**
      *
      * Creates an instance of the symmetric AES GCM, provided
      * by the {@link java.security.Provider} and implemented with a basic configuration.
+     * Initial vectors are generated by DRBG shared by all threads.
      */
     public EncryptorAesGcm(){
-        modelSerializer = SerializerFactory.getInstance(SerializerType.MCF_BASE64);
-        paramsSerializer = SerializerFactory.getInstance(SerializerType.MCF_PARAMETER);
-        baseAes = BaseAesFactory.getInstance("GCM");
+        this(RandomSource.of(RandomSource.Mode.SHARED));
+    }
+
+    /**
+     * Creates an instance of the symmetric AES GCM, that generates initial vectors with specified source
+     * @param random source of random initial vectors
+     * @throws IllegalArgumentException when random is null
+     */
+    public EncryptorAesGcm(RandomSource random){
+        this(random, null, CipherPool.Mode.NONE);
+    }
+
+    /**
+     * Creates an instance of the symmetric AES GCM, that reuses ciphers in specified mode,
+     * and generates initial vectors by DRBG shared by all threads.
+     * Pooled ciphers retain keys of their last operation, see {@link CipherPool}.
+     * @param mode reuse mode of cipher instances
+     * @throws IllegalArgumentException when mode is null
+     */
+    public EncryptorAesGcm(CipherPool.Mode mode){
+        this(RandomSource.of(RandomSource.Mode.SHARED), null, mode);
+    }
+
+    /**
+     * Creates an instance of the symmetric AES GCM, that generates initial vectors with specified source,
+     * and reuses ciphers in specified mode
+     * @param random source of random initial vectors
+     * @param mode reuse mode of cipher instances
+     * @throws IllegalArgumentException when random or mode is null
+     */
+    public EncryptorAesGcm(RandomSource random, CipherPool.Mode mode){
+        this(random, null, mode);
+    }
+
+    /**
+     * Creates an instance of the symmetric AES GCM, that takes initial vectors from the nonce sequence.
+     * Sequence should be used with one key, encryption fails with {@link IllegalStateException}
+     * when sequence is exhausted, which is reported by {@link GcmNonceSequence#remaining()}.
+     * @param nonces sequence of initial vectors
+     * @throws IllegalArgumentException when nonces is null
+     */
+    public EncryptorAesGcm(GcmNonceSequence nonces){
+        this(null, nonces, CipherPool.Mode.NONE);
+    }
+
+    /**
+     * Creates an instance of the symmetric AES GCM, that takes initial vectors from the nonce sequence,
+     * and reuses ciphers in specified mode
+     * @param nonces sequence of initial vectors
+     * @param mode reuse mode of cipher instances
+     * @throws IllegalArgumentException when nonces or mode is null
+     */
+    public EncryptorAesGcm(GcmNonceSequence nonces, CipherPool.Mode mode){
+        this(null, nonces, mode);
+    }
+
+    private EncryptorAesGcm(RandomSource random, GcmNonceSequence nonces, CipherPool.Mode mode){
+        if(random == null && nonces == null)
+            throw new IllegalArgumentException("Random source or nonce sequence must not be null");
+        if(mode == null) throw new IllegalArgumentException("Cipher pool mode must not be null");
+        modelSerializer = SerializerFactory.getInstance(SerializerType.MCF_BASE64).forType(AesMcfEntity.class);
+        baseAes = BaseAesFactory.getInstance("GCM", mode);
+        this.random = random;
+        this.nonces = nonces;
     }
 
     /**
      * Encrypts data, and returns it in a Modular Crypt Format string representation.
-     * Initially generates random 96bit initial vector.
+     * Initially generates random 96bit initial vector, or takes the next one from the nonce sequence.
      * Bytes array passed as an argument is cloned and after encryption the clone is filled with 0 bytes.
      * Original array is not being modified.
      * <blockquote><pre>
@@ -61,6 +127,7 @@ public class EncryptorAesGcm implements Encryptor {
      * @param encryptionKey key for data encryption
      * @return Modular Crypt Format string representation
      * @throws KeyException when key does not match or is invalid
+     * @throws IllegalStateException when nonce sequence of this instance is exhausted
      */
     @Override
     public String encrypt(byte[] secret, Key encryptionKey) throws KeyException {
@@ -86,11 +153,11 @@ public class EncryptorAesGcm implements Encryptor {
      * @throws KeyException when key does not match or is invalid
      */
     private String encryptUnsafe(byte[] secret, SecretKey encryptionKey) throws KeyException{
-        byte[] iv = new byte[12];
-        new SecureRandom().nextBytes(iv);
+        byte[] iv = new byte[GcmNonceSequence.NONCE_LENGTH];
+        if(nonces != null) nonces.next(iv);
+        else random.nextBytes(iv);
         byte[] encrypted = baseAes.encrypt(secret,encryptionKey,iv.clone());
-        String params = paramsSerializer.serialize(new ParamsMcf(iv));
-        AesMcfEntity aesMcfEntity = new AesMcfEntity(IDENTIFIER,VERSION,params,encrypted);
+        AesMcfEntity aesMcfEntity = new AesMcfEntity(IDENTIFIER,VERSION,new ParamsMcf(iv),encrypted);
         return modelSerializer.serialize(aesMcfEntity);
     }
 
@@ -117,15 +184,15 @@ public class EncryptorAesGcm implements Encryptor {
             throw new IllegalArgumentException("Decryption key must be an instance of the "+ SecretKey.class);
         }
 
-        AesMcfEntity model = modelSerializer.deserialize(encrypted, AesMcfEntity.class);
-        if(!IDENTIFIER.equals(model.identifier)){
+        LazyModel<AesMcfEntity> lazyModel = modelSerializer.deserializeLazy(encrypted);
+        if(!lazyModel.textEquals(0, IDENTIFIER)){
             throw new IncorrectAlgorithmException(String.format(
-                    "Incorrect algorithm. Required is '%s' but provided was '%s'.", IDENTIFIER, model.identifier)
+                    "Incorrect algorithm. Required is '%s' but provided was '%s'.", IDENTIFIER, lazyModel.text(0))
             );
         }
+        AesMcfEntity model = lazyModel.toObject();
 
-        ParamsMcf params = paramsSerializer.deserialize(model.params, ParamsMcf.class);
-        return baseAes.decrypt(model.encrypted, castedSecretKey, params.iv);
+        return baseAes.decrypt(model.encrypted, castedSecretKey, model.params.iv);
     }
 
     /**
@@ -148,18 +215,18 @@ public class EncryptorAesGcm implements Encryptor {
      * Class is used as entity for Modular Crypt Format representation for
      * this instance algorithm output.
      */
-    private static class AesMcfEntity {
-        @Module(order = 0)
-        private final String identifier;
-        @Module(order = 1)
-        private final String version;
+    static class AesMcfEntity {
+        @Module(order = 0, constant = IDENTIFIER)
+        final String identifier;
+        @Module(order = 1, constant = VERSION)
+        final String version;
         @Module(order = 2)
-        private final String params;
+        final ParamsMcf params;
         @Module(order = 3)
-        private final byte[] encrypted;
+        final byte[] encrypted;
 
         @SerializerCreator
-        public AesMcfEntity(String identifier, String version, String params, byte[] encrypted){
+        public AesMcfEntity(String identifier, String version, ParamsMcf params, byte[] encrypted){
             this.identifier = Objects.requireNonNull(identifier,"Identifier module must not be null");
             this.version = Objects.requireNonNull(version,"Version module must not be null");
             this.params = Objects.requireNonNull(params,"Params module must not be null");
@@ -168,11 +235,11 @@ public class EncryptorAesGcm implements Encryptor {
     }
     /**
      * Class is used as model for Modular Crypt Format parameters representation for
-     * this instance algorithm output.
+     * this instance algorithm output. It is nested in {@link AesMcfEntity}.
      */
-    private static class ParamsMcf{
+    static class ParamsMcf{
         @Module(order = 0)
-        private final byte[] iv;
+        final byte[] iv;
 
         @SerializerCreator
         public ParamsMcf(byte[] iv){
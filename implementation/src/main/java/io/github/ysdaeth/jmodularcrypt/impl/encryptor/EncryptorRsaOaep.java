@@ -3,11 +3,13 @@ package io.github.ysdaeth.jmodularcrypt.impl.encryptor;
 import io.github.ysdaeth.jmodularcrypt.api.Encryptor;
 import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerFactory;
 import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerType;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.CipherPool;
 import io.github.ysdaeth.jmodularcrypt.core.encryptor.rsa.BaseRsa;
 import io.github.ysdaeth.jmodularcrypt.core.encryptor.rsa.BaseRsaFactory;
 import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
 import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
-import io.github.ysdaeth.jmodularcrypt.core.serializer.Serializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.LazyModel;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.TypedSerializer;
 
 import java.security.*;
 import java.util.Arrays;
@@ -25,7 +27,7 @@ import java.util.Objects;
 public final class EncryptorRsaOaep implements Encryptor {
     public static final String IDENTIFIER = "RSA-OAEP-SHA256-MGF1";
     private static final String VERSION = "v=1";
-    private final Serializer serializer ;
+    private final TypedSerializer<RsaMcfEntity> serializer;
     private final BaseRsa baseRsa;
 
     /**
@@ -33,8 +35,19 @@ public final class EncryptorRsaOaep implements Encryptor {
      * by the {@link java.security.Provider} and implemented with a basic configuration.
      */
     public EncryptorRsaOaep(){
-        this.serializer = SerializerFactory.getInstance(SerializerType.MCF_BASE64);
-        this.baseRsa = BaseRsaFactory.getInstance("OAEP");
+        this(CipherPool.Mode.NONE);
+    }
+
+    /**
+     * Creates an instance of the asymmetric RSA OAEP SHA256 MGF1 padding, that reuses ciphers in specified mode.
+     * Pooled ciphers retain keys of their last operation, see {@link CipherPool}.
+     * @param mode reuse mode of cipher instances
+     * @throws IllegalArgumentException when mode is null
+     */
+    public EncryptorRsaOaep(CipherPool.Mode mode){
+        if(mode == null) throw new IllegalArgumentException("Cipher pool mode must not be null");
+        this.serializer = SerializerFactory.getInstance(SerializerType.MCF_BASE64).forType(RsaMcfEntity.class);
+        this.baseRsa = BaseRsaFactory.getInstance("OAEP", mode);
     }
 
     /**
@@ -95,12 +108,13 @@ public final class EncryptorRsaOaep implements Encryptor {
             throw new IllegalArgumentException("Decryption key must be an instance of the " + PrivateKey.class);
         }
 
-        RsaMcfEntity model = serializer.deserialize(serializedMcf, RsaMcfEntity.class);
-        if(!IDENTIFIER.equals(model.identifier)){
+        LazyModel<RsaMcfEntity> lazyModel = serializer.deserializeLazy(serializedMcf);
+        if(!lazyModel.textEquals(0, IDENTIFIER)){
             throw new IncorrectAlgorithmException(String.format(
-                    "Incorrect algorithm. Required is '%s' but provided was '%s'.", IDENTIFIER, model.identifier)
+                    "Incorrect algorithm. Required is '%s' but provided was '%s'.", IDENTIFIER, lazyModel.text(0))
             );
         }
+        RsaMcfEntity model = lazyModel.toObject();
 
         byte[] encrypted = model.encrypted();
         return baseRsa.decrypt(encrypted,castedPrivateKey);
@@ -125,13 +139,13 @@ public final class EncryptorRsaOaep implements Encryptor {
     /**
      * Class is used as model for Modular Crypt Format representation
      */
-    private static final class RsaMcfEntity {
-        @Module(order = 0)
-        private final String identifier;
-        @Module(order = 1)
-        private final String version;
+    static final class RsaMcfEntity {
+        @Module(order = 0, constant = IDENTIFIER)
+        final String identifier;
+        @Module(order = 1, constant = VERSION)
+        final String version;
         @Module(order = 2)
-        private final byte[] encrypted;
+        final byte[] encrypted;
 
         @SerializerCreator
         public RsaMcfEntity(String identifier, String version, byte[] encrypted) {
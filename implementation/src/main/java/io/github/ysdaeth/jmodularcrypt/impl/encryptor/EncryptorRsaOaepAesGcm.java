@@ -5,13 +5,15 @@ import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerFactory
 import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerType;
 import io.github.ysdaeth.jmodularcrypt.core.encryptor.aes.BaseAes;
 import io.github.ysdaeth.jmodularcrypt.core.encryptor.aes.BaseAesFactory;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.CipherPool;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.RandomSource;
 import io.github.ysdaeth.jmodularcrypt.core.encryptor.rsa.BaseRsa;
 import io.github.ysdaeth.jmodularcrypt.core.encryptor.rsa.BaseRsaFactory;
 import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
 import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
-import io.github.ysdaeth.jmodularcrypt.core.serializer.Serializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.LazyModel;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.TypedSerializer;
 
-import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.security.*;
@@ -33,28 +35,60 @@ import java.util.Objects;
 public class EncryptorRsaOaepAesGcm implements Encryptor {
     public static final String IDENTIFIER = "RSA-OAEP-SHA256-MGF1+AES-GCM-256";
     private static final String VERSION = "v=1";
-    private final Serializer modelSerializer;
-    private final Serializer paramsSerializer;
+    private final TypedSerializer<RsaAesMcfModel> modelSerializer;
 
     private final BaseAes baseAes;
     private final BaseRsa baseRsa;
-    private final KeyGenerator keyGenerator;
+    private final RandomSource random;
 
     /**
      * Creates an instance of the hybrid RSA OAEP SHA256 MGF1 padding and AES GCM, provided
      * by the {@link java.security.Provider} and implemented with a basic configuration.
+     * Keys and initial vectors are generated by DRBG shared by all threads.
      */
     public EncryptorRsaOaepAesGcm() {
+        this(RandomSource.of(RandomSource.Mode.SHARED));
+    }
+
+    /**
+     * Creates an instance of the hybrid RSA OAEP SHA256 MGF1 padding and AES GCM,
+     * that generates AES keys and initial vectors with specified source
+     * @param random source of random keys and initial vectors
+     * @throws IllegalArgumentException when random is null
+     */
+    public EncryptorRsaOaepAesGcm(RandomSource random) {
+        this(random, CipherPool.Mode.NONE);
+    }
+
+    /**
+     * Creates an instance of the hybrid RSA OAEP SHA256 MGF1 padding and AES GCM, that reuses
+     * RSA and AES ciphers in specified mode, and generates keys and initial vectors by DRBG shared by all threads.
+     * Pooled ciphers retain keys of their last operation, see {@link CipherPool}.
+     * @param mode reuse mode of cipher instances
+     * @throws IllegalArgumentException when mode is null
+     */
+    public EncryptorRsaOaepAesGcm(CipherPool.Mode mode) {
+        this(RandomSource.of(RandomSource.Mode.SHARED), mode);
+    }
+
+    /**
+     * Creates an instance of the hybrid RSA OAEP SHA256 MGF1 padding and AES GCM,
+     * that generates AES keys and initial vectors with specified source, and reuses ciphers in specified mode
+     * @param random source of random keys and initial vectors
+     * @param mode reuse mode of cipher instances
+     * @throws IllegalArgumentException when random or mode is null
+     */
+    public EncryptorRsaOaepAesGcm(RandomSource random, CipherPool.Mode mode) {
+        if(random == null) throw new IllegalArgumentException("Random source must not be null");
+        if(mode == null) throw new IllegalArgumentException("Cipher pool mode must not be null");
+        this.random = random;
         try{
-            keyGenerator = KeyGenerator.getInstance("AES");
-            keyGenerator.init(256);
-            baseAes = BaseAesFactory.getInstance("GCM");
-            baseRsa = BaseRsaFactory.getInstance("OAEP");
+            baseAes = BaseAesFactory.getInstance("GCM", mode);
+            baseRsa = BaseRsaFactory.getInstance("OAEP", mode);
         }catch (Exception e){
             throw new RuntimeException("Could not configure the class. Root cause"+ e.getMessage(), e);
         }
-        modelSerializer = SerializerFactory.getInstance(SerializerType.MCF_BASE64);
-        paramsSerializer = SerializerFactory.getInstance(SerializerType.MCF_PARAMETER);
+        modelSerializer = SerializerFactory.getInstance(SerializerType.MCF_BASE64).forType(RsaAesMcfModel.class);
     }
 
     /**
@@ -91,12 +125,18 @@ public class EncryptorRsaOaepAesGcm implements Encryptor {
     }
     private String encryptUnsafe(byte[] secret, PublicKey publicKey) throws KeyException{
         byte[] iv = new byte[12];
-        new SecureRandom().nextBytes(iv);
-        SecretKey secretKey = keyGenerator.generateKey();
-        byte[] encryptedKey = baseRsa.encrypt(secretKey.getEncoded(),publicKey);
-        byte[] encryptedCredentials = baseAes.encrypt(secret,secretKey,iv);
-        String params = paramsSerializer.serialize( new McfParams(iv) );
-        RsaAesMcfModel model = new RsaAesMcfModel(IDENTIFIER,VERSION,params,encryptedKey,encryptedCredentials);
+        random.nextBytes(iv);
+        byte[] keyBytes = new byte[32];
+        random.nextBytes(keyBytes);
+        byte[] encryptedKey;
+        byte[] encryptedCredentials;
+        try{
+            encryptedKey = baseRsa.encrypt(keyBytes,publicKey);
+            encryptedCredentials = baseAes.encrypt(secret,new SecretKeySpec(keyBytes,"AES"),iv);
+        }finally {
+            Arrays.fill(keyBytes,(byte)0);
+        }
+        RsaAesMcfModel model = new RsaAesMcfModel(IDENTIFIER,VERSION,new McfParams(iv),encryptedKey,encryptedCredentials);
         return modelSerializer.serialize(model);
     }
 
@@ -115,18 +155,17 @@ public class EncryptorRsaOaepAesGcm implements Encryptor {
         if(!(privateKey instanceof PrivateKey castedPrivateKey))
             throw new IllegalArgumentException("Decryption key must be an instance of the "+ PrivateKey.class);
 
-        RsaAesMcfModel model = modelSerializer.deserialize(mcf, RsaAesMcfModel.class);
-
-        if(!IDENTIFIER.equals(model.identifier)){
+        LazyModel<RsaAesMcfModel> lazyModel = modelSerializer.deserializeLazy(mcf);
+        if(!lazyModel.textEquals(0, IDENTIFIER)){
             throw new IncorrectAlgorithmException(String.format(
-                    "Incorrect algorithm. Required is '%s' but provided was '%s'.", IDENTIFIER, model.identifier)
+                    "Incorrect algorithm. Required is '%s' but provided was '%s'.", IDENTIFIER, lazyModel.text(0))
             );
         }
+        RsaAesMcfModel model = lazyModel.toObject();
 
-        McfParams params = paramsSerializer.deserialize(model.params,McfParams.class);
         byte[] keyBytes = baseRsa.decrypt(model.encryptedKey,castedPrivateKey);
         SecretKey secretKey = new SecretKeySpec(keyBytes,"AES");
-        return baseAes.decrypt(model.encryptedSecret,secretKey,params.iv);
+        return baseAes.decrypt(model.encryptedSecret,secretKey,model.params.iv);
     }
 
     /**
@@ -149,20 +188,20 @@ public class EncryptorRsaOaepAesGcm implements Encryptor {
      * Class is used as model for Modular Crypt Format representation for
      * this instance algorithm output.
      */
-    private static final class RsaAesMcfModel {
-        @Module(order = 0)
-        private final String identifier;
-        @Module(order = 1)
-        private final String version;
+    static final class RsaAesMcfModel {
+        @Module(order = 0, constant = IDENTIFIER)
+        final String identifier;
+        @Module(order = 1, constant = VERSION)
+        final String version;
         @Module(order = 2)
-        private final String params;
+        final McfParams params;
         @Module(order = 3)
-        private final byte[] encryptedKey;
+        final byte[] encryptedKey;
         @Module(order =4)
-        private final byte[] encryptedSecret;
+        final byte[] encryptedSecret;
 
         @SerializerCreator
-        public RsaAesMcfModel(String identifier, String version, String params, byte[] encryptedKey, byte[] encryptedSecret) {
+        public RsaAesMcfModel(String identifier, String version, McfParams params, byte[] encryptedKey, byte[] encryptedSecret) {
             this.identifier = Objects.requireNonNull(identifier,"Identifier module must not be null");
             this.version = Objects.requireNonNull(version,"Version module must not be null");
             this.params = Objects.requireNonNull(params,"Params module must not be null");
@@ -173,11 +212,11 @@ public class EncryptorRsaOaepAesGcm implements Encryptor {
 
     /**
      * Class is used as model for Modular Crypt Format parameters representation for
-     * this instance algorithm output.
+     * this instance algorithm output. It is nested in {@link RsaAesMcfModel}.
      */
-    private static final class McfParams{
+    static final class McfParams{
         @Module(order = 0)
-        private final byte[] iv;
+        final byte[] iv;
 
         @SerializerCreator
         public McfParams(byte[] iv) {
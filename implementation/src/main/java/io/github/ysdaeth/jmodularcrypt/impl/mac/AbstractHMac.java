@@ -1,39 +1,81 @@
 package io.github.ysdaeth.jmodularcrypt.impl.mac;
 
 import io.github.ysdaeth.jmodularcrypt.api.Mac;
-import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
-import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
-import io.github.ysdaeth.jmodularcrypt.core.serializer.Serializer;
+import io.github.ysdaeth.jmodularcrypt.core.converter.Base64Codec;
+import io.github.ysdaeth.jmodularcrypt.core.converter.HexCodec;
+import io.github.ysdaeth.jmodularcrypt.core.converter.Radix64Codec;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.TypedSerializer;
 import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerFactory;
 import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerType;
 import io.github.ysdaeth.jmodularcrypt.core.mac.BaseHMac;
 
-import javax.crypto.SecretKey;
+import java.util.function.Function;
 
 /**
  * Common implementation for HMac instances.
  * Class is responsible for providing implementation for messages signs and
  * verification of that signs.
- * Class uses {@link Serializer} to provide Modular Crypt Format outputs.
+ * Class uses {@link TypedSerializer} to provide Modular Crypt Format outputs. Each implementation declares
+ * its own model, with identifier and {@link AbstractHMac#VERSION} modules marked as constant, so they are
+ * written as precomposed prefix, and verification matches the prefix composed of the same constants.
+ * Sign bytes are written in format of selected {@link SerializerType}, and signs in
+ * {@link SerializerType#MCF_HEXADECIMAL} format are always verified, so stored signs remain valid
+ * when format is changed. Format of verified sign is recognized by its length, which is different
+ * for each format of the same number of bytes.
+ * Verified sign is not deserialized, identifier and version are matched in place, and sign computed
+ * into thread local buffer is encoded and compared with sign characters in constant time,
+ * so verification of a sign allocates nothing but what the Mac computation does.
  */
 abstract class AbstractHMac implements Mac {
+    static final String VERSION = "v=1";
 
-    private final Serializer serializer;
+    private final Function<byte[], String> writer;
+    private final SignEncoder encoder;
+    private final int encodedLength;
+    private final int hexadecimalLength;
+    private final String prefix;
+    private final ThreadLocal<Buffers> buffers;
 
     private final String identifier;
     private final BaseHMac baseHMac;
-    private final SecretKey secretKey;
 
     /**
      * Prepare common implementation shared across HMac implementations
-     * @param baseHMac base HMac functionality
-     * @param secretKey secret key for messages signing and verification
+     * @param baseHMac base HMac functionality bound to secret key for messages signing and verification
+     * @param identifier algorithm identifier, the same as constant of model identifier module
+     * @param type format of written signs, one of {@link SerializerType#MCF_HEXADECIMAL},
+     * {@link SerializerType#MCF_BASE64} and {@link SerializerType#MCF_RADIX64}
+     * @param model class of the implementation model, with constant identifier and version modules
+     * @param creator function that creates model of sign bytes
+     * @param <M> type of the model
+     * @throws IllegalArgumentException when type is not format of sign bytes
      */
-    AbstractHMac(BaseHMac baseHMac, SecretKey secretKey, String identifier){
+    <M> AbstractHMac(BaseHMac baseHMac, String identifier, SerializerType type,
+                     Class<M> model, Function<byte[], M> creator){
+        if(type == null) throw new IllegalArgumentException("Serializer type is not sign format: null");
+        int signLength = baseHMac.length();
+        switch (type){
+            case MCF_HEXADECIMAL -> {
+                encoder = HexCodec::encode;
+                encodedLength = HexCodec.encodedLength(signLength);
+            }
+            case MCF_BASE64 -> {
+                encoder = Base64Codec::encode;
+                encodedLength = Base64Codec.encodedLength(signLength);
+            }
+            case MCF_RADIX64 -> {
+                encoder = Radix64Codec::encode;
+                encodedLength = Radix64Codec.encodedLength(signLength);
+            }
+            default -> throw new IllegalArgumentException("Serializer type is not sign format: " + type);
+        }
         this.baseHMac = baseHMac;
-        this.secretKey = secretKey;
         this.identifier = identifier;
-        serializer = SerializerFactory.getInstance(SerializerType.MCF_HEXADECIMAL);
+        TypedSerializer<M> serializer = SerializerFactory.getInstance(type).forType(model);
+        writer = sign -> serializer.serialize(creator.apply(sign));
+        hexadecimalLength = HexCodec.encodedLength(signLength);
+        prefix = "$" + identifier + "$" + VERSION + "$";
+        buffers = ThreadLocal.withInitial(() -> new Buffers(signLength, hexadecimalLength));
     }
 
     /**
@@ -43,12 +85,7 @@ abstract class AbstractHMac implements Mac {
      */
     @Override
     public String sign(byte[] message) {
-        byte[] sign = baseHMac.sign(message,secretKey);
-        McfModel model = new McfModel(
-                identifier(),
-                version(),
-                sign);
-        return serializer.serialize(model);
+        return writer.apply(baseHMac.sign(message));
     }
 
     /**
@@ -57,19 +94,29 @@ abstract class AbstractHMac implements Mac {
      */
     @Override
     public String version(){
-        return "v=1";
+        return VERSION;
     }
 
     /**
-     * Verify if Generate Modular Crypt Format sign matches message
+     * Verify if Generate Modular Crypt Format sign matches message.
+     * Sign of other identifier or version, or of length of neither hexadecimal nor configured format
+     * does not match. Hexadecimal digits are compared regardless of case.
      * @param sign sign to compare
      * @param message message to verify
      * @return true if sign matches message
      */
     @Override
     public boolean verify(String sign, byte[] message) {
-        McfModel model = serializer.deserialize(sign,McfModel.class);
-        return baseHMac.verify(message, model.sign, secretKey);
+        int start = prefix.length();
+        int length = sign.length() - start;
+        if(!sign.startsWith(prefix) || length != hexadecimalLength && length != encodedLength) return false;
+        boolean hexadecimal = length == hexadecimalLength;
+        Buffers buffers = this.buffers.get();
+        int signLength = baseHMac.sign(message, buffers.sign, 0);
+        int written = hexadecimal
+                ? HexCodec.encode(buffers.sign, 0, signLength, buffers.chars, 0)
+                : encoder.encode(buffers.sign, 0, signLength, buffers.chars, 0);
+        return isEqual(buffers.chars, written, sign, start, hexadecimal);
     }
 
     @Override
@@ -77,19 +124,45 @@ abstract class AbstractHMac implements Mac {
         return identifier;
     }
 
-    private static final class McfModel{
-        @Module( order = 0)
-        private final String identifier;
-        @Module(order = 1)
-        private final String version;
-        @Module(order = 2)
-        private final byte[] sign;
+    /**
+     * Compare encoded sign with characters of verified sign in constant time. Time depends
+     * on the length only, which is not secret.
+     * @param expected encoded sign computed for the message
+     * @param length number of encoded characters
+     * @param sign verified sign
+     * @param start index of the first character of encoded sign
+     * @param ignoreCase true to match uppercase hexadecimal digits with lowercase expected digits
+     * @return true if all characters match
+     */
+    private static boolean isEqual(char[] expected, int length, String sign, int start, boolean ignoreCase){
+        int difference = 0;
+        for(int i = 0; i < length; i++){
+            int c = sign.charAt(start + i);
+            // Lowercase letters, and set bit out of char range for characters below '0', that would fold to digits
+            if(ignoreCase) c = c | 0x20 | (c - '0') >>> 31 << 16;
+            difference |= c ^ expected[i];
+        }
+        return difference == 0;
+    }
+
+    /**
+     * Encoder of sign bytes to characters, that matches encode methods of the codecs
+     */
+    @FunctionalInterface
+    private interface SignEncoder{
+        int encode(byte[] bytes, int offset, int length, char[] target, int targetOffset);
+    }
+
+    /**
+     * Per thread buffers of computed sign and its encoded characters, reused by every verification
+     */
+    private static final class Buffers{
+        final byte[] sign;
+        final char[] chars;
 
-        @SerializerCreator
-        public McfModel(String identifier, String version, byte[] sign) {
-            this.identifier = identifier;
-            this.version = version;
-            this.sign = sign;
+        Buffers(int signLength, int charsLength){
+            sign = new byte[signLength];
+            chars = new char[charsLength];
         }
     }
 }
@@ -1,8 +1,12 @@
 package io.github.ysdaeth.jmodularcrypt.impl.mac;
 
+import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
 import io.github.ysdaeth.jmodularcrypt.core.mac.BaseHMac;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerType;
 
 import javax.crypto.SecretKey;
+import java.util.Objects;
 
 /**
  * Thread safe class.
@@ -18,7 +22,42 @@ public class HMacSha512 extends AbstractHMac{
      * @param secretKey secret key to make sign for message
      */
     public HMacSha512(SecretKey secretKey) {
-        super(new BaseHMac("HmacSha512"), secretKey, IDENTIFIER);
+        this(secretKey, SerializerType.MCF_HEXADECIMAL);
+    }
+
+    /**
+     * Create HMac Sha 512 instance, that writes signs in specified format.
+     * Signs in hexadecimal format are verified regardless of the format.
+     * @param secretKey secret key to make sign for message
+     * @param type format of written signs, one of {@link SerializerType#MCF_HEXADECIMAL},
+     * {@link SerializerType#MCF_BASE64} and {@link SerializerType#MCF_RADIX64}
+     * @throws IllegalArgumentException when type is not format of sign bytes
+     */
+    public HMacSha512(SecretKey secretKey, SerializerType type) {
+        super(new BaseHMac("HmacSha512", secretKey), IDENTIFIER, type, McfModel.class, McfModel::new);
+    }
+
+    /**
+     * Class is used as model for Modular Crypt Format representation of this instance signs.
+     */
+    static final class McfModel{
+        @Module(order = 0, constant = IDENTIFIER)
+        final String identifier;
+        @Module(order = 1, constant = VERSION)
+        final String version;
+        @Module(order = 2)
+        final byte[] sign;
+
+        McfModel(byte[] sign){
+            this(IDENTIFIER, VERSION, sign);
+        }
+
+        @SerializerCreator
+        public McfModel(String identifier, String version, byte[] sign) {
+            this.identifier = Objects.requireNonNull(identifier,"Identifier module must not be null");
+            this.version = Objects.requireNonNull(version,"Version module must not be null");
+            this.sign = Objects.requireNonNull(sign,"Sign module must not be null");
+        }
     }
 
 }
@@ -1,6 +1,13 @@
 module io.github.ysdaeth.jmodularcrypt.implementation {
     requires io.github.ysdaeth.jmodularcrypt.api;
     requires io.github.ysdaeth.jmodularcrypt.core;
-    opens io.github.ysdaeth.jmodularcrypt.impl.encryptor to io.github.ysdaeth.jmodularcrypt.core;
-    opens io.github.ysdaeth.jmodularcrypt.impl.mac to io.github.ysdaeth.jmodularcrypt.core;
+    provides io.github.ysdaeth.jmodularcrypt.core.serializer.GeneratedSerializer with
+            io.github.ysdaeth.jmodularcrypt.impl.encryptor.EncryptorAesGcm_AesMcfEntity_GeneratedSerializer,
+            io.github.ysdaeth.jmodularcrypt.impl.encryptor.EncryptorAesGcm_ParamsMcf_GeneratedSerializer,
+            io.github.ysdaeth.jmodularcrypt.impl.encryptor.EncryptorRsaOaep_RsaMcfEntity_GeneratedSerializer,
+            io.github.ysdaeth.jmodularcrypt.impl.encryptor.EncryptorRsaOaepAesGcm_RsaAesMcfModel_GeneratedSerializer,
+            io.github.ysdaeth.jmodularcrypt.impl.encryptor.EncryptorRsaOaepAesGcm_McfParams_GeneratedSerializer,
+            io.github.ysdaeth.jmodularcrypt.impl.mac.HMacSha256_McfModel_GeneratedSerializer,
+            io.github.ysdaeth.jmodularcrypt.impl.mac.HMacSha384_McfModel_GeneratedSerializer,
+            io.github.ysdaeth.jmodularcrypt.impl.mac.HMacSha512_McfModel_GeneratedSerializer;
 }
\ No newline at end of file
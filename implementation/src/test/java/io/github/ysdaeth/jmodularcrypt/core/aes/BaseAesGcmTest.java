@@ -1,5 +1,6 @@
 package io.github.ysdaeth.jmodularcrypt.core.aes;
 
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.CipherPool;
 import io.github.ysdaeth.jmodularcrypt.core.encryptor.aes.BaseAes;
 import io.github.ysdaeth.jmodularcrypt.core.encryptor.aes.BaseAesFactory;
 import org.junit.jupiter.api.Assertions;
@@ -27,7 +28,9 @@ class BaseAesGcmTest {
 
     static Stream<BaseAes> rsaProvider(){
         return Stream.of(
-                BaseAesFactory.getInstance("GCM")
+                BaseAesFactory.getInstance("GCM"),
+                BaseAesFactory.getInstance("GCM", CipherPool.Mode.THREAD_LOCAL),
+                BaseAesFactory.getInstance("GCM", CipherPool.Mode.SHARED)
         );
     }
 
@@ -82,4 +85,14 @@ class BaseAesGcmTest {
         Assertions.assertTrue(isEqual,"Secret does not match after decryption for: "+ aes.getClass());
     }
 
-}
\ No newline at end of file
+    @ParameterizedTest
+    @MethodSource("rsaProvider")
+    void encrypt_sameKeyAndInitialVector_shouldMatchNewCipher(BaseAes aes) throws Exception{
+        byte[] first = aes.encrypt(secret.clone(), secretKey, iv);
+        byte[] second = aes.encrypt(secret.clone(), secretKey, iv);
+
+        Assertions.assertArrayEquals(first, second, "Reused cipher rejected or changed encryption for: " + aes.getClass());
+        Assertions.assertArrayEquals(secret, aes.decrypt(second, secretKey, iv));
+    }
+
+}
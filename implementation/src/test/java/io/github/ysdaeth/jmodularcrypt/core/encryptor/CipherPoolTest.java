@@ -0,0 +1,81 @@
+package io.github.ysdaeth.jmodularcrypt.core.encryptor;
+
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.aes.BaseAes;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.aes.BaseAesFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class CipherPoolTest {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+    @Test
+    void of_shouldReturnSharedPool(){
+        Assertions.assertSame(CipherPool.of(TRANSFORMATION, CipherPool.Mode.SHARED),
+                CipherPool.of(TRANSFORMATION, null, CipherPool.Mode.SHARED));
+        Assertions.assertNotSame(CipherPool.of(TRANSFORMATION, CipherPool.Mode.SHARED),
+                CipherPool.of(TRANSFORMATION, CipherPool.Mode.THREAD_LOCAL));
+        Assertions.assertThrows(IllegalArgumentException.class, ()->CipherPool.of(TRANSFORMATION, null));
+    }
+
+    @Test
+    void acquire_shouldReuseReleasedCipher() throws Exception{
+        for(CipherPool.Mode mode : new CipherPool.Mode[]{CipherPool.Mode.SHARED, CipherPool.Mode.THREAD_LOCAL}){
+            CipherPool pool = CipherPool.of(TRANSFORMATION, mode);
+            Cipher first = pool.acquire();
+            Cipher nested = pool.acquire();
+            Assertions.assertNotSame(first, nested, mode.name());
+            pool.release(first);
+            Assertions.assertSame(first, pool.acquire(), mode.name());
+        }
+        CipherPool unpooled = CipherPool.of(TRANSFORMATION, CipherPool.Mode.NONE);
+        Cipher cipher = unpooled.acquire();
+        unpooled.release(cipher);
+        Assertions.assertNotSame(cipher, unpooled.acquire());
+    }
+
+    @ParameterizedTest
+    @EnumSource(CipherPool.Mode.class)
+    void encrypt_shouldBeThreadSafe(CipherPool.Mode mode) throws Exception{
+        BaseAes aes = BaseAesFactory.getInstance("GCM", mode);
+        SecretKey key = KeyGenerator.getInstance("AES").generateKey();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try{
+            List<Future<Boolean>> results = new ArrayList<>();
+            for(int task = 0; task < 16; task++){
+                int seed = task;
+                results.add(executor.submit(()->{
+                    Random random = new Random(seed);
+                    for(int i = 0; i < 200; i++){
+                        byte[] secret = new byte[random.nextInt(100)];
+                        byte[] iv = new byte[12];
+                        random.nextBytes(secret);
+                        random.nextBytes(iv);
+                        iv[0] = (byte) seed;
+                        iv[1] = (byte) i;
+                        byte[] decrypted = aes.decrypt(aes.encrypt(secret, key, iv), key, iv);
+                        if(!java.util.Arrays.equals(secret, decrypted)) return false;
+                    }
+                    return true;
+                }));
+            }
+            for(Future<Boolean> result : results){
+                Assertions.assertTrue(result.get());
+            }
+        }finally {
+            executor.shutdown();
+        }
+    }
+}
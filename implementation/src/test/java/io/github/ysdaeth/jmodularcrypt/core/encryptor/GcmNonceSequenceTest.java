@@ -0,0 +1,110 @@
+package io.github.ysdaeth.jmodularcrypt.core.encryptor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class GcmNonceSequenceTest {
+
+    private static final RandomSource FIXED = RandomSource.of(new SecureRandom(){
+        @Override
+        public void nextBytes(byte[] bytes) {
+            Arrays.fill(bytes, (byte) 0xA5);
+        }
+    });
+
+    @Test
+    void next_shouldWritePrefixAndCounter(){
+        GcmNonceSequence nonces = new GcmNonceSequence(FIXED, 300);
+        byte[] nonce = new byte[GcmNonceSequence.NONCE_LENGTH];
+        for(int i = 0; i < 257; i++) nonces.next(nonce);
+
+        byte[] expected = {(byte) 0xA5, (byte) 0xA5, (byte) 0xA5, (byte) 0xA5,
+                (byte) 0xA5, (byte) 0xA5, (byte) 0xA5, (byte) 0xA5, (byte) 0xA5, (byte) 0xA5, (byte) 0xA6, (byte) 0xA5};
+        Assertions.assertArrayEquals(expected, nonce);
+        Assertions.assertEquals(43, nonces.remaining());
+    }
+
+    @Test
+    void next_shouldWrapCounterFromRandomStart(){
+        RandomSource ones = RandomSource.of(new SecureRandom(){
+            @Override
+            public void nextBytes(byte[] bytes) {
+                Arrays.fill(bytes, (byte) 0xFF);
+            }
+        });
+        GcmNonceSequence nonces = new GcmNonceSequence(ones, 2);
+        byte[] first = new byte[GcmNonceSequence.NONCE_LENGTH];
+        byte[] second = new byte[GcmNonceSequence.NONCE_LENGTH];
+        nonces.next(first);
+        nonces.next(second);
+
+        byte[] expected = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0, 0, 0, 0, 0, 0, 0, 0};
+        Assertions.assertEquals((byte) 0xFF, first[GcmNonceSequence.NONCE_LENGTH - 1]);
+        Assertions.assertArrayEquals(expected, second);
+    }
+
+    @Test
+    void constructor_shouldDrawCounterStart(){
+        byte[] first = new byte[GcmNonceSequence.NONCE_LENGTH];
+        byte[] second = new byte[GcmNonceSequence.NONCE_LENGTH];
+        new GcmNonceSequence().next(first);
+        new GcmNonceSequence().next(second);
+
+        Assertions.assertFalse(Arrays.equals(Arrays.copyOfRange(first, 4, 12), Arrays.copyOfRange(second, 4, 12)),
+                "Counters of sequences start from the same value");
+    }
+
+    @Test
+    void next_shouldNotRepeatAcrossThreads() throws Exception{
+        GcmNonceSequence nonces = new GcmNonceSequence();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try{
+            Set<String> issued = new HashSet<>();
+            Future<?>[] futures = new Future<?>[8];
+            for(int i = 0; i < futures.length; i++){
+                futures[i] = executor.submit(() -> {
+                    for(int j = 0; j < 1000; j++){
+                        byte[] nonce = new byte[GcmNonceSequence.NONCE_LENGTH];
+                        nonces.next(nonce);
+                        synchronized (issued){
+                            Assertions.assertTrue(issued.add(Arrays.toString(nonce)), "Repeated nonce");
+                        }
+                    }
+                });
+            }
+            for(Future<?> future : futures) future.get();
+            Assertions.assertEquals(8000, issued.size());
+        }finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void next_shouldThrowWhenExhausted(){
+        GcmNonceSequence nonces = new GcmNonceSequence(FIXED, 1);
+        byte[] nonce = new byte[GcmNonceSequence.NONCE_LENGTH];
+        Assertions.assertFalse(nonces.isExhausted());
+        nonces.next(nonce);
+        Assertions.assertTrue(nonces.isExhausted());
+        Assertions.assertEquals(0, nonces.remaining());
+        Assertions.assertThrows(IllegalStateException.class, ()->nonces.next(nonce));
+        Assertions.assertEquals(0, nonces.remaining());
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidArguments(){
+        Assertions.assertThrows(IllegalArgumentException.class, ()->new GcmNonceSequence(0));
+        Assertions.assertThrows(IllegalArgumentException.class, ()->new GcmNonceSequence(GcmNonceSequence.MAX_LIMIT + 1));
+        Assertions.assertThrows(IllegalArgumentException.class, ()->new GcmNonceSequence(null, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->new GcmNonceSequence(FIXED, 1).next(new byte[16]));
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.ysdaeth.jmodularcrypt.core.encryptor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class RandomSourceTest {
+
+    @Test
+    void of_shouldReturnSharedSource(){
+        for(RandomSource.Mode mode : RandomSource.Mode.values()){
+            Assertions.assertSame(RandomSource.of(mode), RandomSource.of(mode), mode.name());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, ()->RandomSource.of((RandomSource.Mode) null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()->RandomSource.of((SecureRandom) null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSource.Mode.class)
+    void nextBytes_shouldNotRepeatAcrossThreads(RandomSource.Mode mode) throws Exception{
+        RandomSource random = RandomSource.of(mode);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try{
+            Set<String> ivs = new HashSet<>();
+            Future<?>[] futures = new Future<?>[8];
+            for(int i = 0; i < futures.length; i++){
+                futures[i] = executor.submit(() -> {
+                    for(int j = 0; j < 100; j++){
+                        byte[] iv = new byte[12];
+                        random.nextBytes(iv);
+                        synchronized (ivs){
+                            Assertions.assertTrue(ivs.add(Arrays.toString(iv)), "Repeated bytes for: " + mode);
+                        }
+                    }
+                });
+            }
+            for(Future<?> future : futures) future.get();
+        }finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void nextBytes_shouldUseSuppliedRandom(){
+        SecureRandom supplied = new SecureRandom(){
+            @Override
+            public void nextBytes(byte[] bytes) {
+                Arrays.fill(bytes, (byte) 7);
+            }
+        };
+        byte[] bytes = new byte[12];
+        RandomSource.of(supplied).nextBytes(bytes);
+        byte[] expected = new byte[12];
+        Arrays.fill(expected, (byte) 7);
+        Assertions.assertArrayEquals(expected, bytes);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.ysdaeth.jmodularcrypt.core.mac;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class BaseHMacTest {
+
+    private static final SecretKey secretKey = new SecretKeySpec(
+            "seCre7 key of hmac !#%$".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    private static final byte[] message = "message 😺".getBytes(StandardCharsets.UTF_8);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"HmacSHA256", "HmacSHA384", "HmacSHA512"})
+    void sign_shouldEqualSignWithKey(String algorithm){
+        BaseHMac bound = new BaseHMac(algorithm, secretKey);
+        BaseHMac unbound = new BaseHMac(algorithm);
+        Assertions.assertArrayEquals(unbound.sign(message, secretKey), bound.sign(message),
+                "Sign of bound HMac differs for: " + algorithm);
+        Assertions.assertEquals(unbound.length(), bound.length());
+    }
+
+    @Test
+    void sign_shouldBeRepeatable(){
+        BaseHMac hMac = new BaseHMac("HmacSHA256", secretKey);
+        byte[] first = hMac.sign(message);
+        hMac.sign(new byte[1024]);
+        Assertions.assertArrayEquals(first, hMac.sign(message), "Mac state was not reset after sign");
+    }
+
+    @Test
+    void verify_shouldMatchSign(){
+        BaseHMac hMac = new BaseHMac("HmacSHA256", secretKey);
+        byte[] sign = hMac.sign(message);
+        Assertions.assertTrue(hMac.verify(message, sign));
+        sign[0] ^= 1;
+        Assertions.assertFalse(hMac.verify(message, sign));
+    }
+
+    @Test
+    void sign_shouldBeEqualAcrossThreads() throws Exception{
+        BaseHMac hMac = new BaseHMac("HmacSHA256", secretKey);
+        byte[] expected = hMac.sign(message);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try{
+            Future<?>[] futures = new Future<?>[8];
+            for(int i = 0; i < futures.length; i++){
+                futures[i] = executor.submit(() -> {
+                    for(int j = 0; j < 100; j++){
+                        Assertions.assertArrayEquals(expected, hMac.sign(message));
+                    }
+                });
+            }
+            for(Future<?> future : futures) future.get();
+        }finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void sign_shouldThrowWhenNotBoundToKey(){
+        BaseHMac hMac = new BaseHMac("HmacSHA256");
+        Assertions.assertThrows(IllegalStateException.class, () -> hMac.sign(message));
+    }
+
+    @Test
+    void constructor_shouldThrowWhenKeyIsNull(){
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BaseHMac("HmacSHA256", null));
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.ysdaeth.jmodularcrypt.impl;
+
+import io.github.ysdaeth.jmodularcrypt.core.serializer.GeneratedSerializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.module.ModuleDescriptor;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Serializers generated by the annotation processor are registered in {@code META-INF/services} for the class path,
+ * and must be listed by hand in {@code provides} of module-info for the module path.
+ */
+class GeneratedSerializerServicesTest {
+
+    private static final String SERVICES = "META-INF/services/" + GeneratedSerializer.class.getName();
+
+    @Test
+    void moduleInfo_shouldProvideEveryGeneratedSerializer() throws IOException {
+        Module module = GeneratedSerializerServicesTest.class.getModule();
+        Assertions.assertTrue(module.isNamed(), "Tests must run on the module path");
+
+        Set<String> provided = module.getDescriptor().provides().stream()
+                .filter(provides -> provides.service().equals(GeneratedSerializer.class.getName()))
+                .map(ModuleDescriptor.Provides::providers)
+                .flatMap(List::stream)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        Assertions.assertFalse(provided.isEmpty());
+        Assertions.assertEquals(registered(module), provided,
+                "module-info provides must list the same serializers as " + SERVICES);
+    }
+
+    private static Set<String> registered(Module module) throws IOException {
+        try(InputStream services = module.getResourceAsStream(SERVICES)){
+            Assertions.assertNotNull(services, SERVICES + " was not generated");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(services, StandardCharsets.UTF_8));
+            return reader.lines()
+                    .map(String::strip)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        }
+    }
+}
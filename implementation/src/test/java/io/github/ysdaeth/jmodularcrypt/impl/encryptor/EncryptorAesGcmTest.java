@@ -1,6 +1,10 @@
 package io.github.ysdaeth.jmodularcrypt.impl.encryptor;
 
 import io.github.ysdaeth.jmodularcrypt.api.Encryptor;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.CipherPool;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.GcmNonceSequence;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.RandomSource;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -126,11 +130,50 @@ class EncryptorAesGcmTest {
         });
     }
 
+    @ParameterizedTest
+    @MethodSource("provider")
+    void decrypt_shouldRejectForeignIdentifierBeforeDecodingModules(Encryptor encryptor) throws Exception{
+        String foreign = "$RSA-OAEP$v=1$not-params$not*base64";
+
+        Assertions.assertThrows(IncorrectAlgorithmException.class,()->{
+            encryptor.decrypt(foreign, keyGen());
+        });
+    }
 
+    @Test
+    void encrypt_shouldThrowWhenNonceSequenceIsExhausted() throws Exception{
+        GcmNonceSequence nonces = new GcmNonceSequence(2);
+        EncryptorAesGcm encryptor = new EncryptorAesGcm(nonces);
+        SecretKey secretKey = keyGen();
+        String first = encryptor.encrypt(secretBytes(), secretKey);
+        String second = encryptor.encrypt(secretBytes(), secretKey);
+
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertArrayEquals(secretBytes(), encryptor.decrypt(second, secretKey));
+        Assertions.assertTrue(nonces.isExhausted());
+        Assertions.assertThrows(IllegalStateException.class, ()->encryptor.encrypt(secretBytes(), secretKey));
+    }
+
+    @Test
+    void constructor_shouldRejectNullCipherPoolMode(){
+        Assertions.assertThrows(IllegalArgumentException.class, ()->new EncryptorAesGcm((CipherPool.Mode) null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->new EncryptorAesGcm(RandomSource.of(RandomSource.Mode.SHARED), null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()->new EncryptorAesGcm(new GcmNonceSequence(), null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->new EncryptorAesGcm((RandomSource) null, CipherPool.Mode.SHARED));
+    }
 
     public static Stream<EncryptorAesGcm> provider() throws Exception{
         return Stream.of(
-                new EncryptorAesGcm()
+                new EncryptorAesGcm(),
+                new EncryptorAesGcm(RandomSource.of(RandomSource.Mode.NONE)),
+                new EncryptorAesGcm(RandomSource.of(RandomSource.Mode.THREAD_LOCAL)),
+                new EncryptorAesGcm(RandomSource.of(new SecureRandom())),
+                new EncryptorAesGcm(new GcmNonceSequence()),
+                new EncryptorAesGcm(CipherPool.Mode.SHARED),
+                new EncryptorAesGcm(RandomSource.of(RandomSource.Mode.THREAD_LOCAL), CipherPool.Mode.THREAD_LOCAL),
+                new EncryptorAesGcm(new GcmNonceSequence(), CipherPool.Mode.SHARED)
         );
     }
 
@@ -0,0 +1,54 @@
+package io.github.ysdaeth.jmodularcrypt.impl.encryptor;
+
+import io.github.ysdaeth.jmodularcrypt.api.EncryptorRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+
+class EncryptorRegistryTest {
+
+    private final EncryptorAesGcm aesGcm = new EncryptorAesGcm();
+    private final EncryptorRsaOaep rsaOaep = new EncryptorRsaOaep();
+    private final EncryptorRsaOaepAesGcm rsaAesGcm = new EncryptorRsaOaepAesGcm();
+    private final EncryptorRegistry registry = new EncryptorRegistry(aesGcm, rsaOaep, rsaAesGcm);
+
+    @Test
+    void find_shouldReturnEncryptorThatProducedValue() throws Exception{
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(256);
+        SecretKey secretKey = keyGenerator.generateKey();
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        byte[] secret = new byte[]{1,2,3};
+
+        String aes = aesGcm.encrypt(secret, secretKey);
+        String rsa = rsaOaep.encrypt(secret, keyPair.getPublic());
+        String hybrid = rsaAesGcm.encrypt(secret, keyPair.getPublic());
+
+        Assertions.assertSame(aesGcm, registry.find(aes).orElseThrow());
+        Assertions.assertSame(rsaOaep, registry.find(rsa).orElseThrow());
+        Assertions.assertSame(rsaAesGcm, registry.find(hybrid).orElseThrow());
+        Assertions.assertArrayEquals(secret, registry.decrypt(aes, secretKey));
+        Assertions.assertArrayEquals(secret, registry.decrypt(hybrid, keyPair.getPrivate()));
+    }
+
+    @Test
+    void find_shouldReturnEmptyForUnknownIdentifierOrVersion(){
+        for(String value : new String[]{"", "$", "$AES-GCM", "$AES-GCM$v=2$iv=AA$AA", "$AES$v=1$AA", "AES-GCM$v=10"}){
+            Assertions.assertTrue(registry.find(value).isEmpty(), value);
+        }
+        Assertions.assertSame(aesGcm, registry.find("$AES-GCM$v=1").orElseThrow());
+        Assertions.assertThrows(IllegalArgumentException.class, ()->registry.decrypt("$AES$v=1$AA", null));
+    }
+
+    @Test
+    void constructor_shouldRejectDuplicatedIdentifierAndVersion(){
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->new EncryptorRegistry(aesGcm, new EncryptorAesGcm()));
+    }
+}
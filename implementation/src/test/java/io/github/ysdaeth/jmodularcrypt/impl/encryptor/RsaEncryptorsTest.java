@@ -1,7 +1,9 @@
 package io.github.ysdaeth.jmodularcrypt.impl.encryptor;
 
 import io.github.ysdaeth.jmodularcrypt.api.Encryptor;
+import io.github.ysdaeth.jmodularcrypt.core.encryptor.CipherPool;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -117,11 +119,20 @@ public class RsaEncryptorsTest {
         });
     }
 
+    @Test
+    void constructor_shouldRejectNullCipherPoolMode(){
+        Assertions.assertThrows(IllegalArgumentException.class, ()->new EncryptorRsaOaep(null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()->new EncryptorRsaOaepAesGcm((CipherPool.Mode) null));
+    }
 
     public static Stream<Encryptor> provider(){
         return Stream.of(
                 new EncryptorRsaOaep(),
-                new EncryptorRsaOaepAesGcm()
+                new EncryptorRsaOaepAesGcm(),
+                new EncryptorRsaOaep(CipherPool.Mode.SHARED),
+                new EncryptorRsaOaep(CipherPool.Mode.THREAD_LOCAL),
+                new EncryptorRsaOaepAesGcm(CipherPool.Mode.SHARED),
+                new EncryptorRsaOaepAesGcm(CipherPool.Mode.THREAD_LOCAL)
         );
     }
 
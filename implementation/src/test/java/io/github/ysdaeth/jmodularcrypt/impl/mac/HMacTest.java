@@ -1,6 +1,9 @@
 package io.github.ysdaeth.jmodularcrypt.impl.mac;
 
+import io.github.ysdaeth.jmodularcrypt.api.MacRegistry;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerType;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -39,6 +42,65 @@ class HMacTest {
         Assertions.assertFalse(isValid,"Verify returned true for different key");
     }
 
+    @Test
+    void registry_shouldVerifyWithMacThatProducedSign() throws Exception{
+        AbstractHMac[] macs = provider().toArray(AbstractHMac[]::new);
+        MacRegistry registry = new MacRegistry(macs);
+        byte[] message = new byte[]{1,2,3,4,5,6};
+        for(AbstractHMac mac : macs){
+            String sign = mac.sign(message);
+            Assertions.assertSame(mac, registry.find(sign).orElseThrow());
+            Assertions.assertTrue(registry.verify(sign, message));
+        }
+        Assertions.assertFalse(registry.verify("$HMAC-MD5$v=1$00", message));
+    }
+
+    @Test
+    void radix64_shouldWriteShorterSignAndVerifyHexSign() throws Exception{
+        SecretKey key = KeyGenerator.getInstance("HmacSHA256").generateKey();
+        AbstractHMac hex = new HMacSha256(key);
+        AbstractHMac radix64 = new HMacSha256(key, SerializerType.MCF_RADIX64);
+        byte[] message = new byte[]{1,2,3,4,5,6};
+        String hexSign = hex.sign(message);
+        String radix64Sign = radix64.sign(message);
+
+        Assertions.assertEquals("$HMAC-SHA256$v=1$".length() + 64, hexSign.length());
+        Assertions.assertEquals("$HMAC-SHA256$v=1$".length() + 43, radix64Sign.length());
+        Assertions.assertTrue(radix64.verify(radix64Sign, message));
+        Assertions.assertTrue(radix64.verify(hexSign, message));
+        Assertions.assertFalse(radix64.verify(hexSign, new byte[]{1}));
+        Assertions.assertThrows(IllegalArgumentException.class, ()->new HMacSha256(key, SerializerType.MCF_PARAMETER));
+    }
+
+    @Test
+    void verify_shouldMatchSignCharactersInPlace() throws Exception{
+        SecretKey key = KeyGenerator.getInstance("HmacSHA256").generateKey();
+        AbstractHMac hex = new HMacSha256(key);
+        AbstractHMac base64 = new HMacSha256(key, SerializerType.MCF_BASE64);
+        byte[] message = new byte[]{1,2,3,4,5,6};
+        String hexSign = hex.sign(message);
+        String base64Sign = base64.sign(message);
+        String prefix = "$HMAC-SHA256$v=1$";
+        String digits = hexSign.substring(prefix.length());
+
+        Assertions.assertTrue(base64.verify(base64Sign, message));
+        Assertions.assertTrue(base64.verify(hexSign, message));
+        Assertions.assertTrue(hex.verify(prefix + digits.toUpperCase(), message));
+        Assertions.assertFalse(hex.verify("$HMAC-SHA384$v=1$" + digits, message));
+        Assertions.assertFalse(hex.verify("$HMAC-SHA256$v=2$" + digits, message));
+        Assertions.assertFalse(hex.verify(hexSign.substring(0, hexSign.length() - 2), message));
+        Assertions.assertFalse(hex.verify(hexSign + "00", message));
+        Assertions.assertFalse(hex.verify(base64Sign, message));
+
+        char[] tampered = hexSign.toCharArray();
+        tampered[tampered.length - 1] = tampered[tampered.length - 1] == '0' ? '1' : '0';
+        Assertions.assertFalse(hex.verify(new String(tampered), message));
+        // Characters below '0' must not fold to digits
+        String folded = digits.replace('0', (char) 0x10).replace('1', (char) 0x11);
+        Assertions.assertFalse(digits.equals(folded) || hex.verify(prefix + folded, message));
+        Assertions.assertThrows(IllegalArgumentException.class, ()->new HMacSha256(key, SerializerType.BINARY));
+    }
+
     static Stream<AbstractHMac> provider() throws Exception{
         SecretKey sk256 = KeyGenerator.getInstance("HmacSHA256").generateKey();
         SecretKey sk384 = KeyGenerator.getInstance("HmacSHA384").generateKey();
@@ -0,0 +1,13 @@
+package io.github.ysdaeth.jmodularcrypt.processor;
+
+/**
+ * Compile time metadata of a field annotated with {@code @Module}
+ * @param order module order
+ * @param name field name
+ * @param type erased field type as it is written in the source code
+ * @param isPrivate true when field is private
+ * @param isFinal true when field is final
+ * @param constant constant of the module, or null when module is not constant
+ */
+record ModuleField(int order, String name, String type, boolean isPrivate, boolean isFinal, String constant) {
+}
@@ -0,0 +1,310 @@
+package io.github.ysdaeth.jmodularcrypt.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates reflection free serializers for classes which fields are annotated
+ * with {@code @Module}. For every such class it generates a {@code GeneratedSerializer} implementation
+ * in the same package, and registers it in {@code META-INF/services}, so
+ * {@code ConfigurableSerializer} uses it instead of scanning the class with java reflections.
+ * <p>Generated serializer follows the same rules as reflection based serializer:</p>
+ * <ul>
+ *     <li>Modules order must start with 0, be unique and must not skip values</li>
+ *     <li>Public constructor annotated with {@code @SerializerCreator} takes modules values
+ *     in the modules order</li>
+ *     <li>Otherwise public no args constructor is used and modules are assigned to the fields</li>
+ * </ul>
+ * Generated code accesses fields directly, so the class, its fields and constructor must not be private.
+ * Record components are read with accessor methods. When a class cannot be accessed from its package,
+ * then serializer is not generated and {@code ConfigurableSerializer} falls back to reflections.
+ * Named modules must declare generated serializers with {@code provides ... with ...} clause.
+ */
+public class SerializerProcessor extends AbstractProcessor {
+    static final String MODULE = "io.github.ysdaeth.jmodularcrypt.core.annotations.Module";
+    static final String SERIALIZER_CREATOR = "io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator";
+    static final String GENERATED_SERIALIZER = "io.github.ysdaeth.jmodularcrypt.core.serializer.GeneratedSerializer";
+    static final String SUFFIX = "_GeneratedSerializer";
+
+    private final Set<String> generated = new LinkedHashSet<>();
+    private Messager messager;
+    private Filer filer;
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        messager = processingEnv.getMessager();
+        filer = processingEnv.getFiler();
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(MODULE, SERIALIZER_CREATOR);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement module = elements.getTypeElement(MODULE);
+        if(module != null){
+            Set<TypeElement> classes = new LinkedHashSet<>();
+            for(Element element : roundEnv.getElementsAnnotatedWith(module)){
+                Element enclosing = element.getEnclosingElement();
+                if(enclosing instanceof TypeElement typeElement) classes.add(typeElement);
+            }
+            classes.forEach(this::generate);
+        }
+        if(roundEnv.processingOver() && !generated.isEmpty()){
+            writeServices();
+        }
+        return false;
+    }
+
+    /**
+     * Generate serializer for specified class, when class rules are satisfied
+     * @param type class which fields are annotated with {@code @Module}
+     */
+    private void generate(TypeElement type){
+        List<ModuleField> modules = modules(type);
+        if(modules == null) return;
+
+        Optional<String> inaccessible = inaccessible(type, modules);
+        if(inaccessible.isPresent()){
+            messager.printMessage(Diagnostic.Kind.NOTE,
+                    "Serializer is not generated, reflections will be used. " + inaccessible.get(), type);
+            return;
+        }
+
+        List<ExecutableElement> creators = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(c -> hasAnnotation(c, SERIALIZER_CREATOR))
+                .toList();
+        if(creators.size() > 1){
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "There is more than one @SerializerCreator annotated constructor in class: " + type, type);
+            return;
+        }
+        boolean argsConstructor = !creators.isEmpty();
+        String problem = argsConstructor
+                ? validateArgsConstructor(creators.get(0), modules)
+                : validateNoArgsConstructor(type, modules);
+        if(problem != null){
+            messager.printMessage(Diagnostic.Kind.NOTE,
+                    "Serializer is not generated, reflections will be used. " + problem, type);
+            return;
+        }
+
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String simpleName = generatedName(type);
+        String source = new SerializerSource(
+                packageName, simpleName, type.getQualifiedName().toString(),
+                type.getKind() == ElementKind.RECORD, modules, argsConstructor).toString();
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        try(Writer writer = filer.createSourceFile(qualifiedName, type).openWriter()){
+            writer.write(source);
+        }catch (IOException e){
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write generated serializer: " + e.getMessage(), type);
+            return;
+        }
+        generated.add(qualifiedName);
+    }
+
+    /**
+     * Read fields annotated with {@code @Module} and validate their order.
+     * @param type class with annotated fields
+     * @return modules sorted by order or null when order is invalid
+     */
+    private List<ModuleField> modules(TypeElement type){
+        List<ModuleField> modules = new ArrayList<>();
+        for(VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())){
+            Optional<Integer> order = moduleValue(field, "order").map(Integer.class::cast);
+            if(order.isEmpty()) continue;
+            if(order.get() < 0){
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Module order must be positive, but was" + order.get(), field);
+                return null;
+            }
+            String fieldType = types.erasure(field.asType()).toString();
+            String constant = moduleValue(field, "constant").map(String.class::cast)
+                    .filter(c -> !c.isEmpty()).orElse(null);
+            if(constant != null && !fieldType.equals("java.lang.String")){
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Constant module must be a String, but was " + fieldType, field);
+                return null;
+            }
+            modules.add(new ModuleField(order.get(), field.getSimpleName().toString(), fieldType,
+                    field.getModifiers().contains(Modifier.PRIVATE),
+                    field.getModifiers().contains(Modifier.FINAL),
+                    constant));
+        }
+        modules.sort(Comparator.comparingInt(ModuleField::order));
+        for(int i = 0; i < modules.size(); i++){
+            int order = modules.get(i).order();
+            if(order != i){
+                String message = i > 0 && order == modules.get(i - 1).order()
+                        ? "MCF module order collision detected. Two or more modules have the same order: " + order
+                        : String.format("Module order has skipped value. Expected order: %d but %d was found", i, order);
+                messager.printMessage(Diagnostic.Kind.ERROR, message, type);
+                return null;
+            }
+        }
+        return modules;
+    }
+
+    /**
+     * Check if generated class in the same package can access the class and its modules
+     * @param type class with annotated fields
+     * @param modules modules of the class
+     * @return description of the problem or empty when class is accessible
+     */
+    private Optional<String> inaccessible(TypeElement type, List<ModuleField> modules){
+        for(Element e = type; e instanceof TypeElement nested; e = e.getEnclosingElement()){
+            if(nested.getModifiers().contains(Modifier.PRIVATE)){
+                return Optional.of("Class must not be private: " + nested);
+            }
+            if(nested.getNestingKind().isNested() && nested.getKind() == ElementKind.CLASS
+                    && !nested.getModifiers().contains(Modifier.STATIC)){
+                return Optional.of("Inner class must be static: " + nested);
+            }
+        }
+        if(type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()){
+            return Optional.of("Class must not be abstract or generic: " + type);
+        }
+        boolean isRecord = type.getKind() == ElementKind.RECORD;
+        for(ModuleField module : modules){
+            if(module.isPrivate() && !isRecord){
+                return Optional.of("Module field must not be private: " + module.name());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Validate that constructor annotated with {@code @SerializerCreator} takes modules in order.
+     * @return description of the problem or null when constructor is valid
+     */
+    private String validateArgsConstructor(ExecutableElement constructor, List<ModuleField> modules){
+        if(!constructor.getModifiers().contains(Modifier.PUBLIC)){
+            return "Constructor annotated with @SerializerCreator must be public";
+        }
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        if(parameters.size() != modules.size()){
+            return "Constructor annotated with @SerializerCreator must take all modules as parameters";
+        }
+        for(int i = 0; i < parameters.size(); i++){
+            String parameterType = types.erasure(parameters.get(i).asType()).toString();
+            if(!parameterType.equals(modules.get(i).type())){
+                return "Constructor parameters must be in the same order as modules order";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Validate that class has public no args constructor and modules fields are writable.
+     * @return description of the problem or null when class is valid
+     */
+    private String validateNoArgsConstructor(TypeElement type, List<ModuleField> modules){
+        boolean noArgs = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+        if(!noArgs){
+            return "Annotated args constructor, or no args constructor must be declared in the class: " + type;
+        }
+        for(ModuleField module : modules){
+            if(module.isFinal()) return "Module field is final and there is no @SerializerCreator constructor: "
+                    + module.name();
+        }
+        return null;
+    }
+
+    /**
+     * Name of generated serializer, enclosing class names are joined with '_' sign
+     */
+    private static String generatedName(TypeElement type){
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for(Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()){
+            name.insert(0, '_').insert(0, e.getSimpleName());
+        }
+        return name.append(SUFFIX).toString();
+    }
+
+    /**
+     * Return explicitly declared value of {@code @Module} annotation element
+     * @param element annotated element
+     * @param name name of the annotation element
+     * @return value, or empty when element is not annotated or value is not declared
+     */
+    private static Optional<Object> moduleValue(Element element, String name){
+        for(AnnotationMirror mirror : element.getAnnotationMirrors()){
+            if(!MODULE.equals(annotationName(mirror))) continue;
+            for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : mirror.getElementValues().entrySet()){
+                if(entry.getKey().getSimpleName().contentEquals(name)){
+                    return Optional.of(entry.getValue().getValue());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation){
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(mirror -> annotation.equals(annotationName(mirror)));
+    }
+
+    private static String annotationName(AnnotationMirror mirror){
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Register generated serializers as {@code GeneratedSerializer} services for the class path.
+     */
+    private void writeServices(){
+        try{
+            FileObject file = filer.createResource(
+                    StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + GENERATED_SERIALIZER);
+            try(Writer writer = file.openWriter()){
+                for(String name : generated){
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        }catch (IOException e){
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to register generated serializers: " + e.getMessage());
+        }
+    }
+}
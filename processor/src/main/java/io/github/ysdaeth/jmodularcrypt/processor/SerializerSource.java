@@ -0,0 +1,137 @@
+package io.github.ysdaeth.jmodularcrypt.processor;
+
+import java.util.List;
+
+/**
+ * Source code of a generated serializer. Modules are read and assigned with straight-line code,
+ * and instance is created with a direct constructor call.
+ */
+final class SerializerSource {
+    private final String packageName;
+    private final String simpleName;
+    private final String type;
+    private final boolean isRecord;
+    private final List<ModuleField> modules;
+    private final boolean argsConstructor;
+
+    /**
+     * @param packageName package of the serialized class
+     * @param simpleName name of generated serializer
+     * @param type canonical name of the serialized class
+     * @param isRecord true when serialized class is a record
+     * @param modules modules sorted by order
+     * @param argsConstructor true when constructor takes modules values as parameters
+     */
+    SerializerSource(String packageName, String simpleName, String type, boolean isRecord,
+                     List<ModuleField> modules, boolean argsConstructor) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.type = type;
+        this.isRecord = isRecord;
+        this.modules = modules;
+        this.argsConstructor = argsConstructor;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder source = new StringBuilder();
+        if(!packageName.isEmpty()){
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Serializer of ").append(type).append(" generated at compile time. Do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName).append('\n')
+                .append("        implements ").append(SerializerProcessor.GENERATED_SERIALIZER)
+                .append('<').append(type).append("> {\n\n");
+
+        source.append("    private static final String[] NAMES = {");
+        for(int i = 0; i < modules.size(); i++){
+            if(i > 0) source.append(", ");
+            source.append('"').append(modules.get(i).name()).append('"');
+        }
+        source.append("};\n");
+        source.append("    private static final Class<?>[] TYPES = {");
+        for(int i = 0; i < modules.size(); i++){
+            if(i > 0) source.append(", ");
+            source.append(modules.get(i).type()).append(".class");
+        }
+        source.append("};\n");
+        source.append("    private static final String[] CONSTANTS = {");
+        for(int i = 0; i < modules.size(); i++){
+            if(i > 0) source.append(", ");
+            appendLiteral(source, modules.get(i).constant());
+        }
+        source.append("};\n\n");
+
+        source.append("    @Override\n")
+                .append("    public Class<").append(type).append("> type() {\n")
+                .append("        return ").append(type).append(".class;\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public String[] names() {\n")
+                .append("        return NAMES.clone();\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public Class<?>[] types() {\n")
+                .append("        return TYPES.clone();\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public String[] constants() {\n")
+                .append("        return CONSTANTS.clone();\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public Object[] read(").append(type).append(" object) {\n")
+                .append("        return new Object[]{\n");
+        for(int i = 0; i < modules.size(); i++){
+            ModuleField module = modules.get(i);
+            source.append("                object.").append(module.name()).append(isRecord ? "()" : "")
+                    .append(i < modules.size() - 1 ? ",\n" : "\n");
+        }
+        source.append("        };\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public ").append(type).append(" create(Object[] values) {\n");
+        if(argsConstructor){
+            source.append("        return new ").append(type).append("(\n");
+            for(int i = 0; i < modules.size(); i++){
+                source.append("                (").append(modules.get(i).type()).append(") values[").append(i).append(']')
+                        .append(i < modules.size() - 1 ? ",\n" : "\n");
+            }
+            source.append("        );\n");
+        }else{
+            source.append("        ").append(type).append(" object = new ").append(type).append("();\n");
+            for(int i = 0; i < modules.size(); i++){
+                ModuleField module = modules.get(i);
+                source.append("        object.").append(module.name())
+                        .append(" = (").append(module.type()).append(") values[").append(i).append("];\n");
+            }
+            source.append("        return object;\n");
+        }
+        source.append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Append Java string literal of the value, characters out of printable ASCII range are unicode escaped
+     * @param source source code
+     * @param value string value, or null
+     */
+    private static void appendLiteral(StringBuilder source, String value){
+        if(value == null){
+            source.append("null");
+            return;
+        }
+        source.append('"');
+        for(int i = 0; i < value.length(); i++){
+            char c = value.charAt(i);
+            if(c == '"' || c == '\\') source.append('\\').append(c);
+            else if(c < 0x20 || c > 0x7e) source.append(String.format("\\u%04x", (int) c));
+            else source.append(c);
+        }
+        source.append('"');
+    }
+}
@@ -0,0 +1,228 @@
+package io.github.ysdaeth.jmodularcrypt.processor;
+
+import io.github.ysdaeth.jmodularcrypt.core.serializer.GeneratedSerializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.Serializer;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerFactory;
+import io.github.ysdaeth.jmodularcrypt.core.serializer.factory.SerializerType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+class SerializerProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void process_shouldGenerateConstructorSerializer() throws Exception{
+        String source = """
+                package sample;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+                public class Outer {
+                    static final class Model {
+                        @Module(order = 1) final byte[] bytes;
+                        @Module(order = 0) final String name;
+                        @SerializerCreator
+                        public Model(String name, byte[] bytes){
+                            this.name = name;
+                            this.bytes = bytes;
+                        }
+                    }
+                }
+                """;
+        Assertions.assertTrue(compile("sample.Outer", source).isEmpty());
+
+        GeneratedSerializer<Object> serializer = load("sample.Outer_Model_GeneratedSerializer");
+        Object model = serializer.create(new Object[]{"Jeff", new byte[]{1,2,3}});
+        Object[] values = serializer.read(model);
+
+        Assertions.assertArrayEquals(new String[]{"name", "bytes"}, serializer.names());
+        Assertions.assertArrayEquals(new Class<?>[]{String.class, byte[].class}, serializer.types());
+        Assertions.assertEquals("Jeff", values[0]);
+        Assertions.assertTrue(Arrays.equals(new byte[]{1,2,3}, (byte[]) values[1]));
+    }
+
+    @Test
+    void process_shouldGenerateFieldsSerializer() throws Exception{
+        String source = """
+                package sample;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+                public class Fields {
+                    @Module(order = 0) int count;
+                    @Module(order = 1) String name;
+                    public Fields(){}
+                }
+                """;
+        Assertions.assertTrue(compile("sample.Fields", source).isEmpty());
+
+        GeneratedSerializer<Object> serializer = load("sample.Fields_GeneratedSerializer");
+        Object[] values = serializer.read(serializer.create(new Object[]{7, "Jeff"}));
+
+        Assertions.assertArrayEquals(new Object[]{7, "Jeff"}, values);
+    }
+
+    @Test
+    void process_shouldGenerateConstants() throws Exception{
+        String source = """
+                package sample;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+                public class Constant {
+                    @Module(order = 0, constant = "ID-\\"\\u00e9") final String identifier;
+                    @Module(order = 1) final String name;
+                    @SerializerCreator
+                    public Constant(String identifier, String name){
+                        this.identifier = identifier;
+                        this.name = name;
+                    }
+                }
+                """;
+        Assertions.assertTrue(compile("sample.Constant", source).isEmpty());
+
+        GeneratedSerializer<Object> serializer = load("sample.Constant_GeneratedSerializer");
+        Assertions.assertArrayEquals(new String[]{"ID-\"\u00e9", null}, serializer.constants());
+    }
+
+    @Test
+    void process_shouldReportNonStringConstant(){
+        String source = """
+                package sample;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+                public class NumberConstant {
+                    @Module(order = 0, constant = "1") int number;
+                    public NumberConstant(){}
+                }
+                """;
+        List<Diagnostic<? extends JavaFileObject>> errors = compile("sample.NumberConstant", source);
+        Assertions.assertEquals(1, errors.size());
+    }
+
+    @Test
+    void serializer_shouldUseGeneratedSerializerOfLaterClassLoader() throws Exception{
+        String source = """
+                package sample;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+                public class Later {
+                    @Module(order = 0, constant = "LATER") final String identifier;
+                    @Module(order = 1) final String name;
+                    @SerializerCreator
+                    public Later(String identifier, String name){
+                        this.identifier = identifier;
+                        this.name = name;
+                    }
+                }
+                """;
+        Assertions.assertTrue(compile("sample.Later", source).isEmpty());
+        URLClassLoader loader = new URLClassLoader(
+                new java.net.URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+        Class<?> type = loader.loadClass("sample.Later");
+        Object model = type.getConstructor(String.class, String.class).newInstance("LATER", "Jeff");
+        Serializer serializer = SerializerFactory.getInstance(SerializerType.MCF_BASE64);
+
+        String serialized = serializer.serialize(model);
+        Object deserialized = serializer.deserialize(serialized, type);
+
+        Assertions.assertEquals("$LATER$Jeff", serialized);
+        Assertions.assertEquals(serialized, serializer.serialize(deserialized));
+    }
+
+    @Test
+    void process_shouldRegisterService() throws Exception{
+        String source = """
+                package sample;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+                public record Named(@Module(order = 0) String name) {
+                    @SerializerCreator
+                    public Named{}
+                }
+                """;
+        Assertions.assertTrue(compile("sample.Named", source).isEmpty());
+
+        Path services = output.resolve("META-INF/services/" + SerializerProcessor.GENERATED_SERIALIZER);
+        Assertions.assertEquals(List.of("sample.Named_GeneratedSerializer"), Files.readAllLines(services));
+    }
+
+    @Test
+    void process_shouldSkipPrivateClass() throws Exception{
+        String source = """
+                package sample;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+                public class Hidden {
+                    private static final class Model {
+                        @Module(order = 0) String name;
+                        public Model(){}
+                    }
+                }
+                """;
+        Assertions.assertTrue(compile("sample.Hidden", source).isEmpty());
+        Assertions.assertFalse(Files.exists(output.resolve("sample/Hidden_Model_GeneratedSerializer.class")));
+    }
+
+    @Test
+    void process_shouldReportOrderCollision(){
+        String source = """
+                package sample;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.Module;
+                import io.github.ysdaeth.jmodularcrypt.core.annotations.SerializerCreator;
+                public class Collision {
+                    @Module(order = 0) String first;
+                    @Module(order = 0) String second;
+                    public Collision(){}
+                }
+                """;
+        List<Diagnostic<? extends JavaFileObject>> errors = compile("sample.Collision", source);
+        Assertions.assertEquals(1, errors.size());
+    }
+
+    /**
+     * Compile source with the processor
+     * @return compilation errors
+     */
+    private List<Diagnostic<? extends JavaFileObject>> compile(String className, String source){
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject file = new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        List<String> options = List.of(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", output.toString(),
+                "-s", output.toString());
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null, null, diagnostics, options, null, List.of(file));
+        task.setProcessors(List.of(new SerializerProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private GeneratedSerializer<Object> load(String className) throws Exception{
+        URLClassLoader loader = new URLClassLoader(
+                new java.net.URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+        return (GeneratedSerializer<Object>) loader.loadClass(className).getConstructor().newInstance();
+    }
+}
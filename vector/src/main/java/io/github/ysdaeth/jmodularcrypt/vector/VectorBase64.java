@@ -0,0 +1,106 @@
+package io.github.ysdaeth.jmodularcrypt.vector;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Base64 kernels vectorized with {@code jdk.incubator.vector}. Each long lane holds one quantum
+ * of three bytes, and four sextets of the quantum in 16 bit slots, which are reinterpreted as four characters.
+ * Kernels process only whole vectors of quanta, and return number of processed bytes or characters,
+ * so the remaining quanta and padding are processed with the scalar codec.
+ * Decoded vectors are stored whole, and bytes after the decoded quanta are overwritten by the next vector,
+ * so stores are done only while whole vector fits before the end of output region.
+ * Class must be loaded only when {@code jdk.incubator.vector} module is available.
+ */
+final class VectorBase64 {
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+    /**
+     * Moves bytes of each quantum to the lowest bytes of its long lane, in little endian order
+     */
+    private static final VectorShuffle<Byte> SPREAD = VectorShuffle.fromOp(BYTES, lane ->
+            Math.min(3 * (lane / 8) + 2 - Math.min(lane % 8, 2), BYTES.length() - 1));
+    /**
+     * Moves three lowest bytes of each long lane next to each other, in big endian order
+     */
+    private static final VectorShuffle<Byte> GATHER = VectorShuffle.fromOp(BYTES, lane ->
+            lane < 3 * LONGS.length() ? 8 * (lane / 3) + 2 - lane % 3 : 0);
+
+    private VectorBase64(){}
+
+    /**
+     * Encode whole vectors of quanta into the target
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of bytes that may be encoded
+     * @param target array that characters are written to, with space for all bytes
+     * @param targetOffset index of the first written character
+     * @return number of encoded bytes, a multiple of three
+     */
+    static int encode(byte[] bytes, int offset, int length, char[] target, int targetOffset){
+        int step = 3 * LONGS.length();
+        int done = 0;
+        for(; done + BYTES.length() <= length; done += step){
+            LongVector quanta = ByteVector.fromArray(BYTES, bytes, offset + done)
+                    .rearrange(SPREAD).reinterpretAsLongs();
+            LongVector sextets = quanta.lanewise(VectorOperators.LSHR, 18).and(0x3fL)
+                    .or(quanta.lanewise(VectorOperators.LSHR, 12).and(0x3fL).lanewise(VectorOperators.LSHL, 16))
+                    .or(quanta.lanewise(VectorOperators.LSHR, 6).and(0x3fL).lanewise(VectorOperators.LSHL, 32))
+                    .or(quanta.and(0x3fL).lanewise(VectorOperators.LSHL, 48));
+            ShortVector values = sextets.reinterpretAsShorts();
+            ShortVector shift = ShortVector.broadcast(SHORTS, (short) 'A')
+                    .blend((short) ('a' - 26), values.compare(VectorOperators.GE, (short) 26))
+                    .blend((short) ('0' - 52), values.compare(VectorOperators.GE, (short) 52))
+                    .blend((short) ('+' - 62), values.compare(VectorOperators.EQ, (short) 62))
+                    .blend((short) ('/' - 63), values.compare(VectorOperators.EQ, (short) 63));
+            values.add(shift).intoCharArray(target, targetOffset + done / 3 * 4);
+        }
+        return done;
+    }
+
+    /**
+     * Decode whole vectors of quanta into the target
+     * @param chars base64 characters without padding
+     * @param offset index of the first character
+     * @param length number of characters that may be decoded, a multiple of four
+     * @param target array that bytes are written to
+     * @param targetOffset index of the first written byte
+     * @param targetEnd end index exclusive of the output region, that may be overwritten
+     * @return number of decoded characters, which is less than length when non base64 character is found,
+     * or when vector does not fit in the output region
+     */
+    static int decode(char[] chars, int offset, int length, byte[] target, int targetOffset, int targetEnd){
+        int step = SHORTS.length();
+        int done = 0;
+        for(; done + step <= length && targetOffset + done / 4 * 3 + BYTES.length() <= targetEnd; done += step){
+            ShortVector c = ShortVector.fromCharArray(SHORTS, chars, offset + done);
+            VectorMask<Short> upper = c.compare(VectorOperators.GE, (short) 'A')
+                    .and(c.compare(VectorOperators.LE, (short) 'Z'));
+            VectorMask<Short> lower = c.compare(VectorOperators.GE, (short) 'a')
+                    .and(c.compare(VectorOperators.LE, (short) 'z'));
+            VectorMask<Short> digit = c.compare(VectorOperators.GE, (short) '0')
+                    .and(c.compare(VectorOperators.LE, (short) '9'));
+            VectorMask<Short> plus = c.compare(VectorOperators.EQ, (short) '+');
+            VectorMask<Short> slash = c.compare(VectorOperators.EQ, (short) '/');
+            if(!upper.or(lower).or(digit).or(plus).or(slash).allTrue()) break;
+            ShortVector shift = ShortVector.broadcast(SHORTS, (short) -'A')
+                    .blend((short) (26 - 'a'), lower)
+                    .blend((short) (52 - '0'), digit)
+                    .blend((short) (62 - '+'), plus)
+                    .blend((short) (63 - '/'), slash);
+            LongVector sextets = c.add(shift).reinterpretAsLongs();
+            LongVector quanta = sextets.and(0xffffL).lanewise(VectorOperators.LSHL, 18)
+                    .or(sextets.lanewise(VectorOperators.LSHR, 16).and(0xffffL).lanewise(VectorOperators.LSHL, 12))
+                    .or(sextets.lanewise(VectorOperators.LSHR, 32).and(0xffffL).lanewise(VectorOperators.LSHL, 6))
+                    .or(sextets.lanewise(VectorOperators.LSHR, 48));
+            quanta.reinterpretAsBytes().rearrange(GATHER).intoArray(target, targetOffset + done / 4 * 3);
+        }
+        return done;
+    }
+}
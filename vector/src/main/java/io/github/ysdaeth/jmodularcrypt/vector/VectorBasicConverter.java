@@ -0,0 +1,25 @@
+package io.github.ysdaeth.jmodularcrypt.vector;
+
+import io.github.ysdaeth.jmodularcrypt.core.converter.BasicConverter;
+
+/**
+ * {@link BasicConverter} which encodes and decodes {@code byte[]} modules to base64 format with
+ * {@link VectorCodecs}. It is intended for large binary modules, such as encrypted data,
+ * and falls back to scalar codec when {@code jdk.incubator.vector} module is not available.
+ */
+public class VectorBasicConverter extends BasicConverter {
+
+    public VectorBasicConverter(){
+        register(byte[].class, String.class, VectorBasicConverter::encode,
+                base64 -> VectorCodecs.decodeBase64(base64, 0, base64.length()));
+        registerEncoder(byte[].class, (value, target) -> VectorCodecs.encodeBase64(value, 0, value.length, target));
+        registerSinkEncoder(byte[].class, (value, target) -> VectorCodecs.encodeBase64(value, 0, value.length, target));
+        registerDecoder(byte[].class, VectorCodecs::decodeBase64);
+    }
+
+    private static String encode(byte[] bytes){
+        StringBuilder base64 = new StringBuilder();
+        VectorCodecs.encodeBase64(bytes, 0, bytes.length, base64);
+        return base64.toString();
+    }
+}
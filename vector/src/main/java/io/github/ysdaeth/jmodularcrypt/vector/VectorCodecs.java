@@ -0,0 +1,274 @@
+package io.github.ysdaeth.jmodularcrypt.vector;
+
+import io.github.ysdaeth.jmodularcrypt.core.converter.Base64Codec;
+import io.github.ysdaeth.jmodularcrypt.core.converter.HexCodec;
+import io.github.ysdaeth.jmodularcrypt.core.parser.ByteSink;
+
+import java.util.Objects;
+
+/**
+ * Base64 and hexadecimal codecs vectorized with {@code jdk.incubator.vector}, with the same format
+ * and the same errors as {@link Base64Codec} and {@link HexCodec}.
+ * Vector API is an incubator module, which is resolved only with {@code --add-modules jdk.incubator.vector}.
+ * When module is not available, or values are shorter than {@link VectorCodecs#THRESHOLD},
+ * then values are converted with scalar codecs.
+ * Values are decoded with vectors from {@link String} and {@link StringBuilder}, which characters
+ * are copied in chunks to thread local scratch buffer, other character sequences are decoded with scalar codecs.
+ */
+public final class VectorCodecs {
+    /**
+     * Minimal number of bytes encoded, or characters decoded with vectors. It is 64 by default,
+     * and it can be changed with {@code jmodularcrypt.vector.threshold} system property.
+     */
+    public static final int THRESHOLD = Math.max(0, Integer.getInteger("jmodularcrypt.vector.threshold", 64));
+    private static final int SCRATCH_LENGTH = 4096;
+    private static final boolean AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[SCRATCH_LENGTH]);
+
+    private VectorCodecs(){}
+
+    /**
+     * @return true when {@code jdk.incubator.vector} module is available, and values are converted with vectors
+     */
+    public static boolean isAvailable(){
+        return AVAILABLE;
+    }
+
+    /**
+     * Append padded base64 format of range of bytes to the target
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target output that base64 format is appended to
+     * @see Base64Codec#encode(byte[], int, int, StringBuilder)
+     */
+    public static void encodeBase64(byte[] bytes, int offset, int length, StringBuilder target){
+        if(!AVAILABLE || length < THRESHOLD){
+            Base64Codec.encode(bytes, offset, length, target);
+            return;
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        target.ensureCapacity(target.length() + Base64Codec.encodedLength(length));
+        char[] scratch = SCRATCH.get();
+        int chunk = SCRATCH_LENGTH / 4 * 3;
+        for(int from = offset, end = offset + length; from < end; from += chunk){
+            int count = Math.min(chunk, end - from);
+            target.append(scratch, 0, encodeBase64(bytes, from, count, scratch, 0));
+        }
+    }
+
+    /**
+     * Write padded base64 format of range of bytes to the sink
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target output that padded base64 format is written to
+     * @see Base64Codec#encode(byte[], int, int, ByteSink)
+     */
+    public static void encodeBase64(byte[] bytes, int offset, int length, ByteSink target){
+        if(!AVAILABLE || length < THRESHOLD){
+            Base64Codec.encode(bytes, offset, length, target);
+            return;
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        char[] scratch = SCRATCH.get();
+        int chunk = SCRATCH_LENGTH / 4 * 3;
+        for(int from = offset, end = offset + length; from < end; from += chunk){
+            int count = Math.min(chunk, end - from);
+            target.append(scratch, 0, encodeBase64(bytes, from, count, scratch, 0));
+        }
+    }
+
+    /**
+     * Encode range of bytes to padded base64 format into the target array
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target array that characters are written to
+     * @param targetOffset index of the first written character
+     * @return number of written characters
+     * @see Base64Codec#encode(byte[], int, int, char[], int)
+     */
+    public static int encodeBase64(byte[] bytes, int offset, int length, char[] target, int targetOffset){
+        if(!AVAILABLE || length < THRESHOLD){
+            return Base64Codec.encode(bytes, offset, length, target, targetOffset);
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int encoded = Base64Codec.encodedLength(length);
+        Objects.checkFromIndexSize(targetOffset, encoded, target.length);
+        int done = VectorBase64.encode(bytes, offset, length, target, targetOffset);
+        Base64Codec.encode(bytes, offset + done, length - done, target, targetOffset + done / 3 * 4);
+        return encoded;
+    }
+
+    /**
+     * Decode range of characters to a new array of exact length
+     * @param source text that contains base64 encoded bytes
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return decoded bytes
+     * @see Base64Codec#decode(CharSequence, int, int)
+     */
+    public static byte[] decodeBase64(CharSequence source, int start, int end){
+        byte[] bytes = new byte[Base64Codec.decodedLength(source, start, end)];
+        decodeBase64(source, start, end, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Decode range of characters into the target array. The last quantum, which may contain padding,
+     * and all characters after the first vector with non base64 character, are decoded with the scalar codec.
+     * @param source text that contains base64 encoded bytes
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @param target array that bytes are written to
+     * @param targetOffset index of the first written byte
+     * @return number of written bytes
+     * @see Base64Codec#decode(CharSequence, int, int, byte[], int)
+     */
+    public static int decodeBase64(CharSequence source, int start, int end, byte[] target, int targetOffset){
+        if(!AVAILABLE || end - start < THRESHOLD || !hasChars(source)){
+            return Base64Codec.decode(source, start, end, target, targetOffset);
+        }
+        int decoded = Base64Codec.decodedLength(source, start, end);
+        Objects.checkFromIndexSize(targetOffset, decoded, target.length);
+        char[] scratch = SCRATCH.get();
+        int vectorEnd = start + (end - start - 4) / 4 * 4;
+        int position = start;
+        int written = targetOffset;
+        while(position < vectorEnd){
+            int count = Math.min(SCRATCH_LENGTH, vectorEnd - position);
+            getChars(source, position, position + count, scratch);
+            int done = VectorBase64.decode(scratch, 0, count, target, written, targetOffset + decoded);
+            position += done;
+            written += done / 4 * 3;
+            if(done < count) break;
+        }
+        Base64Codec.decode(source, position, end, target, written);
+        return decoded;
+    }
+
+    /**
+     * Append hexadecimal format of range of bytes to the target
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target output that hexadecimal format is appended to
+     * @see HexCodec#encode(byte[], int, int, StringBuilder)
+     */
+    public static void encodeHex(byte[] bytes, int offset, int length, StringBuilder target){
+        if(!AVAILABLE || length < THRESHOLD){
+            HexCodec.encode(bytes, offset, length, target);
+            return;
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        target.ensureCapacity(target.length() + HexCodec.encodedLength(length));
+        char[] scratch = SCRATCH.get();
+        int chunk = SCRATCH_LENGTH / 2;
+        for(int from = offset, end = offset + length; from < end; from += chunk){
+            int count = Math.min(chunk, end - from);
+            target.append(scratch, 0, encodeHex(bytes, from, count, scratch, 0));
+        }
+    }
+
+    /**
+     * Write hexadecimal format of range of bytes to the sink
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target output that hexadecimal format is written to
+     * @see HexCodec#encode(byte[], int, int, ByteSink)
+     */
+    public static void encodeHex(byte[] bytes, int offset, int length, ByteSink target){
+        if(!AVAILABLE || length < THRESHOLD){
+            HexCodec.encode(bytes, offset, length, target);
+            return;
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        char[] scratch = SCRATCH.get();
+        int chunk = SCRATCH_LENGTH / 2;
+        for(int from = offset, end = offset + length; from < end; from += chunk){
+            int count = Math.min(chunk, end - from);
+            target.append(scratch, 0, encodeHex(bytes, from, count, scratch, 0));
+        }
+    }
+
+    /**
+     * Encode range of bytes to hexadecimal format into the target array
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of encoded bytes
+     * @param target array that characters are written to
+     * @param targetOffset index of the first written character
+     * @return number of written characters
+     * @see HexCodec#encode(byte[], int, int, char[], int)
+     */
+    public static int encodeHex(byte[] bytes, int offset, int length, char[] target, int targetOffset){
+        if(!AVAILABLE || length < THRESHOLD){
+            return HexCodec.encode(bytes, offset, length, target, targetOffset);
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        Objects.checkFromIndexSize(targetOffset, HexCodec.encodedLength(length), target.length);
+        int done = VectorHex.encode(bytes, offset, length, target, targetOffset);
+        HexCodec.encode(bytes, offset + done, length - done, target, targetOffset + done * 2);
+        return HexCodec.encodedLength(length);
+    }
+
+    /**
+     * Decode range of characters to a new array of exact length
+     * @param source text that contains hexadecimal format
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @return decoded bytes
+     * @see HexCodec#decode(CharSequence, int, int)
+     */
+    public static byte[] decodeHex(CharSequence source, int start, int end){
+        byte[] bytes = new byte[HexCodec.decodedLength(start, end)];
+        decodeHex(source, start, end, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Decode range of characters into the target array
+     * @param source text that contains hexadecimal format
+     * @param start start index inclusive
+     * @param end end index exclusive
+     * @param target array that bytes are written to
+     * @param targetOffset index of the first written byte
+     * @return number of written bytes
+     * @see HexCodec#decode(CharSequence, int, int, byte[], int)
+     */
+    public static int decodeHex(CharSequence source, int start, int end, byte[] target, int targetOffset){
+        if(!AVAILABLE || end - start < THRESHOLD || !hasChars(source)){
+            return HexCodec.decode(source, start, end, target, targetOffset);
+        }
+        Objects.checkFromToIndex(start, end, source.length());
+        int decoded = HexCodec.decodedLength(start, end);
+        Objects.checkFromIndexSize(targetOffset, decoded, target.length);
+        char[] scratch = SCRATCH.get();
+        int position = start;
+        int written = targetOffset;
+        while(position < end){
+            int count = Math.min(SCRATCH_LENGTH, end - position);
+            getChars(source, position, position + count, scratch);
+            int done = VectorHex.decode(scratch, 0, count, target, written, targetOffset + decoded);
+            HexCodec.decode(source, position + done, position + count, target, written + done / 2);
+            position += count;
+            written += count / 2;
+        }
+        return decoded;
+    }
+
+    private static boolean hasChars(CharSequence source){
+        return source instanceof String || source instanceof StringBuilder;
+    }
+
+    private static void getChars(CharSequence source, int start, int end, char[] target){
+        if(source instanceof String string){
+            string.getChars(start, end, target, 0);
+        }else{
+            ((StringBuilder) source).getChars(start, end, target, 0);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.ysdaeth.jmodularcrypt.vector;
+
+import io.github.ysdaeth.jmodularcrypt.core.converter.ConverterHexBytes;
+
+/**
+ * {@link ConverterHexBytes} which encodes and decodes {@code byte[]} modules to hexadecimal format with
+ * {@link VectorCodecs}. It is intended for large binary modules, such as encrypted data,
+ * and falls back to scalar codec when {@code jdk.incubator.vector} module is not available.
+ */
+public class VectorConverterHexBytes extends ConverterHexBytes {
+
+    public VectorConverterHexBytes(){
+        register(byte[].class, String.class, VectorConverterHexBytes::encode,
+                hex -> VectorCodecs.decodeHex(hex, 0, hex.length()));
+        registerEncoder(byte[].class, (value, target) -> VectorCodecs.encodeHex(value, 0, value.length, target));
+        registerSinkEncoder(byte[].class, (value, target) -> VectorCodecs.encodeHex(value, 0, value.length, target));
+        registerDecoder(byte[].class, VectorCodecs::decodeHex);
+    }
+
+    private static String encode(byte[] bytes){
+        StringBuilder hex = new StringBuilder();
+        VectorCodecs.encodeHex(bytes, 0, bytes.length, hex);
+        return hex.toString();
+    }
+}
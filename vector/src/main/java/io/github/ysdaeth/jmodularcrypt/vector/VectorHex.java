@@ -0,0 +1,82 @@
+package io.github.ysdaeth.jmodularcrypt.vector;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Hexadecimal kernels vectorized with {@code jdk.incubator.vector}. Each int lane holds one byte,
+ * which is split to two nibbles in the low and high half of the lane, and the lanes are reinterpreted
+ * as pairs of characters. Kernels process only whole vectors, and return number of processed bytes,
+ * so remaining bytes are processed with the scalar codec.
+ * Decoded vectors are stored whole, and bytes after the decoded lanes are overwritten by the next vector,
+ * so stores are done only while whole vector fits before the end of output region.
+ * Class must be loaded only when {@code jdk.incubator.vector} module is available.
+ */
+final class VectorHex {
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES =
+            VectorSpecies.of(byte.class, VectorShape.forBitSize(Math.max(64, INTS.vectorBitSize() / 4)));
+
+    private VectorHex(){}
+
+    /**
+     * Encode whole vectors of bytes into the target
+     * @param bytes bytes array
+     * @param offset index of the first byte
+     * @param length number of bytes that may be encoded
+     * @param target array that characters are written to, with space for all bytes
+     * @param targetOffset index of the first written character
+     * @return number of encoded bytes
+     */
+    static int encode(byte[] bytes, int offset, int length, char[] target, int targetOffset){
+        int step = INTS.length();
+        int loaded = BYTES.length();
+        int done = 0;
+        for(; done + loaded <= length; done += step){
+            IntVector value = (IntVector) ByteVector.fromArray(BYTES, bytes, offset + done).castShape(INTS, 0);
+            IntVector nibbles = value.lanewise(VectorOperators.LSHR, 4).and(0xf)
+                    .or(value.and(0xf).lanewise(VectorOperators.LSHL, 16));
+            ShortVector digits = nibbles.reinterpretAsShorts();
+            digits.add((short) '0')
+                    .lanewise(VectorOperators.ADD, (short) ('a' - '0' - 10), digits.compare(VectorOperators.GT, (short) 9))
+                    .intoCharArray(target, targetOffset + done * 2);
+        }
+        return done;
+    }
+
+    /**
+     * Decode whole vectors of characters into the target
+     * @param chars hexadecimal digits
+     * @param offset index of the first digit
+     * @param length number of digits that may be decoded, an even number
+     * @param target array that bytes are written to
+     * @param targetOffset index of the first written byte
+     * @param targetEnd end index exclusive of the output region, that may be overwritten
+     * @return number of decoded characters, which is less than length when non hexadecimal digit is found,
+     * or when vector does not fit in the output region
+     */
+    static int decode(char[] chars, int offset, int length, byte[] target, int targetOffset, int targetEnd){
+        int step = SHORTS.length();
+        int done = 0;
+        for(; done + step <= length && targetOffset + done / 2 + BYTES.length() <= targetEnd; done += step){
+            ShortVector c = ShortVector.fromCharArray(SHORTS, chars, offset + done);
+            VectorMask<Short> digit = c.compare(VectorOperators.GE, (short) '0')
+                    .and(c.compare(VectorOperators.LE, (short) '9'));
+            ShortVector lower = c.or((short) 0x20);
+            VectorMask<Short> letter = lower.compare(VectorOperators.GE, (short) 'a')
+                    .and(lower.compare(VectorOperators.LE, (short) 'f'));
+            if(!digit.or(letter).allTrue()) break;
+            IntVector pairs = c.sub((short) '0').blend(lower.sub((short) ('a' - 10)), letter).reinterpretAsInts();
+            IntVector value = pairs.and(0xffff).lanewise(VectorOperators.LSHL, 4)
+                    .or(pairs.lanewise(VectorOperators.LSHR, 16));
+            ((ByteVector) value.castShape(BYTES, 0)).intoArray(target, targetOffset + done / 2);
+        }
+        return done;
+    }
+}
@@ -0,0 +1,5 @@
+module io.github.ysdaeth.jmodularcrypt.vector {
+    requires io.github.ysdaeth.jmodularcrypt.core;
+    requires static jdk.incubator.vector;
+    exports io.github.ysdaeth.jmodularcrypt.vector;
+}
@@ -0,0 +1,120 @@
+package io.github.ysdaeth.jmodularcrypt.vector;
+
+import io.github.ysdaeth.jmodularcrypt.core.converter.Base64Codec;
+import io.github.ysdaeth.jmodularcrypt.core.converter.HexCodec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+class VectorCodecsTest {
+
+    private static final int[] LENGTHS = {0, 1, 63, 64, 65, 100, 255, 1024, 3071, 3072, 3073, 10000, 65536};
+
+    /**
+     * Tests run with the vector module, and once more without it, when scalar codecs must give the same results.
+     * System property tells which of the runs it is, tests run with the vector module when it is not set.
+     */
+    @Test
+    public void isAvailable_shouldBeTrueOnlyWithVectorModule(){
+        boolean expected = Boolean.parseBoolean(System.getProperty("vector.available", "true"));
+        Assertions.assertEquals(expected, VectorCodecs.isAvailable());
+    }
+
+    @Test
+    public void encodeBase64_shouldMatchScalarCodec(){
+        Random random = new Random(3);
+        for(int length : LENGTHS){
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String expected = Base64Codec.encode(bytes);
+            StringBuilder target = new StringBuilder("$");
+            VectorCodecs.encodeBase64(bytes, 0, length, target);
+
+            Assertions.assertEquals("$" + expected, target.toString(), "length " + length);
+            Assertions.assertArrayEquals(bytes, VectorCodecs.decodeBase64(expected, 0, expected.length()), "length " + length);
+            Assertions.assertArrayEquals(bytes,
+                    VectorCodecs.decodeBase64(new StringBuilder(expected), 0, expected.length()), "length " + length);
+        }
+    }
+
+    @Test
+    public void encodeHex_shouldMatchScalarCodec(){
+        Random random = new Random(3);
+        for(int length : LENGTHS){
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String expected = HexCodec.encode(bytes);
+            StringBuilder target = new StringBuilder("$");
+            VectorCodecs.encodeHex(bytes, 0, length, target);
+
+            Assertions.assertEquals("$" + expected, target.toString(), "length " + length);
+            Assertions.assertArrayEquals(bytes, VectorCodecs.decodeHex(expected.toUpperCase(), 0, expected.length()), "length " + length);
+        }
+    }
+
+    @Test
+    public void decode_shouldWriteRangeIntoCallerBuffer(){
+        byte[] bytes = new byte[300];
+        new Random(5).nextBytes(bytes);
+        String base64 = "$" + Base64Codec.encode(bytes) + "$";
+        String hex = "$" + HexCodec.encode(bytes) + "$";
+        byte[] target = new byte[bytes.length + 2];
+
+        Assertions.assertEquals(300, VectorCodecs.decodeBase64(base64, 1, base64.length() - 1, target, 1));
+        Assertions.assertArrayEquals(bytes, java.util.Arrays.copyOfRange(target, 1, 301));
+        Assertions.assertEquals(0, target[301]);
+        Assertions.assertEquals(300, VectorCodecs.decodeHex(hex, 1, hex.length() - 1, target, 1));
+        Assertions.assertArrayEquals(bytes, java.util.Arrays.copyOfRange(target, 1, 301));
+    }
+
+    @Test
+    public void decode_shouldRejectInvalidCharacters(){
+        String base64 = Base64Codec.encode(new byte[300]);
+        String hex = HexCodec.encode(new byte[300]);
+        for(int index : new int[]{0, 100, 395}){
+            String invalidBase64 = base64.substring(0, index) + "=" + base64.substring(index + 1);
+            String invalidHex = hex.substring(0, index) + "g" + hex.substring(index + 1);
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    ()->VectorCodecs.decodeBase64(invalidBase64, 0, invalidBase64.length()), "index " + index);
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    ()->VectorCodecs.decodeHex(invalidHex, 0, invalidHex.length()), "index " + index);
+        }
+        String paddedInside = base64.substring(0, 96) + "AA==" + base64.substring(100);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->VectorCodecs.decodeBase64(paddedInside, 0, paddedInside.length()));
+    }
+
+    @Test
+    public void converter_shouldUseVectorCodecs(){
+        byte[] bytes = new byte[1000];
+        new Random(9).nextBytes(bytes);
+        VectorBasicConverter base64 = new VectorBasicConverter();
+        VectorConverterHexBytes hex = new VectorConverterHexBytes();
+
+        Assertions.assertEquals(Base64Codec.encode(bytes), base64.convert(bytes, String.class));
+        Assertions.assertEquals(HexCodec.encode(bytes), hex.convert(bytes, String.class));
+        Assertions.assertArrayEquals(bytes, base64.convert(base64.convert(bytes, String.class), byte[].class));
+        Assertions.assertArrayEquals(bytes, hex.convert(hex.convert(bytes, String.class), byte[].class));
+    }
+
+    @Test
+    public void decode_shouldNotWriteAfterTargetRange(){
+        byte[] bytes = new byte[1000];
+        new Random(7).nextBytes(bytes);
+        String base64 = Base64Codec.encode(bytes);
+        String hex = HexCodec.encode(bytes);
+        byte[] untouched = new byte[128];
+        java.util.Arrays.fill(untouched, (byte) 0x5a);
+        byte[] target = new byte[bytes.length + untouched.length];
+
+        java.util.Arrays.fill(target, (byte) 0x5a);
+        VectorCodecs.decodeBase64(base64, 0, base64.length(), target, 0);
+        Assertions.assertArrayEquals(bytes, java.util.Arrays.copyOf(target, bytes.length));
+        Assertions.assertArrayEquals(untouched, java.util.Arrays.copyOfRange(target, bytes.length, target.length));
+        java.util.Arrays.fill(target, (byte) 0x5a);
+        VectorCodecs.decodeHex(hex, 0, hex.length(), target, 0);
+        Assertions.assertArrayEquals(bytes, java.util.Arrays.copyOf(target, bytes.length));
+        Assertions.assertArrayEquals(untouched, java.util.Arrays.copyOfRange(target, bytes.length, target.length));
+    }
+}